@@ -0,0 +1,98 @@
+package com.pms.benchmark;
+
+import com.pms.entity.User;
+import com.pms.repository.UserRepository;
+import com.pms.security.JwtAuthenticationFilter;
+import com.pms.security.JwtTokenProvider;
+import com.pms.security.TokenBlacklist;
+import com.pms.security.VerifiedTokenCache;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 전체 경로 - Authorization 헤더부터 SecurityContext 설정까지
+ * cached=false 는 검증 토큰 캐시에서 토큰을 매번 폐기해 서명 검증 + 블랙리스트 필터 + 사용자 조회(H2)를 모두 탄다.
+ * principalFromToken=true 는 사용자 조회 대신 클레임으로 인증 주체를 만들고 보안 버전만 확인한다.
+ * 파라미터마다 인증 빈만 올린 컨텍스트를 따로 띄우고, Redis 없이 돌도록 블랙리스트는 빈 상태로 동기화해 로컬 필터만 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    @Param({"false", "true"})
+    public boolean principalFromToken;
+
+    private ConfigurableApplicationContext context;
+    private JwtAuthenticationFilter filter;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(BenchmarkConfig.Authentication.class,
+                "spring.datasource.url=jdbc:h2:mem:benchmark-auth;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "jwt.principal-from-token.enabled=" + principalFromToken);
+        filter = context.getBean(JwtAuthenticationFilter.class);
+        verifiedTokenCache = context.getBean(VerifiedTokenCache.class);
+        context.getBean(TokenBlacklist.class).synchronize();
+
+        User owner = new User();
+        owner.setEmail("bench-auth@example.com");
+        owner.setName("Bench User");
+        owner.setNickname("bench");
+        owner.setPassword(context.getBean(PasswordEncoder.class).encode("benchmark123"));
+        owner.setEmailVerified(true);
+        owner.setIsActive(true);
+        owner = context.getBean(UserRepository.class).save(owner);
+
+        token = context.getBean(JwtTokenProvider.class)
+                .createAccessToken(owner.getId(), owner.getEmail(), List.of("ROLE_USER"));
+        authorization = "Bearer " + token;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        if (!cached) {
+            verifiedTokenCache.invalidateToken(token);
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+        request.addHeader("Authorization", authorization);
+        FilterChain chain = new MockFilterChain();
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.pms.benchmark;
+
+import com.pms.config.PasswordEncoderConfig;
+import com.pms.entity.Issue;
+import com.pms.repository.IssueRepository;
+import com.pms.security.JwtAuthenticationFilter;
+import com.pms.security.JwtTokenProvider;
+import com.pms.security.SecurityVersionCache;
+import com.pms.security.TokenBlacklist;
+import com.pms.security.VerifiedTokenCache;
+import com.pms.service.ActivityLogWriter;
+import com.pms.service.AttachmentBlobStore;
+import com.pms.service.AttachmentService;
+import com.pms.service.IssuePositionRebalancer;
+import com.pms.service.IssueSearchService;
+import com.pms.service.IssueService;
+import com.pms.service.NotificationService;
+import com.pms.service.ProjectMembershipCache;
+import com.pms.service.ProjectService;
+import com.pms.service.ProjectStatsService;
+import com.pms.service.SubtaskRollupService;
+import com.pms.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 벤치마크용 최소 스프링 설정 - 웹, 보안 체인, 스케줄러, WebSocket 없이 측정 대상 빈과 그 의존성만 올린다.
+ * Redis 는 연결하지 않는다. 명령은 모두 null 을 돌려주고(호출부는 캐시 미스/실패로 처리), 리스너 컨테이너는 시작하지 않는다.
+ */
+final class BenchmarkConfig {
+
+    private BenchmarkConfig() {
+    }
+
+    /**
+     * JwtTokenProvider 만 - 설정값은 application.yml 또는 실행 시 넘긴 속성을 쓴다
+     */
+    @Configuration(proxyBeanMethods = false)
+    @Import(JwtTokenProvider.class)
+    static class Jwt {
+    }
+
+    /**
+     * H2 + JPA + 오프라인 Redis - 아래 설정들의 공통 기반
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Issue.class)
+    @EnableJpaRepositories(basePackageClasses = IssueRepository.class)
+    @EnableJpaAuditing
+    @Import(PasswordEncoderConfig.class)
+    static class Persistence {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RedisConnectionFactory redisConnectionFactory() {
+            return new LettuceConnectionFactory();
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new OfflineRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new DormantListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+    }
+
+    /**
+     * IssueService / ProjectService 와 그 협력 빈
+     */
+    @Configuration(proxyBeanMethods = false)
+    @Import({
+            Persistence.class,
+            IssueService.class,
+            ProjectService.class,
+            IssueSearchService.class,
+            IssuePositionRebalancer.class,
+            ProjectStatsService.class,
+            ProjectMembershipCache.class,
+            ActivityLogWriter.class,
+            NotificationService.class,
+            AttachmentService.class,
+            AttachmentBlobStore.class,
+            SubtaskRollupService.class
+    })
+    static class Services {
+    }
+
+    /**
+     * JwtAuthenticationFilter 와 그 협력 빈 - 사용자 조회는 H2 를 탄다
+     */
+    @Configuration(proxyBeanMethods = false)
+    @Import({
+            Persistence.class,
+            JwtAuthenticationFilter.class,
+            JwtTokenProvider.class,
+            TokenBlacklist.class,
+            VerifiedTokenCache.class,
+            SecurityVersionCache.class,
+            UserService.class
+    })
+    static class Authentication {
+    }
+
+    /**
+     * 컨텍스트가 떠도 시작하지 않는 리스너 컨테이너 - 리스너 등록만 받고 구독은 하지 않는다
+     */
+    static class DormantListenerContainer extends RedisMessageListenerContainer {
+
+        @Override
+        public boolean isAutoStartup() {
+            return false;
+        }
+    }
+
+    /**
+     * Redis 에 아무것도 보내지 않는 템플릿 - 모든 명령이 이 두 메서드를 거친다
+     */
+    static class OfflineRedisTemplate extends StringRedisTemplate {
+
+        OfflineRedisTemplate(RedisConnectionFactory connectionFactory) {
+            super(connectionFactory);
+        }
+
+        @Override
+        public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+            return null;
+        }
+
+        @Override
+        public <T> T execute(SessionCallback<T> session) {
+            return null;
+        }
+    }
+}
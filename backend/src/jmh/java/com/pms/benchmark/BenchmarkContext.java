@@ -0,0 +1,49 @@
+package com.pms.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 Spring 컨텍스트 (benchmark 프로필, H2 메모리 DB)
+ * 애플리케이션 전체가 아니라 BenchmarkConfig 의 최소 설정만 띄운다.
+ * 서비스 컨텍스트는 JMH 포크마다 한 번만 띄우고, 이슈 수별 데이터셋도 한 번만 만든다.
+ */
+final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+    private static final Map<Integer, BenchmarkDataGenerator.Dataset> datasets = new HashMap<>();
+
+    private BenchmarkContext() {
+    }
+
+    static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = start(BenchmarkConfig.Services.class);
+        }
+        return context;
+    }
+
+    /**
+     * 설정 클래스 하나로 별도 컨텍스트를 띄운다 - 속성은 "key=value" 형식으로 덮어쓴다
+     */
+    static ConfigurableApplicationContext start(Class<?> configuration, String... properties) {
+        return new SpringApplicationBuilder(configuration)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .properties(properties)
+                .logStartupInfo(false)
+                .run();
+    }
+
+    static synchronized BenchmarkDataGenerator.Dataset dataset(int issueCount) {
+        return datasets.computeIfAbsent(issueCount, count -> new BenchmarkDataGenerator(get()).generate(count));
+    }
+
+    static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+}
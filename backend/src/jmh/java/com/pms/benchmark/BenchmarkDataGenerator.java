@@ -0,0 +1,164 @@
+package com.pms.benchmark;
+
+import com.pms.dto.request.BatchCreateIssuesRequest;
+import com.pms.dto.request.BulkUpdateIssuesRequest;
+import com.pms.entity.Issue;
+import com.pms.entity.Label;
+import com.pms.entity.Project;
+import com.pms.entity.User;
+import com.pms.repository.LabelRepository;
+import com.pms.repository.UserRepository;
+import com.pms.service.IssueSearchService;
+import com.pms.service.IssueService;
+import com.pms.service.ProjectService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크 데이터 생성기 - 프로젝트 하나에 issueCount 개의 이슈를 실제 서비스 경로로 만든다.
+ * 고정 시드를 사용하므로 실행마다 같은 데이터가 만들어진다.
+ */
+final class BenchmarkDataGenerator {
+
+    private static final long SEED = 42L;
+    private static final int USER_COUNT = 20;
+    private static final int LABEL_COUNT = 10;
+    private static final int BATCH_SIZE = 5000;
+
+    // 칸반 컬럼 분포 (TODO 30%, IN_PROGRESS 15%, IN_REVIEW 10%, TESTING 5%, DONE 30%, CLOSED 10%)
+    private static final Issue.Status[] STATUS_WEIGHTS = {
+            Issue.Status.TODO, Issue.Status.TODO, Issue.Status.TODO, Issue.Status.TODO, Issue.Status.TODO, Issue.Status.TODO,
+            Issue.Status.IN_PROGRESS, Issue.Status.IN_PROGRESS, Issue.Status.IN_PROGRESS,
+            Issue.Status.IN_REVIEW, Issue.Status.IN_REVIEW,
+            Issue.Status.TESTING,
+            Issue.Status.DONE, Issue.Status.DONE, Issue.Status.DONE, Issue.Status.DONE, Issue.Status.DONE, Issue.Status.DONE,
+            Issue.Status.CLOSED, Issue.Status.CLOSED
+    };
+
+    static final String[] WORDS = {
+            "로그인", "결제", "대시보드", "알림", "검색", "권한", "프로필", "업로드", "댓글", "칸반",
+            "login", "payment", "dashboard", "notification", "search", "export", "report", "sync", "cache", "timeout"
+    };
+
+    private static final String[] DETAILS = {
+            "오류 수정", "개선", "추가", "성능 저하", "화면 깨짐", "bug", "refactor", "crash", "slow query", "regression"
+    };
+
+    /**
+     * 생성된 데이터 - 벤치마크가 참조할 ID 들
+     */
+    record Dataset(Long projectId, User owner, Map<Issue.Status, List<Long>> columns) {
+    }
+
+    private final ApplicationContext context;
+    private final Random random = new Random(SEED);
+
+    BenchmarkDataGenerator(ApplicationContext context) {
+        this.context = context;
+    }
+
+    Dataset generate(int issueCount) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        LabelRepository labelRepository = context.getBean(LabelRepository.class);
+        ProjectService projectService = context.getBean(ProjectService.class);
+        IssueService issueService = context.getBean(IssueService.class);
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+
+        String password = passwordEncoder.encode("benchmark123");
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setEmail("bench" + issueCount + "-" + i + "@example.com");
+            user.setName("Bench User " + i);
+            user.setNickname("bench" + i);
+            user.setPassword(password);
+            user.setEmailVerified(true);
+            user.setIsActive(true);
+            users.add(userRepository.save(user));
+        }
+        User owner = users.get(0);
+
+        Project project = projectService.createProject("Benchmark " + issueCount, "BM" + issueCount,
+                "Benchmark project with " + issueCount + " issues", owner.getId(), null, null, false);
+
+        List<Long> labelIds = new ArrayList<>();
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            Label label = new Label();
+            label.setName("label-" + i);
+            label.setColor(String.format("#%06X", random.nextInt(0xFFFFFF)));
+            label.setProject(project);
+            labelIds.add(labelRepository.save(label).getId());
+        }
+
+        // 생성 - 모두 TODO 컬럼에 들어간다
+        List<Long> issueIds = new ArrayList<>(issueCount);
+        for (int from = 0; from < issueCount; from += BATCH_SIZE) {
+            List<BatchCreateIssuesRequest.Item> items = new ArrayList<>();
+            for (int i = from; i < Math.min(from + BATCH_SIZE, issueCount); i++) {
+                items.add(randomItem(i, users, labelIds));
+            }
+            issueIds.addAll(issueService.createIssues(project.getId(), owner.getId(), items));
+        }
+
+        // 상태 분포 - 컬럼별로 일괄 수정해서 옮긴다
+        Map<Issue.Status, List<Long>> columns = new EnumMap<>(Issue.Status.class);
+        for (Issue.Status status : Issue.Status.values()) {
+            columns.put(status, new ArrayList<>());
+        }
+        for (Long issueId : issueIds) {
+            columns.get(STATUS_WEIGHTS[random.nextInt(STATUS_WEIGHTS.length)]).add(issueId);
+        }
+        for (Map.Entry<Issue.Status, List<Long>> column : columns.entrySet()) {
+            if (column.getKey() == Issue.Status.TODO) {
+                continue;
+            }
+            List<Long> ids = column.getValue();
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                BulkUpdateIssuesRequest request = new BulkUpdateIssuesRequest();
+                request.setProjectId(project.getId());
+                request.setIssueIds(new ArrayList<>(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))));
+                request.setStatus(column.getKey());
+                issueService.updateIssues(project.getId(), request);
+            }
+        }
+
+        // 기동 시 색인은 빈 DB 기준이므로 만든 데이터로 색인을 다시 만든다
+        try {
+            context.getBean(IssueSearchService.class).rebuild();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return new Dataset(project.getId(), owner, columns);
+    }
+
+    private BatchCreateIssuesRequest.Item randomItem(int index, List<User> users, List<Long> labelIds) {
+        String title = WORDS[random.nextInt(WORDS.length)] + " " + DETAILS[random.nextInt(DETAILS.length)] + " #" + index;
+        String description = WORDS[random.nextInt(WORDS.length)] + " 관련 " + DETAILS[random.nextInt(DETAILS.length)]
+                + " - " + WORDS[random.nextInt(WORDS.length)] + " 화면에서 재현됨";
+
+        Long assigneeId = random.nextInt(5) == 0 ? null : users.get(random.nextInt(users.size())).getId();
+        LocalDateTime dueDate = random.nextBoolean() ? LocalDateTime.now().plusDays(random.nextInt(60)) : null;
+        BigDecimal storyPoints = BigDecimal.valueOf(1 + random.nextInt(8));
+        Set<Long> labels = switch (random.nextInt(3)) {
+            case 0 -> Set.of();
+            case 1 -> Set.of(labelIds.get(random.nextInt(labelIds.size())));
+            default -> Set.of(labelIds.get(0), labelIds.get(1 + random.nextInt(labelIds.size() - 1)));
+        };
+
+        Issue.Type type = Issue.Type.values()[random.nextInt(Issue.Type.SUBTASK.ordinal())];
+        Issue.Priority priority = Issue.Priority.values()[random.nextInt(Issue.Priority.values().length)];
+        return new BatchCreateIssuesRequest.Item(title, description, type, priority, assigneeId, dueDate, storyPoints, labels);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.pms.benchmark;
+
+import com.pms.dto.response.IssueCardResponse;
+import com.pms.entity.Issue;
+import com.pms.service.IssueService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueService 핫패스 - H2 에 10k/100k 이슈 프로젝트를 만들어 두고 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IssueServiceBenchmark {
+
+    // 칸반 한 컬럼에서 한 번에 재정렬하는 카드 수
+    private static final int REORDER_SIZE = 200;
+
+    @Param({"10000", "100000"})
+    public int issueCount;
+
+    private IssueService issueService;
+    private Long projectId;
+    private List<Long> reorderIds;
+    private String searchText;
+    private int invocation;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDataGenerator.Dataset dataset = BenchmarkContext.dataset(issueCount);
+        issueService = BenchmarkContext.bean(IssueService.class);
+        projectId = dataset.projectId();
+
+        List<Long> column = dataset.columns().get(Issue.Status.IN_REVIEW);
+        reorderIds = new ArrayList<>(column.subList(0, Math.min(REORDER_SIZE, column.size())));
+        searchText = BenchmarkDataGenerator.WORDS[0];
+    }
+
+    @Benchmark
+    public List<Long> reorderIssues() {
+        // 매번 순서를 뒤집어 실제로 모든 행의 position 이 바뀌게 한다
+        Collections.reverse(reorderIds);
+        issueService.reorderIssues(projectId, Issue.Status.IN_REVIEW, reorderIds);
+        return reorderIds;
+    }
+
+    @Benchmark
+    public List<Issue> getKanbanIssues() {
+        return issueService.getKanbanIssues(projectId);
+    }
+
+    @Benchmark
+    public List<IssueCardResponse> getKanbanCards() {
+        return issueService.getKanbanCards(projectId);
+    }
+
+    @Benchmark
+    public Page<IssueCardResponse> searchIssues() {
+        // 페이지를 돌려가며 조회해 첫 페이지만 캐시되는 효과를 피한다
+        int page = invocation++ % 5;
+        return issueService.findIssueCardsByProject(projectId, null, searchText, PageRequest.of(page, 20));
+    }
+}
\ No newline at end of file
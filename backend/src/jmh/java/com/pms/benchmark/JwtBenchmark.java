@@ -0,0 +1,63 @@
+package com.pms.benchmark;
+
+import com.pms.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급/검증 - JwtTokenProvider 하나만 올린 컨텍스트에 설정값을 넘겨 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final List<String> ROLES = List.of("ROLE_USER");
+
+    private ConfigurableApplicationContext context;
+    private JwtTokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(BenchmarkConfig.Jwt.class,
+                "jwt.secret=benchmark-secret-key-for-jmh-only-256-bits-long!!",
+                "jwt.refresh-secret=benchmark-refresh-secret-key-for-jmh-only-256-bits",
+                "jwt.access-token-validity=900",
+                "jwt.refresh-token-validity=604800");
+        tokenProvider = context.getBean(JwtTokenProvider.class);
+
+        accessToken = tokenProvider.createAccessToken(1L, "bench@example.com", ROLES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return tokenProvider.createAccessToken(1L, "bench@example.com", ROLES);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims parseAccessToken() {
+        return tokenProvider.parseAccessToken(accessToken);
+    }
+}
\ No newline at end of file
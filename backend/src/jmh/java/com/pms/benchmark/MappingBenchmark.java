@@ -0,0 +1,168 @@
+package com.pms.benchmark;
+
+import com.pms.dto.response.IssueResponse;
+import com.pms.dto.response.ProjectResponse;
+import com.pms.entity.Attachment;
+import com.pms.entity.Comment;
+import com.pms.entity.Issue;
+import com.pms.entity.Label;
+import com.pms.entity.Project;
+import com.pms.entity.ProjectMember;
+import com.pms.entity.ProjectStats;
+import com.pms.entity.Role;
+import com.pms.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 매핑 - DB 없이 메모리 픽스처로 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    private static final int MEMBER_COUNT = 8;
+    private static final int SUBTASK_COUNT = 5;
+    private static final int LABEL_COUNT = 3;
+    private static final int COMMENT_COUNT = 10;
+    private static final int ATTACHMENT_COUNT = 2;
+    private static final int PAGE_SIZE = 20;
+
+    private Issue issue;
+    private List<Project> projects;
+    private ProjectStats stats;
+
+    @Setup
+    public void setUp() {
+        Role role = new Role();
+        role.setName("USER");
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setEmail("user" + i + "@example.com");
+            user.setName("User " + i);
+            user.setNickname("user" + i);
+            user.setEmailVerified(true);
+            user.setIsActive(true);
+            user.getRoles().add(role);
+            users.add(user);
+        }
+
+        projects = new ArrayList<>();
+        for (int p = 0; p < PAGE_SIZE; p++) {
+            projects.add(project((long) p + 1, users));
+        }
+        Project project = projects.get(0);
+
+        issue = issue(1L, project, users);
+        for (int i = 0; i < SUBTASK_COUNT; i++) {
+            Issue subtask = issue(100L + i, project, users);
+            subtask.setType(Issue.Type.SUBTASK);
+            subtask.setStatus(i % 2 == 0 ? Issue.Status.DONE : Issue.Status.IN_PROGRESS);
+            issue.addSubIssue(subtask);
+        }
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            Label label = new Label();
+            label.setId((long) i + 1);
+            label.setName("label-" + i);
+            label.setColor("#00AA00");
+            label.setProject(project);
+            issue.getLabels().add(label);
+        }
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment comment = new Comment();
+            comment.setId((long) i + 1);
+            comment.setContent("댓글 내용 " + i);
+            comment.setAuthor(users.get(i % users.size()));
+            comment.setIsDeleted(i == COMMENT_COUNT - 1);
+            issue.addComment(comment);
+        }
+        for (int i = 0; i < ATTACHMENT_COUNT; i++) {
+            Attachment attachment = new Attachment();
+            attachment.setId((long) i + 1);
+            attachment.setOriginalName("screenshot-" + i + ".png");
+            attachment.setStoredName("stored-" + i + ".png");
+            attachment.setContentType("image/png");
+            attachment.setFileSize(123_456L);
+            attachment.setUploadedBy(users.get(0));
+            issue.addAttachment(attachment);
+        }
+
+        stats = new ProjectStats(project.getId(), MEMBER_COUNT);
+        stats.setTodoCount(300);
+        stats.setInProgressCount(150);
+        stats.setDoneCount(400);
+    }
+
+    @Benchmark
+    public IssueResponse issueResponseFrom() {
+        return IssueResponse.from(issue);
+    }
+
+    @Benchmark
+    public ProjectResponse projectResponseFrom() {
+        return ProjectResponse.from(projects.get(0), stats, List.of());
+    }
+
+    // GET /projects 한 페이지 분량
+    @Benchmark
+    public List<ProjectResponse> projectResponsePage() {
+        List<ProjectResponse> responses = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            responses.add(ProjectResponse.from(project, stats, List.of()));
+        }
+        return responses;
+    }
+
+    private static Project project(Long id, List<User> users) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        project.setKey("P" + id);
+        project.setDescription("Benchmark project " + id);
+        project.setOwner(users.get(0));
+        project.setStartDate(LocalDate.now());
+        project.setIsPublic(false);
+        project.setStatus(Project.Status.ACTIVE);
+        for (int i = 0; i < users.size(); i++) {
+            ProjectMember member = new ProjectMember();
+            member.setId(id * 100 + i);
+            member.setUser(users.get(i));
+            member.setRole(i == 0 ? ProjectMember.Role.OWNER : ProjectMember.Role.DEVELOPER);
+            member.setJoinedAt(LocalDateTime.now());
+            project.addMember(member);
+        }
+        return project;
+    }
+
+    private static Issue issue(Long id, Project project, List<User> users) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle("로그인 버그 수정 " + id);
+        issue.setDescription("비밀번호 입력 시 오류가 발생한다");
+        issue.setType(Issue.Type.BUG);
+        issue.setPriority(Issue.Priority.HIGH);
+        issue.setStatus(Issue.Status.IN_PROGRESS);
+        issue.setProject(project);
+        issue.setReporter(users.get(0));
+        issue.setAssignee(users.get(1));
+        issue.setStoryPoints(new BigDecimal("3"));
+        issue.setDueDate(LocalDateTime.now().plusDays(7));
+        return issue;
+    }
+}
\ No newline at end of file
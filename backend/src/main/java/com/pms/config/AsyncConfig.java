@@ -0,0 +1,142 @@
+package com.pms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * @Async 실행기 설정
+ * 작업 종류별로 이름 붙은 풀을 두고 (@Async(AsyncConfig.INDEXING_EXECUTOR) 처럼 지정), 지정하지 않은 작업은 taskExecutor 를 쓴다.
+ * 모든 풀은 대기열 크기가 정해져 있고, 가득 차면 풀별 정책(caller-runs / abort / discard-oldest)으로 처리한다.
+ * 풀 지표(executor.*)는 actuator 가 빈 이름으로 등록하고, 실행 시간/거절 수는 async.task.* 로 기록한다.
+ * async.virtual-threads=true 이면 가상 스레드 실행기로 바꾸고 max-size 를 동시 실행 한도로 쓴다 (JDK 21 이상).
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    public static final String DEFAULT_EXECUTOR = "taskExecutor";
+    public static final String INDEXING_EXECUTOR = "indexingExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String THUMBNAIL_EXECUTOR = "thumbnailExecutor";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${async.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = DEFAULT_EXECUTOR)
+    public AsyncTaskExecutor taskExecutor() {
+        return createExecutor(DEFAULT_EXECUTOR, 4, 8, 200, "caller-runs");
+    }
+
+    @Bean(name = INDEXING_EXECUTOR)
+    public AsyncTaskExecutor indexingExecutor() {
+        return createExecutor(INDEXING_EXECUTOR, 1, 2, 1000, "caller-runs");
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public AsyncTaskExecutor notificationExecutor() {
+        return createExecutor(NOTIFICATION_EXECUTOR, 2, 8, 2000, "caller-runs");
+    }
+
+    // 썸네일은 빠진 것을 조회 시 다시 만들므로, 밀리면 오래된 작업을 버려 요청 스레드가 이미지 처리를 떠맡지 않게 한다
+    @Bean(name = THUMBNAIL_EXECUTOR)
+    public AsyncTaskExecutor thumbnailExecutor() {
+        return createExecutor(THUMBNAIL_EXECUTOR, 1, 2, 100, "discard-oldest");
+    }
+
+    // @Scheduled 작업용 - WebSocket 브로커 스케줄러(messageBrokerTaskScheduler)와 섞이지 않도록 이름으로 지정한다
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                logger.error("Unexpected error in async method {}.{}", method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    private AsyncTaskExecutor createExecutor(String name, int defaultCoreSize, int defaultMaxSize,
+                                             int defaultQueueCapacity, String defaultRejection) {
+        String prefix = "async.pools." + name + ".";
+        int coreSize = environment.getProperty(prefix + "core-size", Integer.class, defaultCoreSize);
+        int maxSize = Math.max(coreSize, environment.getProperty(prefix + "max-size", Integer.class, defaultMaxSize));
+        int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, defaultQueueCapacity);
+        String rejection = environment.getProperty(prefix + "rejection", defaultRejection);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Timer taskTimer = Timer.builder("async.task.duration").tag("pool", name).register(registry);
+        InstrumentedTaskDecorator taskDecorator = new InstrumentedTaskDecorator(taskTimer);
+
+        if (virtualThreads) {
+            // 대기열 대신 동시 실행 수를 제한한다 - 한도에 닿으면 제출한 스레드가 기다린다
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxSize);
+            executor.setTaskDecorator(taskDecorator);
+            return executor;
+        }
+
+        Counter rejectedCounter = Counter.builder("async.task.rejected").tag("pool", name).register(registry);
+        RejectedExecutionHandler policy = rejectionPolicy(rejection);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(taskDecorator);
+        executor.setRejectedExecutionHandler((runnable, pool) -> {
+            rejectedCounter.increment();
+            policy.rejectedExecution(runnable, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectionPolicy(String rejection) {
+        return switch (rejection) {
+            case "caller-runs" -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case "abort" -> new ThreadPoolExecutor.AbortPolicy();
+            case "discard-oldest" -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            default -> throw new IllegalArgumentException("Unknown async rejection policy: " + rejection);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.pms.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * issue.comment_count 채우기 (한 번만 실행)
+ * 컬럼이 추가되기 전에 달린 댓글이 있는 이슈는 0 으로 시작하므로, 0 인데 댓글이 있는 이슈만 다시 센다.
+ * 끝나면 data_migration 에 표시를 남기고, 이후 기동에서는 표시만 확인하고 넘어간다.
+ * 표시는 UPDATE 와 같은 트랜잭션에서 먼저 넣으므로 여러 노드가 동시에 떠도 한 노드만 채운다.
+ * data_migration 테이블은 만들지 않는다 - 스키마(DataMigration 엔티티, 운영은 DATABASE_SCHEMA.md 의 업그레이드 DDL)로 준비한다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class CommentCountInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCountInitializer.class);
+
+    static final String MIGRATION_NAME = "issue.comment_count.backfill";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    void backfillCommentCounts() {
+        try {
+            Integer applied = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM data_migration WHERE name = ?", Integer.class, MIGRATION_NAME);
+            if (applied != null && applied > 0) {
+                return;
+            }
+
+            Integer updated = new TransactionTemplate(transactionManager).execute(tx -> {
+                jdbcTemplate.update("INSERT INTO data_migration (name, applied_at) VALUES (?, ?)",
+                        MIGRATION_NAME, Timestamp.valueOf(LocalDateTime.now()));
+                return jdbcTemplate.update(
+                        "UPDATE issue SET comment_count = " +
+                        "(SELECT COUNT(*) FROM comment c WHERE c.issue_id = issue.id AND c.is_deleted = false) " +
+                        "WHERE comment_count = 0 " +
+                        "AND EXISTS (SELECT 1 FROM comment c WHERE c.issue_id = issue.id AND c.is_deleted = false)");
+            });
+            logger.info("Backfilled comment_count for {} issues", updated);
+        } catch (DuplicateKeyException ex) {
+            // 다른 노드가 먼저 채웠다
+            logger.debug("Comment count backfill already applied by another node");
+        } catch (Exception ex) {
+            logger.error("Failed to backfill issue comment counts", ex);
+        }
+    }
+}
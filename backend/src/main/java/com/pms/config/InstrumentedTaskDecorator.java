@@ -0,0 +1,55 @@
+package com.pms.config;
+
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * 비동기 작업에 호출 스레드의 MDC 와 인증 정보를 넘기고, 풀별 실행 시간을 기록한다
+ * SecurityContext 는 공유하지 않고 작업마다 새로 만들어 인증만 복사한다 - 호출 스레드가 이후 컨텍스트를 바꾸거나
+ * 비워도(요청 종료) 작업에 영향이 없고, 작업이 바꾼 인증도 호출 스레드로 새지 않는다.
+ */
+class InstrumentedTaskDecorator implements TaskDecorator {
+
+    private final Timer taskTimer;
+
+    InstrumentedTaskDecorator(Timer taskTimer) {
+        this.taskTimer = taskTimer;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            try {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                } else {
+                    MDC.clear();
+                }
+                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+                securityContext.setAuthentication(authentication);
+                SecurityContextHolder.setContext(securityContext);
+
+                taskTimer.record(runnable);
+            } finally {
+                // CallerRunsPolicy 로 호출 스레드에서 실행된 경우에도 원래 컨텍스트를 되돌린다
+                if (previousMdc != null) {
+                    MDC.setContextMap(previousMdc);
+                } else {
+                    MDC.clear();
+                }
+                SecurityContextHolder.setContext(previousSecurityContext);
+            }
+        };
+    }
+}
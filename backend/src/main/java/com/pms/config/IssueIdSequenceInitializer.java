@@ -0,0 +1,47 @@
+package com.pms.config;
+
+import com.pms.entity.Issue;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * issue_seq 시퀀스 테이블 보정
+ * IDENTITY 로 쌓인 기존 이슈가 있으면 다음 할당 구간이 MAX(id) 이후가 되도록 next_val 을 끌어올린다.
+ * 시퀀스 테이블이 없는 DB(H2 등 네이티브 시퀀스)에서는 아무것도 하지 않는다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IssueIdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueIdSequenceInitializer.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignWithExistingIssues() {
+        try {
+            Integer tables = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.tables " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'issue_seq'", Integer.class);
+            if (tables == null || tables == 0) {
+                return;
+            }
+
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM issue", Long.class);
+            // pooled 옵티마이저는 읽은 값 v 로 (v - allocationSize, v] 구간을 할당한다
+            long floor = maxId + Issue.ID_ALLOCATION_SIZE;
+            int updated = jdbcTemplate.update("UPDATE issue_seq SET next_val = ? WHERE next_val < ?", floor, floor);
+            if (updated > 0) {
+                logger.info("Aligned issue_seq with existing issues: next_val={}", floor);
+            }
+        } catch (Exception ex) {
+            logger.error("Failed to align issue_seq with existing issues", ex);
+        }
+    }
+}
\ No newline at end of file
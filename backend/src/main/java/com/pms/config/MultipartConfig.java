@@ -0,0 +1,24 @@
+package com.pms.config;
+
+import com.pms.service.AttachmentBlobStore;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멀티파트 설정
+ * 따로 지정하지 않으면 파트를 첨부파일 임시 디렉터리에 받는다. 같은 파일시스템이라 업로드가
+ * 파트 파일을 복사하지 않고 이름만 바꿔 옮긴다 (AttachmentService.uploadAttachment).
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties properties, AttachmentBlobStore blobStore) {
+        if (properties.getLocation() == null) {
+            properties.setLocation(blobStore.tempDir().toString());
+        }
+        return properties.createMultipartConfig();
+    }
+}
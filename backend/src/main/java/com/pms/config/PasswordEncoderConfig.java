@@ -1,19 +1,59 @@
 package com.pms.config;
 
+import com.pms.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Password Encoder Configuration
  * SecurityConfig에서 분리하여 순환 참조 문제 해결
+ * 해싱은 전용 스레드 풀에서 실행하고, 알고리즘/강도가 바뀌면 로그인 시 재해싱된다
  */
 @Configuration
 public class PasswordEncoderConfig {
-    
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+
+    @Value("${password.encoding-id:bcrypt}")
+    private String encodingId;
+
+    @Value("${password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // 0 이면 CPU 코어 수의 절반
+    @Value("${password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${password.hashing.wait-timeout:1s}")
+    private Duration waitTimeout;
+
+    @Value("${password.hashing.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        // 접두사 없는 기존 BCrypt 해시도 검증하고, 다음 로그인 때 {id} 형식으로 재해싱한다
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, waitTimeout, retryAfterSeconds, meterRegistry);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package com.pms.controller;
+
+import com.pms.dto.response.ApiResponse;
+import com.pms.dto.response.AttachmentResponse;
+import com.pms.dto.response.UploadSessionResponse;
+import com.pms.entity.Attachment;
+import com.pms.entity.User;
+import com.pms.service.AttachmentService;
+import com.pms.service.ChunkedUploadService;
+import com.pms.service.FileDownloadWriter;
+import com.pms.service.ProjectService;
+import com.pms.service.ThumbnailService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/attachments")
+@Tag(name = "Attachment", description = "Attachment APIs")
+public class AttachmentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentController.class);
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private FileDownloadWriter fileDownloadWriter;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @GetMapping("/{attachmentId}/download")
+    @Operation(summary = "Download attachment", description = "Download an attachment (supports Range and If-None-Match)")
+    public ResponseEntity<ApiResponse<Void>> downloadAttachment(
+            @PathVariable Long attachmentId,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        try {
+            AttachmentService.AttachmentFile file = attachmentService.getDownloadableFile(attachmentId, currentUser.getId());
+            fileDownloadWriter.write(request, response, file.path(), file.contentType(), file.originalName());
+            return null;
+
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                // 전송 중 끊긴 경우 (클라이언트 취소 등) - 이어받기는 Range 로 한다
+                logger.warn("Attachment download interrupted: {} ({})", attachmentId, e.getMessage());
+                return null;
+            }
+            logger.error("Failed to download attachment: {}", attachmentId, e);
+            response.reset();
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ATTACHMENT_DOWNLOAD_FAILED", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{attachmentId}/thumbnail")
+    @Operation(summary = "Get attachment thumbnail", description = "Get a JPEG thumbnail of an image attachment (size: longest side in pixels)")
+    public ResponseEntity<ApiResponse<Void>> getThumbnail(
+            @PathVariable Long attachmentId,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        try {
+            AttachmentService.AttachmentFile file = attachmentService.getDownloadableFile(attachmentId, currentUser.getId());
+            if (file.contentHash() == null || !ThumbnailService.isThumbnailable(file.contentType())) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("THUMBNAIL_NOT_AVAILABLE", "Attachment is not an image"));
+            }
+            // 만들 수 없다고 판정된 원본 - 다시 큐에 넣지 않고 클라이언트도 재시도하지 않는다
+            if (file.thumbnailStatus() == Attachment.ThumbnailStatus.UNSUPPORTED) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("THUMBNAIL_NOT_AVAILABLE", "Image format is not supported"));
+            }
+            if (file.thumbnailStatus() == Attachment.ThumbnailStatus.FAILED) {
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                        .body(ApiResponse.error("THUMBNAIL_FAILED", "Thumbnail could not be generated"));
+            }
+
+            Path thumbnail = thumbnailService.thumbnailPath(file.contentHash(), thumbnailService.resolveSize(size));
+            if (!Files.exists(thumbnail)) {
+                // 아직 만들어지지 않았다 - 백그라운드에서 만들고 클라이언트는 원본이나 아이콘을 보여준 뒤 다시 요청한다
+                thumbnailService.generateInBackground(file.contentHash());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("THUMBNAIL_NOT_READY", "Thumbnail is being generated"));
+            }
+
+            fileDownloadWriter.write(request, response, thumbnail, MediaType.IMAGE_JPEG_VALUE,
+                    "thumbnail-" + attachmentId + ".jpg", true);
+            return null;
+
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                logger.warn("Thumbnail download interrupted: {} ({})", attachmentId, e.getMessage());
+                return null;
+            }
+            logger.error("Failed to get thumbnail of attachment: {}", attachmentId, e);
+            response.reset();
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("GET_THUMBNAIL_FAILED", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{attachmentId}")
+    @Operation(summary = "Delete attachment", description = "Delete an attachment")
+    public ResponseEntity<ApiResponse<Void>> deleteAttachment(
+            @PathVariable Long attachmentId,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            Attachment attachment = attachmentService.findById(attachmentId)
+                    .orElseThrow(() -> new RuntimeException("Attachment not found"));
+
+            // Check if user has access to the project
+            var userRole = projectService.getUserRoleInProject(currentUser.getId(), attachment.getIssue().getProject().getId());
+            if (userRole == null) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this attachment"));
+            }
+
+            // Only uploader or project admin/owner can delete
+            if (!attachment.getUploadedBy().getId().equals(currentUser.getId())) {
+                if (!userRole.name().equals("ADMIN") && !userRole.name().equals("OWNER")) {
+                    return ResponseEntity.status(403)
+                            .body(ApiResponse.error("ACCESS_DENIED", "Only uploader or project admin can delete attachments"));
+                }
+            }
+
+            attachmentService.deleteAttachment(attachmentId);
+
+            return ResponseEntity.ok(ApiResponse.success(null, "Attachment deleted successfully"));
+
+        } catch (Exception e) {
+            logger.error("Failed to delete attachment: {}", attachmentId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("DELETE_ATTACHMENT_FAILED", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/uploads/{uploadId}")
+    @Operation(summary = "Get upload status", description = "Get received and missing chunks of a chunked upload")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getUploadSession(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            UploadSessionResponse response = chunkedUploadService.getSession(uploadId, currentUser.getId());
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (Exception e) {
+            logger.error("Failed to get upload session: {}", uploadId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("GET_UPLOAD_SESSION_FAILED", e.getMessage()));
+        }
+    }
+
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload chunk", description = "Upload one chunk of a chunked upload at the given offset")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) {
+
+        try {
+            UploadSessionResponse response = chunkedUploadService.uploadChunk(
+                    uploadId, currentUser.getId(), offset, request.getInputStream());
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (Exception e) {
+            logger.error("Failed to upload chunk at {} for upload session: {}", offset, uploadId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("UPLOAD_CHUNK_FAILED", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/uploads/{uploadId}/complete")
+    @Operation(summary = "Complete chunked upload", description = "Assemble the uploaded chunks into an attachment")
+    public ResponseEntity<ApiResponse<AttachmentResponse>> completeUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            Attachment attachment = chunkedUploadService.complete(uploadId, currentUser.getId());
+
+            AttachmentResponse response = AttachmentResponse.from(attachment);
+            return ResponseEntity.ok(ApiResponse.success(response, "Attachment uploaded successfully"));
+
+        } catch (Exception e) {
+            logger.error("Failed to complete upload session: {}", uploadId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("COMPLETE_UPLOAD_FAILED", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    @Operation(summary = "Abort chunked upload", description = "Cancel a chunked upload and discard received chunks")
+    public ResponseEntity<ApiResponse<Void>> abortUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            chunkedUploadService.abort(uploadId, currentUser.getId());
+            return ResponseEntity.ok(ApiResponse.success(null, "Upload aborted"));
+
+        } catch (Exception e) {
+            logger.error("Failed to abort upload session: {}", uploadId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ABORT_UPLOAD_FAILED", e.getMessage()));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.pms.dto.request.RefreshTokenRequest;
 import com.pms.dto.request.ForgotPasswordRequest;
 import com.pms.dto.request.ResetPasswordRequest;
 import com.pms.dto.response.ApiResponse;
+import com.pms.security.PasswordHashingBusyException;
 import com.pms.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +15,8 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -40,6 +43,8 @@ public class AuthController {
             
             return ResponseEntity.ok(ApiResponse.success(authResponse));
             
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             logger.error("Login failed for email: {}", loginRequest.getEmail(), e);
             return ResponseEntity.badRequest()
@@ -60,6 +65,8 @@ public class AuthController {
             
             return ResponseEntity.ok(ApiResponse.success(registerResponse));
             
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             logger.error("Registration failed for email: {}", registerRequest.getEmail(), e);
             return ResponseEntity.badRequest()
@@ -132,6 +139,8 @@ public class AuthController {
                         .body(ApiResponse.error("INVALID_TOKEN", "Invalid or expired reset token"));
             }
             
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             logger.error("Password reset failed", e);
             return ResponseEntity.badRequest()
@@ -159,6 +168,13 @@ public class AuthController {
         }
     }
     
+    private <T> ResponseEntity<ApiResponse<T>> busy(PasswordHashingBusyException e) {
+        logger.warn("Password hashing pool saturated, rejecting request");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error("AUTH_BUSY", e.getMessage()));
+    }
+    
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,97 @@
+package com.pms.controller;
+
+import com.pms.dto.request.CommentRequest;
+import com.pms.dto.response.ApiResponse;
+import com.pms.dto.response.CommentResponse;
+import com.pms.entity.Comment;
+import com.pms.entity.User;
+import com.pms.service.CommentService;
+import com.pms.service.ProjectService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/comments")
+@Tag(name = "Comment", description = "Comment APIs")
+public class CommentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentController.class);
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @PutMapping("/{commentId}")
+    @Operation(summary = "Update comment", description = "Edit a comment (author only)")
+    public ResponseEntity<ApiResponse<CommentResponse>> updateComment(
+            @PathVariable Long commentId,
+            @Valid @RequestBody CommentRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            Comment comment = commentService.findById(commentId)
+                    .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+            // Only author can edit
+            if (!comment.getAuthor().getId().equals(currentUser.getId())) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "Only author can edit comments"));
+            }
+
+            Comment updatedComment = commentService.updateComment(commentId, request.getContent());
+
+            CommentResponse response = CommentResponse.from(updatedComment);
+            return ResponseEntity.ok(ApiResponse.success(response, "Comment updated successfully"));
+
+        } catch (Exception e) {
+            logger.error("Failed to update comment: {}", commentId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("UPDATE_COMMENT_FAILED", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{commentId}")
+    @Operation(summary = "Delete comment", description = "Delete a comment")
+    public ResponseEntity<ApiResponse<Void>> deleteComment(
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            Comment comment = commentService.findById(commentId)
+                    .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+            // Check if user has access to the project
+            var userRole = projectService.getUserRoleInProject(currentUser.getId(), comment.getIssue().getProject().getId());
+            if (userRole == null) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this comment"));
+            }
+
+            // Only author or project admin/owner can delete
+            if (!comment.getAuthor().getId().equals(currentUser.getId())) {
+                if (!userRole.name().equals("ADMIN") && !userRole.name().equals("OWNER")) {
+                    return ResponseEntity.status(403)
+                            .body(ApiResponse.error("ACCESS_DENIED", "Only author or project admin can delete comments"));
+                }
+            }
+
+            commentService.deleteComment(commentId);
+
+            return ResponseEntity.ok(ApiResponse.success(null, "Comment deleted successfully"));
+
+        } catch (Exception e) {
+            logger.error("Failed to delete comment: {}", commentId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("DELETE_COMMENT_FAILED", e.getMessage()));
+        }
+    }
+}
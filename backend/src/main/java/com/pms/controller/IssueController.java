@@ -4,10 +4,26 @@ import com.pms.dto.request.CreateIssueRequest;
 import com.pms.dto.request.UpdateIssueRequest;
 import com.pms.dto.request.ReorderIssuesRequest;
 import com.pms.dto.request.CreateSubtaskRequest;
+import com.pms.dto.request.IssueFilterRequest;
+import com.pms.dto.request.BatchCreateIssuesRequest;
+import com.pms.dto.request.BulkUpdateIssuesRequest;
+import com.pms.dto.request.CreateUploadSessionRequest;
+import com.pms.dto.request.CommentRequest;
 import com.pms.dto.response.ApiResponse;
+import com.pms.dto.response.AttachmentResponse;
+import com.pms.dto.response.CommentResponse;
+import com.pms.dto.response.CursorPageResponse;
+import com.pms.dto.response.IssueCardResponse;
 import com.pms.dto.response.IssueResponse;
+import com.pms.dto.response.UploadSessionResponse;
+import com.pms.entity.Attachment;
+import com.pms.entity.Comment;
 import com.pms.entity.Issue;
 import com.pms.entity.User;
+import com.pms.service.AttachmentService;
+import com.pms.service.ChunkedUploadService;
+import com.pms.service.CommentService;
+import com.pms.service.IssueSearchService;
 import com.pms.service.IssueService;
 import com.pms.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,10 +36,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -41,6 +60,18 @@ public class IssueController {
     @Autowired
     private ProjectService projectService;
     
+    @Autowired
+    private IssueSearchService issueSearchService;
+    
+    @Autowired
+    private AttachmentService attachmentService;
+    
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+    
+    @Autowired
+    private CommentService commentService;
+    
     @PostMapping
     @Operation(summary = "Create issue", description = "Create a new issue")
     @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #request.projectId)")
@@ -72,6 +103,42 @@ public class IssueController {
         }
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Create issues in batch", description = "Create many issues in a project at once")
+    @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #request.projectId)")
+    public ResponseEntity<ApiResponse<List<Long>>> createIssues(
+            @Valid @RequestBody BatchCreateIssuesRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        
+        try {
+            List<Long> issueIds = issueService.createIssues(
+                    request.getProjectId(), currentUser.getId(), request.getIssues());
+            return ResponseEntity.ok(ApiResponse.success(issueIds, "Issues created successfully"));
+            
+        } catch (Exception e) {
+            logger.error("Failed to create issues in batch for project: {}", request.getProjectId(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("BATCH_ISSUE_CREATION_FAILED", e.getMessage()));
+        }
+    }
+    
+    @PatchMapping("/bulk")
+    @Operation(summary = "Update issues in bulk", description = "Apply the same changes to many issues in a project")
+    @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #request.projectId)")
+    public ResponseEntity<ApiResponse<Integer>> updateIssues(
+            @Valid @RequestBody BulkUpdateIssuesRequest request) {
+        
+        try {
+            int updated = issueService.updateIssues(request.getProjectId(), request);
+            return ResponseEntity.ok(ApiResponse.success(updated, "Issues updated successfully"));
+            
+        } catch (Exception e) {
+            logger.error("Failed to update issues in bulk for project: {}", request.getProjectId(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("BULK_ISSUE_UPDATE_FAILED", e.getMessage()));
+        }
+    }
+    
     @GetMapping("/{issueId}")
     @Operation(summary = "Get issue by ID", description = "Get issue details by ID")
     public ResponseEntity<ApiResponse<IssueResponse>> getIssueById(
@@ -88,7 +155,7 @@ public class IssueController {
                         .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this issue"));
             }
             
-            IssueResponse response = IssueResponse.from(issue);
+            IssueResponse response = IssueResponse.from(issue, commentService.getLatestComments(issueId));
             return ResponseEntity.ok(ApiResponse.success(response));
             
         } catch (Exception e) {
@@ -101,7 +168,7 @@ public class IssueController {
     @GetMapping("/project/{projectId}")
     @Operation(summary = "Get issues by project", description = "Get all issues for a project")
     @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #projectId)")
-    public ResponseEntity<ApiResponse<Page<IssueResponse>>> getIssuesByProject(
+    public ResponseEntity<ApiResponse<Page<IssueCardResponse>>> getIssuesByProject(
             @PathVariable Long projectId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
@@ -114,16 +181,7 @@ public class IssueController {
             Sort sort = Sort.by(sortDir.equals("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Issue> issues;
-            if (search != null && !search.trim().isEmpty()) {
-                issues = issueService.searchIssues(projectId, search, pageable);
-            } else if (status != null) {
-                issues = issueService.findIssuesByProjectAndStatus(projectId, status, pageable);
-            } else {
-                issues = issueService.findIssuesByProject(projectId, pageable);
-            }
-            
-            Page<IssueResponse> response = issues.map(IssueResponse::from);
+            Page<IssueCardResponse> response = issueService.findIssueCardsByProject(projectId, status, search, pageable);
             return ResponseEntity.ok(ApiResponse.success(response));
             
         } catch (Exception e) {
@@ -133,16 +191,31 @@ public class IssueController {
         }
     }
     
+    @GetMapping("/project/{projectId}/filter")
+    @Operation(summary = "Filter issues", description = "Filter project issues with keyset (cursor) pagination")
+    @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #projectId)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<IssueCardResponse>>> filterIssues(
+            @PathVariable Long projectId,
+            @ModelAttribute IssueFilterRequest filter) {
+        
+        try {
+            CursorPageResponse<IssueCardResponse> response = issueService.filterIssueCards(projectId, filter);
+            return ResponseEntity.ok(ApiResponse.success(response));
+            
+        } catch (Exception e) {
+            logger.error("Failed to filter issues for project: {}", projectId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("FILTER_ISSUES_FAILED", e.getMessage()));
+        }
+    }
+    
     @GetMapping("/project/{projectId}/kanban")
     @Operation(summary = "Get kanban issues", description = "Get issues for kanban board")
     @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #projectId)")
-    public ResponseEntity<ApiResponse<List<IssueResponse>>> getKanbanIssues(@PathVariable Long projectId) {
+    public ResponseEntity<ApiResponse<List<IssueCardResponse>>> getKanbanIssues(@PathVariable Long projectId) {
         
         try {
-            List<Issue> issues = issueService.getKanbanIssues(projectId);
-            List<IssueResponse> response = issues.stream()
-                    .map(IssueResponse::from)
-                    .collect(Collectors.toList());
+            List<IssueCardResponse> response = issueService.getKanbanCards(projectId);
             
             return ResponseEntity.ok(ApiResponse.success(response));
             
@@ -155,7 +228,7 @@ public class IssueController {
     
     @GetMapping("/assigned-to-me")
     @Operation(summary = "Get my assigned issues", description = "Get issues assigned to current user")
-    public ResponseEntity<ApiResponse<Page<IssueResponse>>> getMyAssignedIssues(
+    public ResponseEntity<ApiResponse<Page<IssueCardResponse>>> getMyAssignedIssues(
             @AuthenticationPrincipal User currentUser,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -166,8 +239,7 @@ public class IssueController {
             Sort sort = Sort.by(sortDir.equals("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Issue> issues = issueService.findUserAssignedIssues(currentUser.getId(), pageable);
-            Page<IssueResponse> response = issues.map(IssueResponse::from);
+            Page<IssueCardResponse> response = issueService.findUserAssignedIssueCards(currentUser.getId(), pageable);
             
             return ResponseEntity.ok(ApiResponse.success(response));
             
@@ -180,7 +252,7 @@ public class IssueController {
     
     @GetMapping("/reported-by-me")
     @Operation(summary = "Get my reported issues", description = "Get issues reported by current user")
-    public ResponseEntity<ApiResponse<Page<IssueResponse>>> getMyReportedIssues(
+    public ResponseEntity<ApiResponse<Page<IssueCardResponse>>> getMyReportedIssues(
             @AuthenticationPrincipal User currentUser,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -191,8 +263,7 @@ public class IssueController {
             Sort sort = Sort.by(sortDir.equals("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<Issue> issues = issueService.findUserReportedIssues(currentUser.getId(), pageable);
-            Page<IssueResponse> response = issues.map(IssueResponse::from);
+            Page<IssueCardResponse> response = issueService.findUserReportedIssueCards(currentUser.getId(), pageable);
             
             return ResponseEntity.ok(ApiResponse.success(response));
             
@@ -309,7 +380,12 @@ public class IssueController {
             @Valid @RequestBody ReorderIssuesRequest request) {
         
         try {
-            issueService.reorderIssues(projectId, request.getStatus(), request.getIssueIds());
+            if (request.getIssueId() != null) {
+                issueService.moveIssue(projectId, request.getIssueId(), request.getStatus(),
+                        request.getAfterIssueId(), request.getBeforeIssueId());
+            } else {
+                issueService.reorderIssues(projectId, request.getStatus(), request.getIssueIds());
+            }
             
             return ResponseEntity.ok(ApiResponse.success(null, "Issues reordered successfully"));
             
@@ -384,6 +460,122 @@ public class IssueController {
         }
     }
     
+    @GetMapping("/{issueId}/comments")
+    @Operation(summary = "Get comments", description = "Get comments of an issue in creation order with keyset (cursor) pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentResponse>>> getComments(
+            @PathVariable Long issueId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser) {
+        
+        try {
+            Issue issue = issueService.findById(issueId)
+                    .orElseThrow(() -> new RuntimeException("Issue not found"));
+            
+            // Check if user has access to the project
+            if (!projectService.isUserMemberOfProject(currentUser.getId(), issue.getProject().getId())) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this issue"));
+            }
+            
+            CursorPageResponse<CommentResponse> response = commentService.getComments(issueId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+            
+        } catch (Exception e) {
+            logger.error("Failed to get comments for issue: {}", issueId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("GET_COMMENTS_FAILED", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/{issueId}/comments")
+    @Operation(summary = "Add comment", description = "Add a comment to an issue")
+    public ResponseEntity<ApiResponse<CommentResponse>> createComment(
+            @PathVariable Long issueId,
+            @Valid @RequestBody CommentRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        
+        try {
+            Issue issue = issueService.findById(issueId)
+                    .orElseThrow(() -> new RuntimeException("Issue not found"));
+            
+            // Check if user has access to the project
+            if (!projectService.isUserMemberOfProject(currentUser.getId(), issue.getProject().getId())) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this issue"));
+            }
+            
+            Comment comment = commentService.createComment(issueId, currentUser.getId(), request.getContent());
+            
+            CommentResponse response = CommentResponse.from(comment);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(response, "Comment added successfully"));
+            
+        } catch (Exception e) {
+            logger.error("Failed to add comment to issue: {}", issueId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("COMMENT_CREATION_FAILED", e.getMessage()));
+        }
+    }
+    
+    @PostMapping(value = "/{issueId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload attachment", description = "Upload a file to an issue")
+    public ResponseEntity<ApiResponse<AttachmentResponse>> uploadAttachment(
+            @PathVariable Long issueId,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal User currentUser) {
+        
+        try {
+            Issue issue = issueService.findById(issueId)
+                    .orElseThrow(() -> new RuntimeException("Issue not found"));
+            
+            // Check if user has access to the project
+            if (!projectService.isUserMemberOfProject(currentUser.getId(), issue.getProject().getId())) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this issue"));
+            }
+            
+            Attachment attachment = attachmentService.uploadAttachment(issueId, currentUser.getId(), file);
+            
+            AttachmentResponse response = AttachmentResponse.from(attachment);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(response, "Attachment uploaded successfully"));
+            
+        } catch (Exception e) {
+            logger.error("Failed to upload attachment to issue: {}", issueId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ATTACHMENT_UPLOAD_FAILED", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/{issueId}/attachments/uploads")
+    @Operation(summary = "Start chunked upload", description = "Create a resumable upload session for a large attachment")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createUploadSession(
+            @PathVariable Long issueId,
+            @Valid @RequestBody CreateUploadSessionRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        
+        try {
+            Issue issue = issueService.findById(issueId)
+                    .orElseThrow(() -> new RuntimeException("Issue not found"));
+            
+            // Check if user has access to the project
+            if (!projectService.isUserMemberOfProject(currentUser.getId(), issue.getProject().getId())) {
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this issue"));
+            }
+            
+            UploadSessionResponse response = chunkedUploadService.createSession(issueId, currentUser.getId(), request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(response, "Upload session created"));
+            
+        } catch (Exception e) {
+            logger.error("Failed to create upload session for issue: {}", issueId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("UPLOAD_SESSION_CREATION_FAILED", e.getMessage()));
+        }
+    }
+    
     @DeleteMapping("/{issueId}")
     @Operation(summary = "Delete issue", description = "Delete an issue")
     public ResponseEntity<ApiResponse<Void>> deleteIssue(
@@ -395,15 +587,15 @@ public class IssueController {
                     .orElseThrow(() -> new RuntimeException("Issue not found"));
             
             // Check if user has access to the project and is reporter or has admin role
-            if (!projectService.isUserMemberOfProject(currentUser.getId(), issue.getProject().getId())) {
+            var userRole = projectService.getUserRoleInProject(currentUser.getId(), issue.getProject().getId());
+            if (userRole == null) {
                 return ResponseEntity.status(403)
                         .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this issue"));
             }
             
             // Only reporter or project admin/owner can delete
             if (!issue.getReporter().getId().equals(currentUser.getId())) {
-                var userRole = projectService.getUserRoleInProject(currentUser.getId(), issue.getProject().getId());
-                if (userRole == null || (!userRole.name().equals("ADMIN") && !userRole.name().equals("OWNER"))) {
+                if (!userRole.name().equals("ADMIN") && !userRole.name().equals("OWNER")) {
                     return ResponseEntity.status(403)
                             .body(ApiResponse.error("ACCESS_DENIED", "Only reporter or project admin can delete issues"));
                 }
@@ -420,6 +612,22 @@ public class IssueController {
         }
     }
     
+    @PostMapping("/search-index/rebuild")
+    @Operation(summary = "Rebuild search index", description = "Rebuild the full-text issue search index")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildSearchIndex() {
+        
+        try {
+            int indexed = issueSearchService.rebuild();
+            return ResponseEntity.ok(ApiResponse.success(indexed, "Search index rebuilt successfully"));
+            
+        } catch (Exception e) {
+            logger.error("Failed to rebuild search index", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("REBUILD_SEARCH_INDEX_FAILED", e.getMessage()));
+        }
+    }
+    
     @GetMapping("/upcoming-due-dates")
     @Operation(summary = "Get upcoming due dates", description = "Get issues with upcoming due dates")
     public ResponseEntity<ApiResponse<List<IssueResponse>>> getUpcomingDueDates(
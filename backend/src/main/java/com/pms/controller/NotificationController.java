@@ -0,0 +1,95 @@
+package com.pms.controller;
+
+import com.pms.dto.response.ApiResponse;
+import com.pms.dto.response.CursorPageResponse;
+import com.pms.dto.response.NotificationResponse;
+import com.pms.entity.User;
+import com.pms.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/notifications")
+@Tag(name = "Notification", description = "Notification APIs")
+public class NotificationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationController.class);
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @GetMapping
+    @Operation(summary = "Get notifications", description = "Get current user's notifications with keyset (cursor) pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<NotificationResponse>>> getNotifications(
+            @AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+
+        try {
+            CursorPageResponse<NotificationResponse> response =
+                    notificationService.getInbox(currentUser.getId(), cursor, size, unreadOnly);
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (Exception e) {
+            logger.error("Failed to get notifications for user: {}", currentUser.getId(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("GET_NOTIFICATIONS_FAILED", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/unread-count")
+    @Operation(summary = "Get unread count", description = "Get the number of unread notifications")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getUnreadCount(@AuthenticationPrincipal User currentUser) {
+
+        try {
+            long count = notificationService.getUnreadCount(currentUser.getId());
+            return ResponseEntity.ok(ApiResponse.success(Map.of("unreadCount", count)));
+
+        } catch (Exception e) {
+            logger.error("Failed to get unread notification count for user: {}", currentUser.getId(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("GET_UNREAD_COUNT_FAILED", e.getMessage()));
+        }
+    }
+
+    @PatchMapping("/{notificationId}/read")
+    @Operation(summary = "Mark as read", description = "Mark a notification as read")
+    public ResponseEntity<ApiResponse<Void>> markAsRead(
+            @PathVariable Long notificationId,
+            @AuthenticationPrincipal User currentUser) {
+
+        try {
+            notificationService.markAsRead(currentUser.getId(), notificationId);
+            return ResponseEntity.ok(ApiResponse.success(null, "Notification marked as read"));
+
+        } catch (Exception e) {
+            logger.error("Failed to mark notification as read: {}", notificationId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("MARK_NOTIFICATION_READ_FAILED", e.getMessage()));
+        }
+    }
+
+    @PatchMapping("/read-all")
+    @Operation(summary = "Mark all as read", description = "Mark all notifications of current user as read")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAllAsRead(@AuthenticationPrincipal User currentUser) {
+
+        try {
+            int updated = notificationService.markAllAsRead(currentUser.getId());
+            return ResponseEntity.ok(ApiResponse.success(Map.of("updatedCount", updated), "All notifications marked as read"));
+
+        } catch (Exception e) {
+            logger.error("Failed to mark all notifications as read for user: {}", currentUser.getId(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("MARK_ALL_NOTIFICATIONS_READ_FAILED", e.getMessage()));
+        }
+    }
+}
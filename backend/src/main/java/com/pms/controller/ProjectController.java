@@ -3,11 +3,14 @@ package com.pms.controller;
 import com.pms.dto.request.CreateProjectRequest;
 import com.pms.dto.request.UpdateProjectRequest;
 import com.pms.dto.request.AddMemberRequest;
+import com.pms.dto.response.ActivityLogResponse;
 import com.pms.dto.response.ApiResponse;
 import com.pms.dto.response.ProjectResponse;
 import com.pms.entity.Project;
 import com.pms.entity.ProjectMember;
+import com.pms.entity.ProjectStats;
 import com.pms.entity.User;
+import com.pms.service.ActivityLogQueryService;
 import com.pms.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,11 +22,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/projects")
 @Tag(name = "Project Management", description = "Project management APIs")
@@ -34,6 +43,9 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
     
+    @Autowired
+    private ActivityLogQueryService activityLogQueryService;
+    
     @PostMapping
     @Operation(summary = "Create project", description = "Create a new project")
     public ResponseEntity<ApiResponse<ProjectResponse>> createProject(
@@ -51,7 +63,7 @@ public class ProjectController {
                     request.getIsPublic()
             );
             
-            ProjectResponse response = ProjectResponse.from(project);
+            ProjectResponse response = toResponse(project);
             return ResponseEntity.ok(ApiResponse.success(response, "Project created successfully"));
             
         } catch (Exception e) {
@@ -82,7 +94,7 @@ public class ProjectController {
                 projects = projectService.findUserProjects(currentUser.getId(), pageable);
             }
             
-            Page<ProjectResponse> response = projects.map(ProjectResponse::from);
+            Page<ProjectResponse> response = toResponses(projects);
             
             return ResponseEntity.ok(ApiResponse.success(response));
             
@@ -106,7 +118,7 @@ public class ProjectController {
             Pageable pageable = PageRequest.of(page, size, sort);
             
             Page<Project> projects = projectService.findPublicProjects(pageable);
-            Page<ProjectResponse> response = projects.map(ProjectResponse::from);
+            Page<ProjectResponse> response = toResponses(projects);
             
             return ResponseEntity.ok(ApiResponse.success(response));
             
@@ -126,7 +138,7 @@ public class ProjectController {
             Project project = projectService.findById(projectId)
                     .orElseThrow(() -> new RuntimeException("Project not found"));
             
-            ProjectResponse response = ProjectResponse.from(project);
+            ProjectResponse response = toResponse(project);
             return ResponseEntity.ok(ApiResponse.success(response));
             
         } catch (Exception e) {
@@ -153,7 +165,7 @@ public class ProjectController {
                         .body(ApiResponse.error("ACCESS_DENIED", "You don't have access to this project"));
             }
             
-            ProjectResponse response = ProjectResponse.from(project);
+            ProjectResponse response = toResponse(project);
             return ResponseEntity.ok(ApiResponse.success(response));
             
         } catch (Exception e) {
@@ -165,8 +177,7 @@ public class ProjectController {
     
     @PutMapping("/{projectId}")
     @Operation(summary = "Update project", description = "Update project details")
-    @PreAuthorize("@projectService.getUserRoleInProject(authentication.principal.id, #projectId) != null and " +
-                  "@projectService.getUserRoleInProject(authentication.principal.id, #projectId).name() in {'OWNER', 'ADMIN'}")
+    @PreAuthorize("@projectService.hasProjectRole(authentication.principal.id, #projectId, 'OWNER', 'ADMIN')")
     public ResponseEntity<ApiResponse<ProjectResponse>> updateProject(
             @PathVariable Long projectId,
             @Valid @RequestBody UpdateProjectRequest request) {
@@ -181,7 +192,7 @@ public class ProjectController {
                     request.getIsPublic()
             );
             
-            ProjectResponse response = ProjectResponse.from(project);
+            ProjectResponse response = toResponse(project);
             return ResponseEntity.ok(ApiResponse.success(response, "Project updated successfully"));
             
         } catch (Exception e) {
@@ -193,8 +204,7 @@ public class ProjectController {
     
     @PostMapping("/{projectId}/members")
     @Operation(summary = "Add project member", description = "Add a member to the project")
-    @PreAuthorize("@projectService.getUserRoleInProject(authentication.principal.id, #projectId) != null and " +
-                  "@projectService.getUserRoleInProject(authentication.principal.id, #projectId).name() in {'OWNER', 'ADMIN'}")
+    @PreAuthorize("@projectService.hasProjectRole(authentication.principal.id, #projectId, 'OWNER', 'ADMIN')")
     public ResponseEntity<ApiResponse<Void>> addMember(
             @PathVariable Long projectId,
             @Valid @RequestBody AddMemberRequest request) {
@@ -213,8 +223,7 @@ public class ProjectController {
     
     @DeleteMapping("/{projectId}/members/{userId}")
     @Operation(summary = "Remove project member", description = "Remove a member from the project")
-    @PreAuthorize("@projectService.getUserRoleInProject(authentication.principal.id, #projectId) != null and " +
-                  "@projectService.getUserRoleInProject(authentication.principal.id, #projectId).name() in {'OWNER', 'ADMIN'}")
+    @PreAuthorize("@projectService.hasProjectRole(authentication.principal.id, #projectId, 'OWNER', 'ADMIN')")
     public ResponseEntity<ApiResponse<Void>> removeMember(
             @PathVariable Long projectId,
             @PathVariable Long userId) {
@@ -233,8 +242,7 @@ public class ProjectController {
     
     @PutMapping("/{projectId}/members/{userId}/role")
     @Operation(summary = "Update member role", description = "Update a member's role in the project")
-    @PreAuthorize("@projectService.getUserRoleInProject(authentication.principal.id, #projectId) != null and " +
-                  "@projectService.getUserRoleInProject(authentication.principal.id, #projectId).name() == 'OWNER'")
+    @PreAuthorize("@projectService.hasProjectRole(authentication.principal.id, #projectId, 'OWNER')")
     public ResponseEntity<ApiResponse<Void>> updateMemberRole(
             @PathVariable Long projectId,
             @PathVariable Long userId,
@@ -254,8 +262,7 @@ public class ProjectController {
     
     @PutMapping("/{projectId}/archive")
     @Operation(summary = "Archive project", description = "Archive the project")
-    @PreAuthorize("@projectService.getUserRoleInProject(authentication.principal.id, #projectId) != null and " +
-                  "@projectService.getUserRoleInProject(authentication.principal.id, #projectId).name() == 'OWNER'")
+    @PreAuthorize("@projectService.hasProjectRole(authentication.principal.id, #projectId, 'OWNER')")
     public ResponseEntity<ApiResponse<Void>> archiveProject(@PathVariable Long projectId) {
         
         try {
@@ -272,8 +279,7 @@ public class ProjectController {
     
     @DeleteMapping("/{projectId}")
     @Operation(summary = "Delete project", description = "Delete the project")
-    @PreAuthorize("@projectService.getUserRoleInProject(authentication.principal.id, #projectId) != null and " +
-                  "@projectService.getUserRoleInProject(authentication.principal.id, #projectId).name() == 'OWNER'")
+    @PreAuthorize("@projectService.hasProjectRole(authentication.principal.id, #projectId, 'OWNER')")
     public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable Long projectId) {
         
         try {
@@ -287,4 +293,46 @@ public class ProjectController {
                     .body(ApiResponse.error("DELETE_PROJECT_FAILED", e.getMessage()));
         }
     }
+    
+    @GetMapping("/{projectId}/activity")
+    @Operation(summary = "Get activity history", description = "Get activity history of an entity, including archived entries")
+    @PreAuthorize("@projectService.isUserMemberOfProject(authentication.principal.id, #projectId)")
+    public ResponseEntity<ApiResponse<List<ActivityLogResponse>>> getActivityHistory(
+            @PathVariable Long projectId,
+            @RequestParam String entityType,
+            @RequestParam Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer limit) {
+        
+        try {
+            List<ActivityLogResponse> history = activityLogQueryService.getHistory(
+                    projectId, entityType, entityId, from, to, limit);
+            return ResponseEntity.ok(ApiResponse.success(history));
+            
+        } catch (Exception e) {
+            logger.error("Failed to get activity history: {} {}:{}", projectId, entityType, entityId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("GET_ACTIVITY_FAILED", e.getMessage()));
+        }
+    }
+    
+    private ProjectResponse toResponse(Project project) {
+        List<Long> projectIds = List.of(project.getId());
+        Map<Long, ProjectStats> stats = projectService.getProjectStats(projectIds);
+        Map<Long, List<ProjectMember>> members = projectService.getProjectMembers(projectIds);
+        return ProjectResponse.from(project, stats.get(project.getId()),
+                members.getOrDefault(project.getId(), List.of()));
+    }
+    
+    // 페이지의 프로젝트 통계와 멤버를 한 번에 읽는다 (이슈/멤버 컬렉션은 건드리지 않는다)
+    private Page<ProjectResponse> toResponses(Page<Project> projects) {
+        List<Long> projectIds = projects.getContent().stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+        Map<Long, ProjectStats> stats = projectService.getProjectStats(projectIds);
+        Map<Long, List<ProjectMember>> members = projectService.getProjectMembers(projectIds);
+        return projects.map(project -> ProjectResponse.from(project, stats.get(project.getId()),
+                members.getOrDefault(project.getId(), List.of())));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.pms.dto.request;
+
+import com.pms.entity.Issue;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이슈 일괄 생성 요청 - 한 프로젝트에 여러 이슈를 한 번에 만든다
+ */
+public class BatchCreateIssuesRequest {
+
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    @Valid
+    @NotEmpty(message = "Issues are required")
+    @Size(max = 5000, message = "Up to 5000 issues can be created at once")
+    private List<Item> issues;
+
+    // Constructors
+    public BatchCreateIssuesRequest() {}
+
+    public BatchCreateIssuesRequest(Long projectId, List<Item> issues) {
+        this.projectId = projectId;
+        this.issues = issues;
+    }
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<Item> getIssues() {
+        return issues;
+    }
+
+    public void setIssues(List<Item> issues) {
+        this.issues = issues;
+    }
+
+    public static class Item {
+
+        @NotBlank(message = "Title is required")
+        @Size(max = 500, message = "Title must not exceed 500 characters")
+        private String title;
+
+        @Size(max = 5000, message = "Description must not exceed 5000 characters")
+        private String description;
+
+        private Issue.Type type = Issue.Type.TASK;
+
+        private Issue.Priority priority = Issue.Priority.MEDIUM;
+
+        private Long assigneeId;
+
+        private LocalDateTime dueDate;
+
+        private BigDecimal storyPoints;
+
+        private Set<Long> labelIds;
+
+        public Item() {}
+
+        public Item(String title, String description, Issue.Type type, Issue.Priority priority,
+                    Long assigneeId, LocalDateTime dueDate, BigDecimal storyPoints, Set<Long> labelIds) {
+            this.title = title;
+            this.description = description;
+            this.type = type;
+            this.priority = priority;
+            this.assigneeId = assigneeId;
+            this.dueDate = dueDate;
+            this.storyPoints = storyPoints;
+            this.labelIds = labelIds;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public Issue.Type getType() {
+            return type;
+        }
+
+        public void setType(Issue.Type type) {
+            this.type = type;
+        }
+
+        public Issue.Priority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Issue.Priority priority) {
+            this.priority = priority;
+        }
+
+        public Long getAssigneeId() {
+            return assigneeId;
+        }
+
+        public void setAssigneeId(Long assigneeId) {
+            this.assigneeId = assigneeId;
+        }
+
+        public LocalDateTime getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDateTime dueDate) {
+            this.dueDate = dueDate;
+        }
+
+        public BigDecimal getStoryPoints() {
+            return storyPoints;
+        }
+
+        public void setStoryPoints(BigDecimal storyPoints) {
+            this.storyPoints = storyPoints;
+        }
+
+        public Set<Long> getLabelIds() {
+            return labelIds;
+        }
+
+        public void setLabelIds(Set<Long> labelIds) {
+            this.labelIds = labelIds;
+        }
+    }
+}
\ No newline at end of file
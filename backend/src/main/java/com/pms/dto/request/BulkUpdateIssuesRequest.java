@@ -0,0 +1,124 @@
+package com.pms.dto.request;
+
+import com.pms.entity.Issue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이슈 일괄 수정 요청 - 지정된 필드만 모든 대상 이슈에 똑같이 적용한다
+ */
+public class BulkUpdateIssuesRequest {
+
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    @NotEmpty(message = "Issue IDs are required")
+    @Size(max = 5000, message = "Up to 5000 issues can be updated at once")
+    private List<Long> issueIds;
+
+    private Issue.Status status;
+
+    private Issue.Priority priority;
+
+    private Issue.Type type;
+
+    private Long assigneeId;
+
+    // true 면 담당자를 비운다 (assigneeId 보다 우선)
+    private Boolean unassign;
+
+    private LocalDateTime dueDate;
+
+    private Set<Long> addLabelIds;
+
+    private Set<Long> removeLabelIds;
+
+    // Constructors
+    public BulkUpdateIssuesRequest() {}
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<Long> getIssueIds() {
+        return issueIds;
+    }
+
+    public void setIssueIds(List<Long> issueIds) {
+        this.issueIds = issueIds;
+    }
+
+    public Issue.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Issue.Status status) {
+        this.status = status;
+    }
+
+    public Issue.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Issue.Priority priority) {
+        this.priority = priority;
+    }
+
+    public Issue.Type getType() {
+        return type;
+    }
+
+    public void setType(Issue.Type type) {
+        this.type = type;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Boolean getUnassign() {
+        return unassign;
+    }
+
+    public void setUnassign(Boolean unassign) {
+        this.unassign = unassign;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Set<Long> getAddLabelIds() {
+        return addLabelIds;
+    }
+
+    public void setAddLabelIds(Set<Long> addLabelIds) {
+        this.addLabelIds = addLabelIds;
+    }
+
+    public Set<Long> getRemoveLabelIds() {
+        return removeLabelIds;
+    }
+
+    public void setRemoveLabelIds(Set<Long> removeLabelIds) {
+        this.removeLabelIds = removeLabelIds;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.pms.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class CommentRequest {
+    
+    @NotBlank(message = "Content is required")
+    @Size(max = 10000, message = "Content must not exceed 10000 characters")
+    private String content;
+    
+    // Constructors
+    public CommentRequest() {}
+    
+    public CommentRequest(String content) {
+        this.content = content;
+    }
+    
+    // Getters and Setters
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,157 @@
+package com.pms.dto.request;
+
+import com.pms.entity.Issue;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이슈 필터 조건 - 지정된 조건만 AND 로 조합된다
+ */
+public class IssueFilterRequest {
+
+    public enum SortKey {
+        POSITION,   // 칸반 순서 (position ASC, id ASC)
+        CREATED_AT  // 최신순 (createdAt DESC, id DESC)
+    }
+
+    private List<Issue.Status> statuses;
+    private List<Issue.Priority> priorities;
+    private List<Issue.Type> types;
+    private Long assigneeId;
+    private Boolean unassigned;
+    private Long reporterId;
+    private List<Long> labelIds;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private Long parentIssueId;
+    private Boolean topLevelOnly;
+    private SortKey sort = SortKey.POSITION;
+
+    // 이전 페이지 응답의 nextCursor
+    private String cursor;
+    private int size = 50;
+
+    // Constructors
+    public IssueFilterRequest() {}
+
+    // Getters and Setters
+    public List<Issue.Status> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<Issue.Status> statuses) {
+        this.statuses = statuses;
+    }
+
+    public List<Issue.Priority> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(List<Issue.Priority> priorities) {
+        this.priorities = priorities;
+    }
+
+    public List<Issue.Type> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<Issue.Type> types) {
+        this.types = types;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Boolean getUnassigned() {
+        return unassigned;
+    }
+
+    public void setUnassigned(Boolean unassigned) {
+        this.unassigned = unassigned;
+    }
+
+    public Long getReporterId() {
+        return reporterId;
+    }
+
+    public void setReporterId(Long reporterId) {
+        this.reporterId = reporterId;
+    }
+
+    public List<Long> getLabelIds() {
+        return labelIds;
+    }
+
+    public void setLabelIds(List<Long> labelIds) {
+        this.labelIds = labelIds;
+    }
+
+    public LocalDateTime getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDateTime dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDateTime getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDateTime dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public Long getParentIssueId() {
+        return parentIssueId;
+    }
+
+    public void setParentIssueId(Long parentIssueId) {
+        this.parentIssueId = parentIssueId;
+    }
+
+    public Boolean getTopLevelOnly() {
+        return topLevelOnly;
+    }
+
+    public void setTopLevelOnly(Boolean topLevelOnly) {
+        this.topLevelOnly = topLevelOnly;
+    }
+
+    public SortKey getSort() {
+        return sort;
+    }
+
+    // sort= 처럼 빈 값으로 바인딩되어도 기본 정렬을 유지한다 - 커서와 쿼리가 정렬 키를 그대로 쓴다
+    public void setSort(SortKey sort) {
+        this.sort = sort != null ? sort : SortKey.POSITION;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
\ No newline at end of file
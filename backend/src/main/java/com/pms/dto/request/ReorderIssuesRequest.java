@@ -1,7 +1,6 @@
 package com.pms.dto.request;
 
 import com.pms.entity.Issue;
-import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
@@ -11,9 +10,16 @@ public class ReorderIssuesRequest {
     @NotNull(message = "Status is required")
     private Issue.Status status;
     
-    @NotEmpty(message = "Issue IDs list cannot be empty")
+    // 컬럼 전체 순서 지정
     private List<Long> issueIds;
     
+    // 단일 이동 - issueId 를 afterIssueId 와 beforeIssueId 사이에 놓는다
+    private Long issueId;
+    
+    private Long afterIssueId;
+    
+    private Long beforeIssueId;
+    
     // Constructors
     public ReorderIssuesRequest() {}
     
@@ -22,6 +28,13 @@ public class ReorderIssuesRequest {
         this.issueIds = issueIds;
     }
     
+    public ReorderIssuesRequest(Issue.Status status, Long issueId, Long afterIssueId, Long beforeIssueId) {
+        this.status = status;
+        this.issueId = issueId;
+        this.afterIssueId = afterIssueId;
+        this.beforeIssueId = beforeIssueId;
+    }
+    
     // Getters and Setters
     public Issue.Status getStatus() {
         return status;
@@ -38,4 +51,28 @@ public class ReorderIssuesRequest {
     public void setIssueIds(List<Long> issueIds) {
         this.issueIds = issueIds;
     }
+    
+    public Long getIssueId() {
+        return issueId;
+    }
+    
+    public void setIssueId(Long issueId) {
+        this.issueId = issueId;
+    }
+    
+    public Long getAfterIssueId() {
+        return afterIssueId;
+    }
+    
+    public void setAfterIssueId(Long afterIssueId) {
+        this.afterIssueId = afterIssueId;
+    }
+    
+    public Long getBeforeIssueId() {
+        return beforeIssueId;
+    }
+    
+    public void setBeforeIssueId(Long beforeIssueId) {
+        this.beforeIssueId = beforeIssueId;
+    }
 } 
\ No newline at end of file
@@ -14,6 +14,7 @@ public class AttachmentResponse {
     private String formattedFileSize;
     private Boolean isImage;
     private String downloadUrl;
+    private String thumbnailUrl;
     private Long issueId;
     private UserResponse uploadedBy;
     private LocalDateTime createdAt;
@@ -33,6 +34,9 @@ public class AttachmentResponse {
         response.setFormattedFileSize(attachment.getFormattedFileSize());
         response.setIsImage(attachment.isImage());
         response.setDownloadUrl("/api/v1/attachments/" + attachment.getId() + "/download");
+        if (attachment.hasThumbnails()) {
+            response.setThumbnailUrl("/api/v1/attachments/" + attachment.getId() + "/thumbnail");
+        }
         response.setIssueId(attachment.getIssue().getId());
         response.setUploadedBy(UserResponse.basicInfo(attachment.getUploadedBy()));
         response.setCreatedAt(attachment.getCreatedAt());
@@ -106,6 +110,14 @@ public class AttachmentResponse {
         this.downloadUrl = downloadUrl;
     }
     
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+    
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+    
     public Long getIssueId() {
         return issueId;
     }
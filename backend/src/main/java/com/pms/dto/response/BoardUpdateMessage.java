@@ -0,0 +1,50 @@
+package com.pms.dto.response;
+
+import com.pms.event.IssueBoardEvent;
+
+import java.util.List;
+
+/**
+ * 칸반 보드 푸시 메시지 - 한 번의 플러시 동안 모인 델타를 묶어 보낸다.
+ * resync 가 true 면 델타가 너무 많아 생략된 것이므로 클라이언트는 보드를 다시 읽는다.
+ */
+public class BoardUpdateMessage {
+
+    private Long projectId;
+    private List<IssueBoardEvent> deltas;
+    private boolean resync;
+
+    // Constructors
+    public BoardUpdateMessage() {}
+
+    public BoardUpdateMessage(Long projectId, List<IssueBoardEvent> deltas, boolean resync) {
+        this.projectId = projectId;
+        this.deltas = deltas;
+        this.resync = resync;
+    }
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<IssueBoardEvent> getDeltas() {
+        return deltas;
+    }
+
+    public void setDeltas(List<IssueBoardEvent> deltas) {
+        this.deltas = deltas;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+
+    public void setResync(boolean resync) {
+        this.resync = resync;
+    }
+}
@@ -0,0 +1,223 @@
+package com.pms.dto.response;
+
+import com.pms.entity.Issue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록/칸반 보드용 경량 이슈 응답
+ * JPQL 생성자 프로젝션으로 카드에 필요한 컬럼만 조회한다.
+ * 서브태스크 수는 부모 행의 집계 컬럼에서 읽고, 라벨 ID 만 페이지 단위 쿼리로 채운다.
+ */
+public class IssueCardResponse {
+
+    private Long id;
+    private String title;
+    private Issue.Status status;
+    private Issue.Priority priority;
+    private Issue.Type type;
+    private String issueNumber;
+    private Long projectId;
+    private UserResponse assignee;
+    private Long parentIssueId;
+    private LocalDateTime dueDate;
+    private BigDecimal storyPoints;
+    private Integer position;
+    private List<Long> labelIds = new ArrayList<>();
+    private int subtaskCount;
+    private int completedSubtaskCount;
+    private int commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public IssueCardResponse() {}
+
+    // JPQL 생성자 프로젝션용
+    public IssueCardResponse(Long id, String title, Issue.Status status, Issue.Priority priority, Issue.Type type,
+                             Long projectId, String projectKey, Long assigneeId, String assigneeName,
+                             String assigneeNickname, String assigneeAvatarUrl, Long parentIssueId,
+                             LocalDateTime dueDate, BigDecimal storyPoints, Integer position,
+                             Integer commentCount, Integer subtaskCount, Integer completedSubtaskCount,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.type = type;
+        this.issueNumber = projectKey + "-" + id;
+        this.projectId = projectId;
+        if (assigneeId != null) {
+            UserResponse assignee = new UserResponse();
+            assignee.setId(assigneeId);
+            assignee.setName(assigneeName);
+            assignee.setNickname(assigneeNickname);
+            assignee.setAvatarUrl(assigneeAvatarUrl);
+            this.assignee = assignee;
+        }
+        this.parentIssueId = parentIssueId;
+        this.dueDate = dueDate;
+        this.storyPoints = storyPoints;
+        this.position = position;
+        this.commentCount = commentCount != null ? commentCount : 0;
+        this.subtaskCount = subtaskCount != null ? subtaskCount : 0;
+        this.completedSubtaskCount = completedSubtaskCount != null ? completedSubtaskCount : 0;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public double getSubtaskProgress() {
+        if (subtaskCount == 0) {
+            return 0.0;
+        }
+        return (double) completedSubtaskCount / subtaskCount * 100.0;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Issue.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Issue.Status status) {
+        this.status = status;
+    }
+
+    public Issue.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Issue.Priority priority) {
+        this.priority = priority;
+    }
+
+    public Issue.Type getType() {
+        return type;
+    }
+
+    public void setType(Issue.Type type) {
+        this.type = type;
+    }
+
+    public String getIssueNumber() {
+        return issueNumber;
+    }
+
+    public void setIssueNumber(String issueNumber) {
+        this.issueNumber = issueNumber;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public UserResponse getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(UserResponse assignee) {
+        this.assignee = assignee;
+    }
+
+    public Long getParentIssueId() {
+        return parentIssueId;
+    }
+
+    public void setParentIssueId(Long parentIssueId) {
+        this.parentIssueId = parentIssueId;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public BigDecimal getStoryPoints() {
+        return storyPoints;
+    }
+
+    public void setStoryPoints(BigDecimal storyPoints) {
+        this.storyPoints = storyPoints;
+    }
+
+    public Integer getPosition() {
+        return position;
+    }
+
+    public void setPosition(Integer position) {
+        this.position = position;
+    }
+
+    public List<Long> getLabelIds() {
+        return labelIds;
+    }
+
+    public void setLabelIds(List<Long> labelIds) {
+        this.labelIds = labelIds;
+    }
+
+    public int getSubtaskCount() {
+        return subtaskCount;
+    }
+
+    public void setSubtaskCount(int subtaskCount) {
+        this.subtaskCount = subtaskCount;
+    }
+
+    public int getCompletedSubtaskCount() {
+        return completedSubtaskCount;
+    }
+
+    public void setCompletedSubtaskCount(int completedSubtaskCount) {
+        this.completedSubtaskCount = completedSubtaskCount;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.pms.dto.response;
 
+import com.pms.entity.Comment;
 import com.pms.entity.Issue;
 
 import java.math.BigDecimal;
@@ -25,9 +26,13 @@ public class IssueResponse {
     private BigDecimal storyPoints;
     private Integer position;
     private List<LabelResponse> labels;
+    private int commentCount;
     private List<CommentResponse> comments;
     private List<AttachmentResponse> attachments;
+    private int subtaskCount;
     private int completedSubtaskCount;
+    private BigDecimal subtaskStoryPoints;
+    private BigDecimal completedSubtaskStoryPoints;
     private double subtaskProgress;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -45,27 +50,28 @@ public class IssueResponse {
         response.setPriority(issue.getPriority());
         response.setType(issue.getType());
         response.setIssueNumber(issue.getIssueNumber());
-        response.setProject(ProjectResponse.from(issue.getProject()));
+        response.setProject(ProjectResponse.basicInfo(issue.getProject()));
         response.setAssignee(issue.getAssignee() != null ? UserResponse.basicInfo(issue.getAssignee()) : null);
         response.setReporter(issue.getReporter() != null ? UserResponse.basicInfo(issue.getReporter()) : null);
         response.setParentIssue(issue.getParentIssue() != null ? IssueResponse.basicInfo(issue.getParentIssue()) : null);
-        response.setSubtasks(issue.getSubtasks().stream()
-                .map(IssueResponse::basicInfo)
-                .collect(Collectors.toList()));
+        // 서브태스크는 부모 행의 집계만 담는다 - 목록은 이슈 상세나 GET /issues/{issueId}/subtasks 로 읽는다
+        response.setSubtasks(List.of());
         response.setDueDate(issue.getDueDate());
         response.setStoryPoints(issue.getStoryPoints());
         response.setPosition(issue.getPosition());
         response.setLabels(issue.getLabels().stream()
                 .map(LabelResponse::from)
                 .collect(Collectors.toList()));
-        response.setComments(issue.getComments().stream()
-                .filter(comment -> !comment.getIsDeleted())
-                .map(CommentResponse::from)
-                .collect(Collectors.toList()));
+        // 댓글은 개수만 담는다 - 목록은 GET /issues/{issueId}/comments 로 페이지 단위로 읽는다
+        response.setCommentCount(issue.getCommentCount());
+        response.setComments(List.of());
         response.setAttachments(issue.getAttachments().stream()
                 .map(AttachmentResponse::from)
                 .collect(Collectors.toList()));
+        response.setSubtaskCount(issue.getSubtaskCount());
         response.setCompletedSubtaskCount(issue.getCompletedSubtaskCount());
+        response.setSubtaskStoryPoints(issue.getSubtaskStoryPoints());
+        response.setCompletedSubtaskStoryPoints(issue.getCompletedSubtaskStoryPoints());
         response.setSubtaskProgress(issue.getSubtaskProgress());
         response.setCreatedAt(issue.getCreatedAt());
         response.setUpdatedAt(issue.getUpdatedAt());
@@ -73,6 +79,19 @@ public class IssueResponse {
         return response;
     }
     
+    // 이슈 상세용 - 서브태스크 목록과 최근 댓글 몇 개를 함께 담는다
+    public static IssueResponse from(Issue issue, List<Comment> latestComments) {
+        IssueResponse response = from(issue);
+        response.setSubtasks(issue.getSubtasks().stream()
+                .map(IssueResponse::basicInfo)
+                .collect(Collectors.toList()));
+        response.setComments(latestComments.stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList()));
+        
+        return response;
+    }
+    
     // Static factory method for basic info (to avoid circular references)
     public static IssueResponse basicInfo(Issue issue) {
         IssueResponse response = new IssueResponse();
@@ -221,6 +240,14 @@ public class IssueResponse {
         this.labels = labels;
     }
     
+    public int getCommentCount() {
+        return commentCount;
+    }
+    
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+    
     public List<CommentResponse> getComments() {
         return comments;
     }
@@ -237,6 +264,14 @@ public class IssueResponse {
         this.attachments = attachments;
     }
     
+    public int getSubtaskCount() {
+        return subtaskCount;
+    }
+    
+    public void setSubtaskCount(int subtaskCount) {
+        this.subtaskCount = subtaskCount;
+    }
+    
     public int getCompletedSubtaskCount() {
         return completedSubtaskCount;
     }
@@ -245,6 +280,22 @@ public class IssueResponse {
         this.completedSubtaskCount = completedSubtaskCount;
     }
     
+    public BigDecimal getSubtaskStoryPoints() {
+        return subtaskStoryPoints;
+    }
+    
+    public void setSubtaskStoryPoints(BigDecimal subtaskStoryPoints) {
+        this.subtaskStoryPoints = subtaskStoryPoints;
+    }
+    
+    public BigDecimal getCompletedSubtaskStoryPoints() {
+        return completedSubtaskStoryPoints;
+    }
+    
+    public void setCompletedSubtaskStoryPoints(BigDecimal completedSubtaskStoryPoints) {
+        this.completedSubtaskStoryPoints = completedSubtaskStoryPoints;
+    }
+    
     public double getSubtaskProgress() {
         return subtaskProgress;
     }
@@ -0,0 +1,120 @@
+package com.pms.dto.response;
+
+import com.pms.entity.Notification;
+
+import java.time.LocalDateTime;
+
+public class NotificationResponse {
+    
+    private Long id;
+    private Notification.Type type;
+    private String title;
+    private String message;
+    private String entityType;
+    private Long entityId;
+    private Long projectId;
+    private boolean read;
+    private LocalDateTime readAt;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public NotificationResponse() {}
+    
+    // Static factory method
+    public static NotificationResponse from(Notification notification) {
+        NotificationResponse response = new NotificationResponse();
+        response.setId(notification.getId());
+        response.setType(notification.getType());
+        response.setTitle(notification.getTitle());
+        response.setMessage(notification.getMessage());
+        response.setEntityType(notification.getEntityType());
+        response.setEntityId(notification.getEntityId());
+        response.setProjectId(notification.getProject() != null ? notification.getProject().getId() : null);
+        response.setRead(Boolean.TRUE.equals(notification.getIsRead()));
+        response.setReadAt(notification.getReadAt());
+        response.setCreatedAt(notification.getCreatedAt());
+        
+        return response;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Notification.Type getType() {
+        return type;
+    }
+    
+    public void setType(Notification.Type type) {
+        this.type = type;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public String getEntityType() {
+        return entityType;
+    }
+    
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    public boolean isRead() {
+        return read;
+    }
+    
+    public void setRead(boolean read) {
+        this.read = read;
+    }
+    
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+    
+    public void setReadAt(LocalDateTime readAt) {
+        this.readAt = readAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,7 +1,9 @@
 package com.pms.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pms.entity.Project;
 import com.pms.entity.ProjectMember;
+import com.pms.entity.ProjectStats;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,18 +22,34 @@ public class ProjectResponse {
     private LocalDate endDate;
     private Boolean isPublic;
     private String avatarUrl;
+    // 멤버/집계는 basicInfo(이슈 응답에 들어가는 요약)에서는 빠진다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<ProjectMemberResponse> members;
-    private int issueCount;
-    private int memberCount;
-    private double progressPercentage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer issueCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer memberCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double progressPercentage;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
     // Constructors
     public ProjectResponse() {}
     
-    // Static factory method
-    public static ProjectResponse from(Project project) {
+    // 식별 정보만 - 이슈 응답에 들어가는 프로젝트 요약용 (멤버/집계를 읽지 않는다)
+    public static ProjectResponse basicInfo(Project project) {
+        ProjectResponse response = new ProjectResponse();
+        response.setId(project.getId());
+        response.setName(project.getName());
+        response.setKey(project.getKey());
+        response.setStatus(project.getStatus());
+        
+        return response;
+    }
+    
+    // Static factory method - 이슈 수/진행률은 project_stats 에서, 멤버는 미리 읽어 둔 목록에서 채운다
+    public static ProjectResponse from(Project project, ProjectStats stats, List<ProjectMember> members) {
         ProjectResponse response = new ProjectResponse();
         response.setId(project.getId());
         response.setName(project.getName());
@@ -43,12 +61,12 @@ public class ProjectResponse {
         response.setEndDate(project.getEndDate());
         response.setIsPublic(project.getIsPublic());
         // response.setAvatarUrl(project.getAvatarUrl());
-        response.setMembers(project.getMembers().stream()
+        response.setMembers(members.stream()
                 .map(ProjectMemberResponse::from)
                 .collect(Collectors.toList()));
-        response.setIssueCount(project.getIssueCount());
-        response.setMemberCount(project.getMemberCount());
-        response.setProgressPercentage(project.getProgressPercentage());
+        response.setIssueCount(stats != null ? (int) stats.getIssueCount() : 0);
+        response.setMemberCount(stats != null ? (int) stats.getMemberCount() : response.getMembers().size());
+        response.setProgressPercentage(stats != null ? stats.getProgressPercentage() : 0.0);
         response.setCreatedAt(project.getCreatedAt());
         response.setUpdatedAt(project.getUpdatedAt());
         
@@ -144,27 +162,27 @@ public class ProjectResponse {
         this.members = members;
     }
     
-    public int getIssueCount() {
+    public Integer getIssueCount() {
         return issueCount;
     }
     
-    public void setIssueCount(int issueCount) {
+    public void setIssueCount(Integer issueCount) {
         this.issueCount = issueCount;
     }
     
-    public int getMemberCount() {
+    public Integer getMemberCount() {
         return memberCount;
     }
     
-    public void setMemberCount(int memberCount) {
+    public void setMemberCount(Integer memberCount) {
         this.memberCount = memberCount;
     }
     
-    public double getProgressPercentage() {
+    public Double getProgressPercentage() {
         return progressPercentage;
     }
     
-    public void setProgressPercentage(double progressPercentage) {
+    public void setProgressPercentage(Double progressPercentage) {
         this.progressPercentage = progressPercentage;
     }
     
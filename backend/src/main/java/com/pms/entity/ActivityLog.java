@@ -49,12 +49,13 @@ public class ActivityLog extends BaseEntity {
     @Column(name = "user_agent", length = 500)
     private String userAgent;
 
+    // 파티션 테이블은 외래 키를 가질 수 없다 (ActivityLogPartitionManager 참고)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "project_id")
+    @JoinColumn(name = "project_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Project project;
 
     // 편의 생성자
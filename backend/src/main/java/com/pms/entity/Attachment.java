@@ -9,10 +9,17 @@ import lombok.AllArgsConstructor;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
 
+import javax.imageio.ImageIO;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Entity
 @Table(name = "attachment", indexes = {
     @Index(name = "idx_issue_id", columnList = "issue_id"),
-    @Index(name = "idx_uploaded_by", columnList = "uploaded_by")
+    @Index(name = "idx_uploaded_by", columnList = "uploaded_by"),
+    @Index(name = "idx_content_hash", columnList = "content_hash")
 })
 @Getter
 @Setter
@@ -45,6 +52,15 @@ public class Attachment extends BaseEntity {
     @Column(name = "file_size")
     private Long fileSize;
 
+    // 내용 SHA-256 (hex) - 같은 내용의 첨부파일은 attachment_blob 의 파일 하나를 공유한다
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 썸네일을 만들 수 없다고 판정된 경우만 채운다 (null 이면 만들었거나 만들 예정) - ThumbnailService 가 해시 단위로 기록한다
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", length = 20)
+    private ThumbnailStatus thumbnailStatus;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "issue_id", nullable = false)
     private Issue issue;
@@ -75,6 +91,29 @@ public class Attachment extends BaseEntity {
         return extension.matches("jpg|jpeg|png|gif|bmp|webp");
     }
 
+    // 저장소에 올라간, 이 JVM 의 ImageIO 가 읽을 수 있는 이미지만 썸네일을 만든다 (ThumbnailService)
+    public boolean hasThumbnails() {
+        return contentHash != null && thumbnailStatus == null && isThumbnailSource(contentType);
+    }
+
+    public static boolean isThumbnailSource(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mimeType = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+        return THUMBNAIL_SOURCE_TYPES.contains(mimeType.toLowerCase(Locale.ROOT));
+    }
+
+    private static final Set<String> THUMBNAIL_SOURCE_TYPES = Arrays.stream(ImageIO.getReaderMIMETypes())
+            .map(type -> type.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+
+    public enum ThumbnailStatus {
+        UNSUPPORTED, // 읽을 수 있는 이미지가 아님 (형식 불일치, 손상)
+        FAILED       // 읽기/변환 실패 (원본이 너무 큼 등)
+    }
+
     public String getFormattedFileSize() {
         if (fileSize == null) return "Unknown size";
         
@@ -0,0 +1,38 @@
+package com.pms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 내용 주소 기반 첨부파일 저장소의 파일 하나
+ * 같은 내용을 참조하는 attachment 행 수를 refCount 로 세고, 0 이 된 파일은 유예 시간 뒤 정리한다.
+ */
+@Entity
+@Table(name = "attachment_blob", indexes = {
+    @Index(name = "idx_ref_count_updated_at", columnList = "ref_count, updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class AttachmentBlob extends BaseEntity {
+
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    public AttachmentBlob(String hash, Long size) {
+        this.hash = hash;
+        this.size = size;
+        this.refCount = 0;
+    }
+}
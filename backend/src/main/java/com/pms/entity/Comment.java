@@ -11,7 +11,7 @@ import lombok.EqualsAndHashCode;
 
 @Entity
 @Table(name = "comment", indexes = {
-    @Index(name = "idx_issue_id", columnList = "issue_id"),
+    @Index(name = "idx_issue_deleted_created", columnList = "issue_id, is_deleted, created_at, id"),
     @Index(name = "idx_author_id", columnList = "author_id"),
     @Index(name = "idx_created_at", columnList = "created_at")
 })
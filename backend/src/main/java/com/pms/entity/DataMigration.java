@@ -0,0 +1,29 @@
+package com.pms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번만 실행하는 데이터 보정 작업의 완료 표시
+ * 보정 작업(CommentCountInitializer 등)은 JDBC 로 직접 읽고 쓰며, 엔티티는 테이블 정의(스키마 생성/검증)에만 쓴다.
+ */
+@Entity
+@Table(name = "data_migration")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class DataMigration {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
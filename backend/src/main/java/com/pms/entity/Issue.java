@@ -26,7 +26,12 @@ import java.util.Set;
     @Index(name = "idx_priority", columnList = "priority"),
     @Index(name = "idx_parent_issue_id", columnList = "parent_issue_id"),
     @Index(name = "idx_created_at", columnList = "created_at"),
-    @Index(name = "idx_project_status_priority", columnList = "project_id, status, priority")
+    @Index(name = "idx_project_status_priority", columnList = "project_id, status, priority"),
+    @Index(name = "idx_project_status_position", columnList = "project_id, status, position"),
+    @Index(name = "idx_project_position", columnList = "project_id, position"),
+    @Index(name = "idx_project_created_at", columnList = "project_id, created_at"),
+    @Index(name = "idx_project_assignee_status", columnList = "project_id, assignee_id, status"),
+    @Index(name = "idx_project_due_date", columnList = "project_id, due_date")
 })
 @Getter
 @Setter
@@ -36,6 +41,8 @@ import java.util.Set;
 @ToString(exclude = {"project", "assignee", "reporter", "parentIssue", "subIssues", "comments", "attachments", "labels"})
 public class Issue extends BaseEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     public enum Status {
         TODO, IN_PROGRESS, IN_REVIEW, TESTING, DONE, CLOSED
     }
@@ -48,8 +55,10 @@ public class Issue extends BaseEntity {
         STORY, BUG, TASK, EPIC, SUBTASK
     }
 
+    // IDENTITY 는 INSERT 배치를 막으므로 pooled 시퀀스 사용 (MySQL 에서는 issue_seq 테이블로 에뮬레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_seq")
+    @SequenceGenerator(name = "issue_seq", sequenceName = "issue_seq", allocationSize = Issue.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -100,6 +109,23 @@ public class Issue extends BaseEntity {
     @Column(name = "position", nullable = false)
     private Integer position = 0;
 
+    // 삭제되지 않은 댓글 수 - CommentService 가 원자적 UPDATE 로만 바꾼다 (엔티티 저장이 덮어쓰지 않도록 updatable = false)
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount = 0;
+
+    // 서브태스크 집계 - SubtaskRollupService 가 원자적 UPDATE 로만 바꾸고, 어긋난 값은 주기 작업이 다시 센다
+    @Column(name = "subtask_count", nullable = false, updatable = false)
+    private int subtaskCount = 0;
+
+    @Column(name = "completed_subtask_count", nullable = false, updatable = false)
+    private int completedSubtaskCount = 0;
+
+    @Column(name = "subtask_story_points", nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal subtaskStoryPoints = BigDecimal.ZERO;
+
+    @Column(name = "completed_subtask_story_points", nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal completedSubtaskStoryPoints = BigDecimal.ZERO;
+
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
@@ -176,7 +202,7 @@ public class Issue extends BaseEntity {
     }
 
     public boolean hasSubIssues() {
-        return !subIssues.isEmpty();
+        return subtaskCount > 0;
     }
 
     public boolean isCompleted() {
@@ -219,16 +245,11 @@ public class Issue extends BaseEntity {
         this.subIssues = subtasks; // subtasks는 subIssues의 별칭
     }
 
-    public int getCompletedSubtaskCount() {
-        return (int) subIssues.stream()
-                .filter(Issue::isCompleted)
-                .count();
-    }
-
+    // 집계 컬럼에서 계산하므로 subIssues 를 읽지 않는다
     public double getSubtaskProgress() {
-        if (subIssues.isEmpty()) {
+        if (subtaskCount <= 0) {
             return 0.0;
         }
-        return (double) getCompletedSubtaskCount() / subIssues.size() * 100.0;
+        return (double) completedSubtaskCount / subtaskCount * 100.0;
     }
 } 
\ No newline at end of file
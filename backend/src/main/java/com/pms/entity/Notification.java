@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_is_read", columnList = "is_read"),
     @Index(name = "idx_created_at", columnList = "created_at"),
-    @Index(name = "idx_user_read_created", columnList = "user_id, is_read, created_at")
+    @Index(name = "idx_user_read_created", columnList = "user_id, is_read, created_at"),
+    @Index(name = "idx_user_created", columnList = "user_id, created_at")
 })
 @Getter
 @Setter
@@ -26,7 +27,7 @@ import java.time.LocalDateTime;
 public class Notification extends BaseEntity {
 
     public enum Type {
-        ISSUE_ASSIGNED, ISSUE_UPDATED, COMMENT_ADDED, PROJECT_INVITED, MENTION
+        ISSUE_ASSIGNED, ISSUE_UPDATED, ISSUE_STATUS_CHANGED, SUBTASK_CREATED, COMMENT_ADDED, PROJECT_INVITED, MENTION
     }
 
     @Id
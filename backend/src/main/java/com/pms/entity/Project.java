@@ -158,28 +158,11 @@ public class Project extends BaseEntity {
         this.status = Status.DELETED;
     }
 
-    // ProjectResponse에서 사용하는 편의 메서드들
-    public int getIssueCount() {
-        return issues.size();
-    }
-
+    // 이슈 수/진행률은 ProjectStats 에서 읽는다 (issues 컬렉션 전체 로딩 방지)
     public int getMemberCount() {
         return members.size();
     }
 
-    public double getProgressPercentage() {
-        if (issues.isEmpty()) {
-            return 0.0;
-        }
-        
-        long completedIssues = issues.stream()
-                .filter(issue -> issue.getStatus() == Issue.Status.DONE || 
-                               issue.getStatus() == Issue.Status.CLOSED)
-                .count();
-        
-        return (double) completedIssues / issues.size() * 100.0;
-    }
-
     public List<ProjectMember> getMembers() {
         return members;
     }
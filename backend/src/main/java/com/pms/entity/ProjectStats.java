@@ -0,0 +1,87 @@
+package com.pms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 통계 (상태별 이슈 수, 스토리 포인트 합계, 멤버 수)
+ * 이슈/멤버 변경 트랜잭션 안에서 증감 UPDATE 로 유지되며, 목록 조회 시 이슈 컬렉션을 읽지 않게 한다.
+ */
+@Entity
+@Table(name = "project_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ProjectStats {
+
+    @Id
+    @Column(name = "project_id")
+    @EqualsAndHashCode.Include
+    private Long projectId;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "in_review_count", nullable = false)
+    private long inReviewCount;
+
+    @Column(name = "testing_count", nullable = false)
+    private long testingCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    @Column(name = "closed_count", nullable = false)
+    private long closedCount;
+
+    @Column(name = "story_points_total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal storyPointsTotal = BigDecimal.ZERO;
+
+    @Column(name = "story_points_done", nullable = false, precision = 12, scale = 2)
+    private BigDecimal storyPointsDone = BigDecimal.ZERO;
+
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ProjectStats(Long projectId, long memberCount) {
+        this.projectId = projectId;
+        this.memberCount = memberCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public long getCount(Issue.Status status) {
+        return switch (status) {
+            case TODO -> todoCount;
+            case IN_PROGRESS -> inProgressCount;
+            case IN_REVIEW -> inReviewCount;
+            case TESTING -> testingCount;
+            case DONE -> doneCount;
+            case CLOSED -> closedCount;
+        };
+    }
+
+    public long getIssueCount() {
+        return todoCount + inProgressCount + inReviewCount + testingCount + doneCount + closedCount;
+    }
+
+    public double getProgressPercentage() {
+        long issueCount = getIssueCount();
+        if (issueCount == 0) {
+            return 0.0;
+        }
+        return (double) (doneCount + closedCount) / issueCount * 100.0;
+    }
+}
\ No newline at end of file
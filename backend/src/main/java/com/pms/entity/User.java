@@ -88,15 +88,22 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // LastLoginRecorder 가 주기적으로 일괄 반영한다
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
+    // 더 이상 갱신하지 않는다 - 로그인 실패 횟수는 Redis (LoginAttemptService) 에서 관리
     @Column(name = "failed_login_attempts", nullable = false)
     private Integer failedLoginAttempts = 0;
 
     @Column(name = "account_locked_until")
     private LocalDateTime accountLockedUntil;
 
+    // 비활성화/비밀번호 변경 등 보안 상태가 바뀔 때마다 증가 - 토큰의 sv 클레임과 비교한다
+    // 기존 행이 있는 테이블에도 컬럼을 추가할 수 있도록 DB 기본값 0 을 둔다
+    @Column(name = "security_version", nullable = false, columnDefinition = "integer default 0")
+    private Integer securityVersion = 0;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "user_role",
@@ -169,6 +176,10 @@ public class User extends BaseEntity implements UserDetails {
                 .anyMatch(role -> role.getName().equals(roleName));
     }
 
+    public void bumpSecurityVersion() {
+        this.securityVersion++;
+    }
+
     public void incrementFailedLoginAttempts() {
         this.failedLoginAttempts++;
     }
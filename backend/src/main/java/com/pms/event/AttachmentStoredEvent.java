@@ -0,0 +1,7 @@
+package com.pms.event;
+
+/**
+ * 첨부파일 저장 이벤트 - 커밋 이후 썸네일 생성 등 파생 작업에서 처리한다
+ */
+public record AttachmentStoredEvent(Long attachmentId, String contentHash, String contentType) {
+}
@@ -0,0 +1,46 @@
+package com.pms.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pms.entity.Issue;
+
+/**
+ * 칸반 보드 변경 델타 - 커밋 이후 /topic/projects/{projectId}/issues 로 보낸다
+ * 카드 표시에 필요한 필드만 담고, DELETED 는 issueId 만 채운다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IssueBoardEvent(Type type, Long projectId, Long issueId, Issue.Status status, Integer position,
+                              String title, Issue.Priority priority, Issue.Type issueType, Long assigneeId) {
+
+    public enum Type {
+        CREATED, UPDATED, MOVED, DELETED
+    }
+
+    public static IssueBoardEvent of(Type type, Issue issue) {
+        return new IssueBoardEvent(type, issue.getProject().getId(), issue.getId(), issue.getStatus(), issue.getPosition(),
+                issue.getTitle(), issue.getPriority(), issue.getType(),
+                issue.getAssignee() != null ? issue.getAssignee().getId() : null);
+    }
+
+    public static IssueBoardEvent deleted(Long projectId, Long issueId) {
+        return new IssueBoardEvent(Type.DELETED, projectId, issueId, null, null, null, null, null, null);
+    }
+
+    /**
+     * 같은 이슈의 연속된 델타를 하나로 합친다 - 필드는 최신 값을 쓰고 종류는 더 큰 변경을 남긴다
+     */
+    public IssueBoardEvent merge(IssueBoardEvent next) {
+        if (next.type == Type.DELETED || type == Type.DELETED) {
+            return next;
+        }
+        Type merged;
+        if (type == Type.CREATED) {
+            merged = Type.CREATED;
+        } else if (type == Type.UPDATED || next.type == Type.UPDATED || next.type == Type.CREATED) {
+            merged = Type.UPDATED;
+        } else {
+            merged = Type.MOVED;
+        }
+        return new IssueBoardEvent(merged, next.projectId, next.issueId, next.status, next.position,
+                next.title, next.priority, next.issueType, next.assigneeId);
+    }
+}
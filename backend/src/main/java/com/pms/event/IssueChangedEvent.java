@@ -0,0 +1,24 @@
+package com.pms.event;
+
+/**
+ * 이슈 생성/수정/삭제 이벤트 - 커밋 이후 리스너(검색 색인 등)에서 처리한다
+ * 리스너가 DB 를 다시 읽지 않도록 필요한 필드의 스냅샷을 담는다.
+ */
+public record IssueChangedEvent(Type type, Long issueId, Long projectId, String title, String description) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static IssueChangedEvent created(Long issueId, Long projectId, String title, String description) {
+        return new IssueChangedEvent(Type.CREATED, issueId, projectId, title, description);
+    }
+
+    public static IssueChangedEvent updated(Long issueId, Long projectId, String title, String description) {
+        return new IssueChangedEvent(Type.UPDATED, issueId, projectId, title, description);
+    }
+
+    public static IssueChangedEvent deleted(Long issueId, Long projectId) {
+        return new IssueChangedEvent(Type.DELETED, issueId, projectId, null, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pms.event;
+
+/**
+ * 프로젝트 멤버십 변경 이벤트 - 이 노드의 멤버십 캐시에 반영된 뒤(커밋 이후, 다른 노드는 무효화 메시지 수신 후) 발행된다
+ */
+public record MembershipChangedEvent(Long userId, Long projectId) {
+}
@@ -0,0 +1,13 @@
+package com.pms.event;
+
+import com.pms.entity.Notification;
+
+import java.util.Set;
+
+/**
+ * 알림 발송 이벤트 - 커밋 이후 NotificationService 가 수신자별 알림 행으로 펼친다
+ * actorId 는 변경한 사용자로, 수신자에서 제외된다.
+ */
+public record NotificationEvent(Notification.Type type, Long actorId, Long projectId, String entityType, Long entityId,
+                                String title, String message, Set<Long> recipientIds) {
+}
@@ -0,0 +1,31 @@
+package com.pms.repository;
+
+import com.pms.entity.AttachmentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    // 파일 생성/삭제는 이 행 잠금 안에서만 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.hash = :hash")
+    Optional<AttachmentBlob> findByHashForUpdate(@Param("hash") String hash);
+
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - :count, b.updatedAt = :now WHERE b.hash = :hash")
+    int release(@Param("hash") String hash, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    @Query("SELECT b.hash FROM AttachmentBlob b WHERE b.refCount <= 0 AND b.updatedAt < :cutoff ORDER BY b.updatedAt")
+    List<String> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.pms.repository;
+
+import com.pms.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    // 이슈 삭제 시 해제할 참조 수 - [contentHash, count]
+    @Query("SELECT a.contentHash, COUNT(a) FROM Attachment a " +
+           "WHERE a.issue.id IN :issueIds AND a.contentHash IS NOT NULL GROUP BY a.contentHash")
+    List<Object[]> countBlobReferences(@Param("issueIds") Collection<Long> issueIds);
+}
@@ -0,0 +1,40 @@
+package com.pms.repository;
+
+import com.pms.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 첫 페이지 - (issue_id, is_deleted, created_at, id) 인덱스를 순서대로 읽는다, 작성자는 함께 가져온다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.issue.id = :issueId AND c.isDeleted = false " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByIssue(@Param("issueId") Long issueId, Pageable pageable);
+
+    // 커서 이후 페이지 - OFFSET 없이 마지막 (created_at, id) 다음부터 읽는다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.issue.id = :issueId AND c.isDeleted = false " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByIssueAfter(@Param("issueId") Long issueId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    // 이슈 상세의 최근 댓글 - 같은 인덱스를 역순으로 읽는다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.issue.id = :issueId AND c.isDeleted = false " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByIssue(@Param("issueId") Long issueId, Pageable pageable);
+
+    // 이미 지워진 댓글이면 0 을 돌려준다 - 동시에 지워도 댓글 수는 한 번만 줄어든다
+    @Modifying
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.updatedAt = :now WHERE c.id = :id AND c.isDeleted = false")
+    int softDelete(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,43 @@
+package com.pms.repository;
+
+import com.pms.dto.request.IssueFilterRequest;
+import com.pms.dto.response.IssueCardResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 - 이전 페이지 마지막 행의 (정렬 값, id)
+ */
+public record IssueCursor(IssueFilterRequest.SortKey sort, Integer position, LocalDateTime createdAt, Long id) {
+
+    public static IssueCursor from(IssueCardResponse card, IssueFilterRequest.SortKey sort) {
+        return new IssueCursor(sort, card.getPosition(), card.getCreatedAt(), card.getId());
+    }
+
+    public String encode() {
+        String value = sort == IssueFilterRequest.SortKey.POSITION ? String.valueOf(position) : createdAt.toString();
+        String raw = sort.name() + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IssueCursor decode(String cursor, IssueFilterRequest.SortKey sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+
+            Long id = Long.parseLong(parts[2]);
+            if (sort == IssueFilterRequest.SortKey.POSITION) {
+                return new IssueCursor(sort, Integer.parseInt(parts[1]), null, id);
+            }
+            return new IssueCursor(sort, null, LocalDateTime.parse(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.pms.repository;
 
+import com.pms.dto.response.IssueCardResponse;
 import com.pms.entity.Issue;
 import com.pms.entity.Project;
 import com.pms.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, IssueRepositoryCustom {
+    
+    // 카드 프로젝션 - 프로젝트/담당자 엔티티를 로딩하지 않고 필요한 컬럼만 조회
+    String CARD_SELECT = "SELECT new com.pms.dto.response.IssueCardResponse(" +
+            "i.id, i.title, i.status, i.priority, i.type, p.id, p.key, " +
+            "a.id, a.name, a.nickname, a.avatarUrl, i.parentIssue.id, " +
+            "i.dueDate, i.storyPoints, i.position, i.commentCount, i.subtaskCount, i.completedSubtaskCount, " +
+            "i.createdAt, i.updatedAt) " +
+            "FROM Issue i JOIN i.project p LEFT JOIN i.assignee a ";
     
     Page<Issue> findByProject(Project project, Pageable pageable);
     
@@ -30,14 +43,28 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     
     List<Issue> findByProjectAndStatusOrderByPositionAsc(Project project, Issue.Status status);
     
+    // 칸반 위치 계산 - (project_id, status, position) 인덱스로 한 행만 읽는다
+    @Query("SELECT MAX(i.position) FROM Issue i WHERE i.project.id = :projectId AND i.status = :status")
+    Integer findMaxPosition(@Param("projectId") Long projectId, @Param("status") Issue.Status status);
+    
+    @Query("SELECT i.position FROM Issue i WHERE i.id = :issueId AND i.project.id = :projectId AND i.status = :status")
+    Optional<Integer> findPositionInColumn(@Param("issueId") Long issueId,
+                                           @Param("projectId") Long projectId,
+                                           @Param("status") Issue.Status status);
+    
+    @Query("SELECT MIN(i.position) FROM Issue i WHERE i.project.id = :projectId AND i.status = :status " +
+           "AND i.position > :position AND i.id <> :excludeId")
+    Integer findNextPosition(@Param("projectId") Long projectId, @Param("status") Issue.Status status,
+                             @Param("position") Integer position, @Param("excludeId") Long excludeId);
+    
+    @Query("SELECT MAX(i.position) FROM Issue i WHERE i.project.id = :projectId AND i.status = :status " +
+           "AND i.position < :position AND i.id <> :excludeId")
+    Integer findPreviousPosition(@Param("projectId") Long projectId, @Param("status") Issue.Status status,
+                                 @Param("position") Integer position, @Param("excludeId") Long excludeId);
+    
     @Query("SELECT i FROM Issue i WHERE i.assignee = :user AND i.dueDate <= :date AND i.status NOT IN ('DONE', 'CLOSED')")
     List<Issue> findUpcomingDueDatesByUser(@Param("user") User user, @Param("date") LocalDateTime date);
     
-    @Query("SELECT i FROM Issue i WHERE i.project = :project AND " +
-           "(LOWER(i.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(i.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    Page<Issue> searchByProject(@Param("project") Project project, @Param("query") String query, Pageable pageable);
-    
     @Query("SELECT i FROM Issue i WHERE i.project = :project AND i.status = :status AND i.priority = :priority")
     Page<Issue> findByProjectAndStatusAndPriority(@Param("project") Project project, 
                                                  @Param("status") Issue.Status status,
@@ -49,4 +76,54 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     
     @Query("SELECT i FROM Issue i WHERE i.parentIssue = :parentIssue ORDER BY i.position")
     List<Issue> findSubtasksByParentIssue(@Param("parentIssue") Issue parentIssue);
-} 
\ No newline at end of file
+    
+    @Query(value = CARD_SELECT + "WHERE p.id = :projectId",
+           countQuery = "SELECT COUNT(i) FROM Issue i WHERE i.project.id = :projectId")
+    Page<IssueCardResponse> findCardsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+    
+    @Query(value = CARD_SELECT + "WHERE p.id = :projectId AND i.status = :status",
+           countQuery = "SELECT COUNT(i) FROM Issue i WHERE i.project.id = :projectId AND i.status = :status")
+    Page<IssueCardResponse> findCardsByProjectIdAndStatus(@Param("projectId") Long projectId,
+                                                          @Param("status") Issue.Status status,
+                                                          Pageable pageable);
+    
+    @Query(CARD_SELECT + "WHERE i.id IN :issueIds")
+    List<IssueCardResponse> findCardsByIds(@Param("issueIds") Collection<Long> issueIds);
+    
+    @Query(value = CARD_SELECT + "WHERE a.id = :userId",
+           countQuery = "SELECT COUNT(i) FROM Issue i WHERE i.assignee.id = :userId")
+    Page<IssueCardResponse> findCardsByAssigneeId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(value = CARD_SELECT + "WHERE i.reporter.id = :userId",
+           countQuery = "SELECT COUNT(i) FROM Issue i WHERE i.reporter.id = :userId")
+    Page<IssueCardResponse> findCardsByReporterId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(CARD_SELECT + "WHERE p.id = :projectId ORDER BY i.position ASC, i.id ASC")
+    List<IssueCardResponse> findKanbanCardsByProjectId(@Param("projectId") Long projectId);
+    
+    // 일괄 라벨 변경용 - 이슈마다 라벨 컬렉션을 따로 읽지 않도록 함께 가져온다
+    @Query("SELECT DISTINCT i FROM Issue i LEFT JOIN FETCH i.labels WHERE i.id IN :issueIds")
+    List<Issue> findAllWithLabelsByIdIn(@Param("issueIds") Collection<Long> issueIds);
+    
+    // 카드 라벨 - [issueId, labelId], 서브태스크 수는 카드 프로젝션이 부모 행의 집계 컬럼에서 읽는다
+    @Query("SELECT i.id, l.id FROM Issue i JOIN i.labels l WHERE i.id IN :issueIds")
+    List<Object[]> findCardLabelsByIssueIds(@Param("issueIds") Collection<Long> issueIds);
+    
+    // 댓글 수는 읽고-쓰기 없이 DB 에서 바로 더하고 뺀다
+    @Modifying
+    @Query("UPDATE Issue i SET i.commentCount = i.commentCount + :delta WHERE i.id = :issueId")
+    int adjustCommentCount(@Param("issueId") Long issueId, @Param("delta") int delta);
+    
+    // 부모 이슈의 서브태스크 집계 증감
+    @Modifying
+    @Query("UPDATE Issue i SET i.subtaskCount = i.subtaskCount + :count, " +
+           "i.completedSubtaskCount = i.completedSubtaskCount + :completed, " +
+           "i.subtaskStoryPoints = i.subtaskStoryPoints + :storyPoints, " +
+           "i.completedSubtaskStoryPoints = i.completedSubtaskStoryPoints + :completedStoryPoints " +
+           "WHERE i.id = :parentIssueId")
+    int adjustSubtaskRollup(@Param("parentIssueId") Long parentIssueId,
+                            @Param("count") int count,
+                            @Param("completed") int completed,
+                            @Param("storyPoints") BigDecimal storyPoints,
+                            @Param("completedStoryPoints") BigDecimal completedStoryPoints);
+}
@@ -0,0 +1,14 @@
+package com.pms.repository;
+
+import com.pms.dto.request.IssueFilterRequest;
+import com.pms.dto.response.IssueCardResponse;
+
+import java.util.List;
+
+public interface IssueRepositoryCustom {
+
+    /**
+     * 필터 조건에 맞는 카드를 after 커서 다음부터 최대 limit 개 조회한다 (OFFSET 미사용)
+     */
+    List<IssueCardResponse> findCardsByFilter(Long projectId, IssueFilterRequest filter, IssueCursor after, int limit);
+}
@@ -0,0 +1,108 @@
+package com.pms.repository;
+
+import com.pms.dto.request.IssueFilterRequest;
+import com.pms.dto.response.IssueCardResponse;
+import com.pms.entity.QIssue;
+import com.pms.entity.QProject;
+import com.pms.entity.QUser;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+public class IssueRepositoryImpl implements IssueRepositoryCustom {
+
+    private static final QIssue issue = QIssue.issue;
+    private static final QProject project = QProject.project;
+    private static final QUser assignee = new QUser("assignee");
+
+    private final JPAQueryFactory queryFactory;
+
+    public IssueRepositoryImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public List<IssueCardResponse> findCardsByFilter(Long projectId, IssueFilterRequest filter,
+                                                     IssueCursor after, int limit) {
+        return queryFactory
+                .select(Projections.constructor(IssueCardResponse.class,
+                        issue.id, issue.title, issue.status, issue.priority, issue.type,
+                        project.id, project.key,
+                        assignee.id, assignee.name, assignee.nickname, assignee.avatarUrl,
+                        issue.parentIssue.id, issue.dueDate, issue.storyPoints, issue.position,
+                        issue.commentCount, issue.subtaskCount, issue.completedSubtaskCount,
+                        issue.createdAt, issue.updatedAt))
+                .from(issue)
+                .join(issue.project, project)
+                .leftJoin(issue.assignee, assignee)
+                .where(project.id.eq(projectId), filterPredicate(filter), seekPredicate(after))
+                .orderBy(orderSpecifiers(filter.getSort()))
+                .limit(limit)
+                .fetch();
+    }
+
+    private Predicate filterPredicate(IssueFilterRequest filter) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            builder.and(issue.status.in(filter.getStatuses()));
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            builder.and(issue.priority.in(filter.getPriorities()));
+        }
+        if (filter.getTypes() != null && !filter.getTypes().isEmpty()) {
+            builder.and(issue.type.in(filter.getTypes()));
+        }
+        if (Boolean.TRUE.equals(filter.getUnassigned())) {
+            builder.and(issue.assignee.isNull());
+        } else if (filter.getAssigneeId() != null) {
+            builder.and(issue.assignee.id.eq(filter.getAssigneeId()));
+        }
+        if (filter.getReporterId() != null) {
+            builder.and(issue.reporter.id.eq(filter.getReporterId()));
+        }
+        if (filter.getLabelIds() != null && !filter.getLabelIds().isEmpty()) {
+            // 라벨 중 하나라도 붙어 있으면 포함 (EXISTS 서브쿼리)
+            builder.and(issue.labels.any().id.in(filter.getLabelIds()));
+        }
+        if (filter.getDueFrom() != null) {
+            builder.and(issue.dueDate.goe(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            builder.and(issue.dueDate.lt(filter.getDueTo()));
+        }
+        if (filter.getParentIssueId() != null) {
+            builder.and(issue.parentIssue.id.eq(filter.getParentIssueId()));
+        } else if (Boolean.TRUE.equals(filter.getTopLevelOnly())) {
+            builder.and(issue.parentIssue.isNull());
+        }
+
+        return builder;
+    }
+
+    // 이전 페이지 마지막 행 이후만 조회 - 정렬 인덱스를 그대로 타고 들어간다
+    private Predicate seekPredicate(IssueCursor after) {
+        if (after == null) {
+            return null;
+        }
+
+        if (after.sort() == IssueFilterRequest.SortKey.POSITION) {
+            return issue.position.gt(after.position())
+                    .or(issue.position.eq(after.position()).and(issue.id.gt(after.id())));
+        }
+        return issue.createdAt.lt(after.createdAt())
+                .or(issue.createdAt.eq(after.createdAt()).and(issue.id.lt(after.id())));
+    }
+
+    private OrderSpecifier<?>[] orderSpecifiers(IssueFilterRequest.SortKey sort) {
+        if (sort == IssueFilterRequest.SortKey.CREATED_AT) {
+            return new OrderSpecifier<?>[] { issue.createdAt.desc(), issue.id.desc() };
+        }
+        return new OrderSpecifier<?>[] { issue.position.asc(), issue.id.asc() };
+    }
+}
@@ -0,0 +1,49 @@
+package com.pms.repository;
+
+import com.pms.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 알림함 첫 페이지 - (user_id, created_at) 인덱스를 역순으로 읽는다
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (:unreadOnly = false OR n.isRead = false) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInbox(@Param("userId") Long userId,
+                                 @Param("unreadOnly") boolean unreadOnly,
+                                 Pageable pageable);
+
+    // 커서 이후 페이지 - OFFSET 없이 마지막 (created_at, id) 다음부터 읽는다
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (:unreadOnly = false OR n.isRead = false) " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxAfter(@Param("userId") Long userId,
+                                      @Param("unreadOnly") boolean unreadOnly,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    // Redis 카운터가 없을 때만 쓰인다
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnread(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now, n.updatedAt = :now " +
+           "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markAsRead(@Param("userId") Long userId, @Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now, n.updatedAt = :now " +
+           "WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.pms.repository;
+
+import com.pms.entity.ProjectMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+
+    // 삭제된 프로젝트의 멤버는 멤버가 아닌 것으로 본다
+    @Query("SELECT pm.role FROM ProjectMember pm " +
+           "WHERE pm.user.id = :userId AND pm.project.id = :projectId AND pm.project.status <> 'DELETED'")
+    Optional<ProjectMember.Role> findRoleByUserIdAndProjectId(@Param("userId") Long userId,
+                                                              @Param("projectId") Long projectId);
+
+    // 프로젝트 응답용 - 여러 프로젝트의 멤버와 사용자를 쿼리 한 번으로 읽는다
+    @Query("SELECT pm FROM ProjectMember pm JOIN FETCH pm.user WHERE pm.project.id IN :projectIds ORDER BY pm.id")
+    List<ProjectMember> findWithUserByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+}
@@ -0,0 +1,45 @@
+package com.pms.repository;
+
+import com.pms.entity.ProjectStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+
+    List<ProjectStats> findByProjectIdIn(Collection<Long> projectIds);
+
+    // 증감 UPDATE - 행 잠금 안에서 원자적으로 반영된다
+    @Modifying
+    @Query("UPDATE ProjectStats s SET " +
+           "s.todoCount = s.todoCount + :todo, " +
+           "s.inProgressCount = s.inProgressCount + :inProgress, " +
+           "s.inReviewCount = s.inReviewCount + :inReview, " +
+           "s.testingCount = s.testingCount + :testing, " +
+           "s.doneCount = s.doneCount + :done, " +
+           "s.closedCount = s.closedCount + :closed, " +
+           "s.storyPointsTotal = s.storyPointsTotal + :storyPoints, " +
+           "s.storyPointsDone = s.storyPointsDone + :doneStoryPoints, " +
+           "s.memberCount = s.memberCount + :members, " +
+           "s.updatedAt = :now " +
+           "WHERE s.projectId = :projectId")
+    int applyDelta(@Param("projectId") Long projectId,
+                   @Param("todo") long todo,
+                   @Param("inProgress") long inProgress,
+                   @Param("inReview") long inReview,
+                   @Param("testing") long testing,
+                   @Param("done") long done,
+                   @Param("closed") long closed,
+                   @Param("storyPoints") BigDecimal storyPoints,
+                   @Param("doneStoryPoints") BigDecimal doneStoryPoints,
+                   @Param("members") long members,
+                   @Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -41,4 +41,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.isActive = true")
     Page<User> findActiveUsers(Pageable pageable);
+    
+    // 토큰 인증 모드에서 사용 - 역할 조인 없이 보안 버전만 읽는다
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findSecurityVersionById(@Param("userId") Long userId);
 } 
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.pms.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해싱 전용 스레드 풀에서 encode/matches 를 실행하는 PasswordEncoder
+ * 로그인이 몰려도 해싱에 쓰는 CPU 는 풀 크기로 제한되고, 대기열이 차거나 대기 시간을 넘기면
+ * 바로 PasswordHashingBusyException 을 던져 요청 스레드가 오래 묶이지 않게 한다.
+ * 앞선 작업 수와 평균 해싱 시간으로 본 예상 대기가 이미 대기 한도를 넘으면 제출하지 않고 바로 거절한다 -
+ * 어차피 시간 초과로 끝날 요청이 한도만큼 요청 스레드를 붙잡고 있지 않게 한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    static final String POOL_NAME = "password-hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final int retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+    private final Counter overloadedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  Duration waitTimeout, int retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, POOL_NAME + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // executor.queued / executor.active / executor.completed 등 풀 지표
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, POOL_NAME);
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").tag("reason", "queue-full").register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hashing.rejected").tag("reason", "timeout").register(meterRegistry);
+        this.overloadedCounter = Counter.builder("password.hashing.rejected").tag("reason", "expected-wait").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 문자열의 접두사/강도만 확인하므로 풀을 거치지 않는다
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        if (expectedWaitMillis(timer) > waitTimeoutMillis) {
+            overloadedCounter.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    /**
+     * 지금 제출하면 끝날 때까지 걸릴 예상 시간 - 앞선 작업이 풀 크기만큼씩 차례로 끝난다고 본다.
+     * 아직 측정값이 없으면 0 (대기열 한도와 시간 초과만 적용)
+     */
+    private double expectedWaitMillis(Timer timer) {
+        double meanMillis = timer.mean(TimeUnit.MILLISECONDS);
+        if (meanMillis <= 0) {
+            return 0;
+        }
+        int ahead = executor.getQueue().size() + executor.getActiveCount();
+        return (ahead / executor.getMaximumPoolSize() + 1) * meanMillis;
+    }
+}
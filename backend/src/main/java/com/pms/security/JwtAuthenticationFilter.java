@@ -1,6 +1,9 @@
 package com.pms.security;
 
+import com.pms.entity.Role;
+import com.pms.entity.User;
 import com.pms.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,8 +11,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,6 +22,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -33,7 +40,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private UserService userService;
     
     @Autowired
-    private RedisTemplate<String, String> redisTemplate;
+    private TokenBlacklist tokenBlacklist;
+    
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    
+    @Autowired
+    private SecurityVersionCache securityVersionCache;
+    
+    // true 면 사용자 테이블 대신 토큰 클레임으로 인증 주체를 만든다
+    @Value("${jwt.principal-from-token.enabled:false}")
+    private boolean principalFromToken;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -43,17 +60,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                // 토큰이 블랙리스트에 있는지 확인
-                if (isTokenBlacklisted(jwt)) {
-                    logger.warn("Attempting to use blacklisted token");
-                    filterChain.doFilter(request, response);
-                    return;
-                }
-                
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                
-                UserDetails userDetails = userService.loadUserByUserId(userId);
+            if (StringUtils.hasText(jwt)) {
+                UserDetails userDetails = resolvePrincipal(jwt);
                 
                 if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication = 
@@ -70,6 +78,81 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 액세스 토큰으로 인증 주체를 찾는다 - 유효하지 않으면 null (WebSocket CONNECT 인증에서도 사용)
+     */
+    public UserDetails resolvePrincipal(String jwt) {
+        // 이미 검증된 토큰이면 서명 검증, 블랙리스트 조회, 사용자 조회를 생략한다
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(jwt);
+        if (verified != null) {
+            if (principalFromToken && !isSecurityVersionCurrent(verified.userId(), verified.claims())) {
+                return null;
+            }
+            return verified.principal();
+        }
+        
+        Claims claims = tokenProvider.parseAccessToken(jwt);
+        if (claims == null) {
+            return null;
+        }
+        
+        // 토큰이 블랙리스트에 있는지 확인
+        if (tokenBlacklist.isBlacklisted(jwt)) {
+            logger.warn("Attempting to use blacklisted token");
+            return null;
+        }
+        
+        Long userId = Long.parseLong(claims.getSubject());
+        
+        UserDetails userDetails;
+        if (principalFromToken) {
+            if (!isSecurityVersionCurrent(userId, claims)) {
+                return null;
+            }
+            userDetails = principalFromClaims(userId, claims);
+        } else {
+            userDetails = userService.loadUserByUserId(userId);
+        }
+        
+        if (userDetails != null) {
+            verifiedTokenCache.put(jwt, userId, claims, userDetails);
+        }
+        return userDetails;
+    }
+    
+    private boolean isSecurityVersionCurrent(Long userId, Claims claims) {
+        Integer tokenVersion = claims.get(JwtTokenProvider.SECURITY_VERSION_CLAIM, Integer.class);
+        if (securityVersionCache.isCurrent(userId, tokenVersion != null ? tokenVersion : 0)) {
+            return true;
+        }
+        logger.debug("Rejecting token with stale security version for user {}", userId);
+        return false;
+    }
+    
+    /**
+     * 토큰 클레임만으로 인증 주체를 만든다 - 영속 상태가 아닌 User 이므로 ID/이메일/역할만 채워진다
+     */
+    private User principalFromClaims(Long userId, Claims claims) {
+        User user = new User();
+        user.setId(userId);
+        user.setEmail(claims.get("email", String.class));
+        user.setEmailVerified(true);
+        user.setIsActive(true);
+        
+        // Role 은 ID 로 비교하므로 ID 없는 역할이 하나로 합쳐지지 않도록 identity 기반 Set 을 쓴다
+        Set<Role> roles = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<?> roleNames = claims.get("roles", List.class);
+        if (roleNames != null) {
+            for (Object roleName : roleNames) {
+                Role role = new Role();
+                role.setName(String.valueOf(roleName));
+                roles.add(role);
+            }
+        }
+        user.setRoles(roles);
+        return user;
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -77,13 +160,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-    
-    private boolean isTokenBlacklisted(String token) {
-        try {
-            return Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + token));
-        } catch (Exception ex) {
-            logger.error("Error checking token blacklist", ex);
-            return false;
-        }
-    }
-} 
\ No newline at end of file
+}  
\ No newline at end of file
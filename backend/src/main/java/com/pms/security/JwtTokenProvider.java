@@ -17,6 +17,8 @@ public class JwtTokenProvider {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
     
+    public static final String SECURITY_VERSION_CLAIM = "sv";
+    
     @Value("${jwt.secret}")
     private String jwtSecret;
     
@@ -29,15 +31,57 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")  
     private int refreshTokenValidityInSeconds;
     
+    // 키와 파서는 불변이므로 한 번만 만들어 재사용한다
+    private volatile SecretKey signingKey;
+    private volatile SecretKey refreshSigningKey;
+    private volatile JwtParser accessTokenParser;
+    private volatile JwtParser refreshTokenParser;
+    
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            signingKey = key;
+        }
+        return key;
     }
     
     private SecretKey getRefreshSigningKey() {
-        return Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+        SecretKey key = refreshSigningKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+            refreshSigningKey = key;
+        }
+        return key;
+    }
+    
+    private JwtParser getAccessTokenParser() {
+        JwtParser parser = accessTokenParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            accessTokenParser = parser;
+        }
+        return parser;
+    }
+    
+    private JwtParser getRefreshTokenParser() {
+        JwtParser parser = refreshTokenParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getRefreshSigningKey())
+                    .build();
+            refreshTokenParser = parser;
+        }
+        return parser;
     }
     
     public String createAccessToken(Long userId, String email, List<String> roles) {
+        return createAccessToken(userId, email, roles, 0);
+    }
+    
+    public String createAccessToken(Long userId, String email, List<String> roles, int securityVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenValidityInSeconds * 1000L);
         
@@ -45,6 +89,7 @@ public class JwtTokenProvider {
                 .subject(userId.toString())
                 .claim("email", email)
                 .claim("roles", roles)
+                .claim(SECURITY_VERSION_CLAIM, securityVersion)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .audience().add("project-management-system").and()
@@ -69,9 +114,7 @@ public class JwtTokenProvider {
     }
     
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        Claims claims = getAccessTokenParser()
                 .parseSignedClaims(token)
                 .getPayload();
         
@@ -79,9 +122,7 @@ public class JwtTokenProvider {
     }
     
     public Long getUserIdFromRefreshToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getRefreshSigningKey())
-                .build()
+        Claims claims = getRefreshTokenParser()
                 .parseSignedClaims(token)
                 .getPayload();
         
@@ -89,9 +130,7 @@ public class JwtTokenProvider {
     }
     
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        Claims claims = getAccessTokenParser()
                 .parseSignedClaims(token)
                 .getPayload();
         
@@ -100,22 +139,22 @@ public class JwtTokenProvider {
     
     @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        Claims claims = getAccessTokenParser()
                 .parseSignedClaims(token)
                 .getPayload();
         
         return claims.get("roles", List.class);
     }
     
-    public boolean validateToken(String token) {
+    /**
+     * 액세스 토큰의 서명을 한 번 검증하고 클레임을 반환한다.
+     * 유효하지 않은 토큰이면 null 을 반환한다.
+     */
+    public Claims parseAccessToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return getAccessTokenParser()
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (MalformedJwtException ex) {
             logger.error("Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
@@ -127,14 +166,16 @@ public class JwtTokenProvider {
         } catch (JwtException ex) {
             logger.error("JWT token validation error: {}", ex.getMessage());
         }
-        return false;
+        return null;
+    }
+    
+    public boolean validateToken(String token) {
+        return parseAccessToken(token) != null;
     }
     
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getRefreshSigningKey())
-                    .build()
+            getRefreshTokenParser()
                     .parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException ex) {
@@ -144,9 +185,7 @@ public class JwtTokenProvider {
     }
     
     public long getRemainingTime(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        Claims claims = getAccessTokenParser()
                 .parseSignedClaims(token)
                 .getPayload();
         
@@ -157,9 +196,7 @@ public class JwtTokenProvider {
     }
     
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        Claims claims = getAccessTokenParser()
                 .parseSignedClaims(token)
                 .getPayload();
         
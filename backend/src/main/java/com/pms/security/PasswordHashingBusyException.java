@@ -0,0 +1,18 @@
+package com.pms.security;
+
+/**
+ * 비밀번호 해싱 풀이 포화되어 요청을 받지 못할 때 발생 - 503 + Retry-After 로 응답한다
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashingBusyException(int retryAfterSeconds) {
+        super("Authentication is temporarily busy, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
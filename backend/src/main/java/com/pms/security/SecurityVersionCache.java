@@ -0,0 +1,51 @@
+package com.pms.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pms.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 보안 버전 캐시
+ * 토큰 인증 모드에서 토큰의 sv 클레임을 현재 보안 버전과 비교할 때 사용한다.
+ * 값은 version-ttl 동안만 보관하므로, 무효화 메시지를 놓친 노드도 그 안에 변경을 반영한다.
+ */
+@Component
+public class SecurityVersionCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.principal-from-token.version-ttl:30s}")
+    private Duration versionTtl;
+
+    @Value("${jwt.principal-from-token.max-size:100000}")
+    private long maxSize;
+
+    private Cache<Long, Integer> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(versionTtl)
+                .build();
+    }
+
+    /**
+     * 토큰에 담긴 보안 버전이 현재 값과 같은지 확인한다 - 없는 사용자면 false
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = cache.get(userId, id -> userRepository.findSecurityVersionById(id).orElse(null));
+        return current != null && current == tokenVersion;
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.pms.security;
+
+import com.pms.entity.User;
+import com.pms.service.BoardUpdateBroadcaster;
+import com.pms.service.ProjectService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+/**
+ * STOMP 인증/인가
+ * - CONNECT: Authorization 헤더(Bearer 토큰)를 HTTP 요청과 같은 방식으로 검증해 세션 사용자로 둔다
+ * - SUBSCRIBE: /topic/projects/{projectId}/issues 는 프로젝트 멤버만 구독할 수 있다
+ *   (구독 후 멤버에서 빠지면 StompSubscriptionRevoker 가 구독을 끊는다)
+ * - SEND: 클라이언트가 브로커 대상(/topic)으로 직접 보내는 것은 막는다
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    @Autowired
+    @Lazy
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    @Lazy
+    private ProjectService projectService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> accessor.setUser(authenticate(accessor));
+            case SUBSCRIBE -> authorizeSubscription(accessor);
+            case SEND -> {
+                String destination = accessor.getDestination();
+                if (destination == null || destination.startsWith("/topic")) {
+                    throw new AccessDeniedException("Sending to broker destinations is not allowed");
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Missing access token");
+        }
+
+        UserDetails userDetails = jwtAuthenticationFilter.resolvePrincipal(bearerToken.substring(7));
+        if (userDetails == null) {
+            throw new BadCredentialsException("Invalid access token");
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        Long userId = userId(accessor.getUser());
+        Long projectId = BoardUpdateBroadcaster.projectIdOf(accessor.getDestination());
+        if (userId == null || projectId == null || !projectService.isUserMemberOfProject(userId, projectId)) {
+            throw new AccessDeniedException("Not allowed to subscribe to " + accessor.getDestination());
+        }
+    }
+
+    static Long userId(Principal principal) {
+        if (principal instanceof UsernamePasswordAuthenticationToken authentication
+                && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
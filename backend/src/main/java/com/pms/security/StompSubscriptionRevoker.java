@@ -0,0 +1,72 @@
+package com.pms.security;
+
+import com.pms.event.MembershipChangedEvent;
+import com.pms.service.BoardUpdateBroadcaster;
+import com.pms.service.ProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 멤버십이 바뀌면 이 노드에 열린 해당 사용자의 프로젝트 보드 구독을 다시 확인한다.
+ * SUBSCRIBE 때만 멤버 여부를 보므로, 멤버에서 빠진(또는 프로젝트가 삭제된) 사용자의 구독은 브로커에서 직접 해지해
+ * 이후 보드 변경이 더 전달되지 않게 한다. 다른 노드의 변경도 ProjectMembershipCache 의 무효화 메시지로 들어온다.
+ */
+@Component
+public class StompSubscriptionRevoker {
+
+    private static final Logger logger = LoggerFactory.getLogger(StompSubscriptionRevoker.class);
+
+    // WebSocket 설정이 이 빈들을 만들기 전에 생성되므로 지연 주입한다
+    @Autowired
+    @Lazy
+    private SimpUserRegistry simpUserRegistry;
+
+    @Autowired
+    @Lazy
+    @Qualifier("brokerChannel")
+    private MessageChannel brokerChannel;
+
+    @Autowired
+    @Lazy
+    private ProjectService projectService;
+
+    @EventListener
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        String topic = BoardUpdateBroadcaster.topic(event.projectId());
+        Set<SimpSubscription> subscriptions = simpUserRegistry.findSubscriptions(subscription ->
+                topic.equals(subscription.getDestination())
+                        && Objects.equals(event.userId(), userId(subscription.getSession().getUser())));
+        if (subscriptions.isEmpty() || projectService.isUserMemberOfProject(event.userId(), event.projectId())) {
+            return;
+        }
+
+        for (SimpSubscription subscription : subscriptions) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+            accessor.setSessionId(subscription.getSession().getId());
+            accessor.setSubscriptionId(subscription.getId());
+            accessor.setDestination(topic);
+            brokerChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+        logger.info("Revoked {} board subscription(s) of user {} on project {}",
+                subscriptions.size(), event.userId(), event.projectId());
+    }
+
+    private static Long userId(SimpUser user) {
+        return user != null ? StompAuthChannelInterceptor.userId(user.getPrincipal()) : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.pms.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 시간 버킷 단위로 나뉜 Bloom 필터
+ * 삽입 시각이 속한 버킷에 기록하고, 버킷 종료 후 retention 이 지나면 해당 버킷을 통째로 버린다.
+ * 거짓 양성은 있을 수 있지만 retention 안에서는 거짓 음성이 없다.
+ */
+class TimeBucketedBloomFilter {
+
+    private final long bucketMillis;
+    private final int retainedBuckets;
+    private final int numBits;
+    private final int numHashes;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    TimeBucketedBloomFilter(Duration retention, Duration bucketSize,
+                            int expectedInsertionsPerBucket, double falsePositiveRate) {
+        this.bucketMillis = bucketSize.toMillis();
+        // 현재 버킷 이전으로 몇 개의 버킷을 더 유지해야 retention 을 덮는지
+        this.retainedBuckets = (int) ((retention.toMillis() + bucketMillis - 1) / bucketMillis);
+        this.ring = new AtomicReferenceArray<>(retainedBuckets + 1);
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertionsPerBucket * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.numBits = (int) Math.max(64, ((bits + 63) / 64) * 64);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertionsPerBucket * ln2));
+    }
+
+    void put(long hash1, long hash2, long nowMillis) {
+        Bucket bucket = bucketFor(nowMillis / bucketMillis);
+        for (int i = 0; i < numHashes; i++) {
+            int index = index(hash1, hash2, i);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            do {
+                current = bucket.bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bucket.bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long hash1, long hash2, long nowMillis) {
+        long currentEpoch = nowMillis / bucketMillis;
+        for (int slot = 0; slot < ring.length(); slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket == null || bucket.epoch < currentEpoch - retainedBuckets) {
+                continue;
+            }
+            if (contains(bucket, hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int getNumBits() {
+        return numBits;
+    }
+
+    int getNumHashes() {
+        return numHashes;
+    }
+
+    private boolean contains(Bucket bucket, long hash1, long hash2) {
+        for (int i = 0; i < numHashes; i++) {
+            int index = index(hash1, hash2, i);
+            if ((bucket.bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) ring.length());
+        while (true) {
+            Bucket existing = ring.get(slot);
+            // 시계가 약간 뒤처진 호출은 더 최근 버킷에 기록해도 보존 기간만 늘어날 뿐이다
+            if (existing != null && existing.epoch >= epoch) {
+                return existing;
+            }
+            Bucket fresh = new Bucket(epoch, numBits / 64);
+            if (ring.compareAndSet(slot, existing, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    // Kirsch-Mitzenmacher 이중 해싱
+    private int index(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) numBits);
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final AtomicLongArray bits;
+
+        private Bucket(long epoch, int words) {
+            this.epoch = epoch;
+            this.bits = new AtomicLongArray(words);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.pms.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 액세스 토큰 블랙리스트
+ * Redis 의 blacklist:&lt;token&gt; 키가 원본이고, 노드마다 시간 버킷 Bloom 필터를 앞에 두어
+ * 필터에 걸린 토큰만 Redis 에 확인한다. 새 항목은 Redis Pub/Sub 으로 전파되며,
+ * 초기 적재(SCAN)가 끝나기 전에는 모든 조회를 Redis 로 보낸다.
+ */
+@Component
+public class TokenBlacklist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenBlacklist.class);
+
+    static final String KEY_PREFIX = "blacklist:";
+    static final String CHANNEL = "auth:blacklist:add";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${jwt.access-token-validity}")
+    private int accessTokenValidityInSeconds;
+
+    @Value("${jwt.blacklist.bucket-size:5m}")
+    private Duration bucketSize;
+
+    @Value("${jwt.blacklist.expected-insertions:50000}")
+    private int expectedInsertionsPerBucket;
+
+    @Value("${jwt.blacklist.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private TimeBucketedBloomFilter filter;
+
+    private volatile boolean warmedUp = false;
+
+    @PostConstruct
+    void init() {
+        filter = new TimeBucketedBloomFilter(Duration.ofSeconds(accessTokenValidityInSeconds), bucketSize,
+                expectedInsertionsPerBucket, falsePositiveRate);
+
+        // 초기 적재 전에 구독해야 그 사이에 추가된 항목을 놓치지 않는다
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    public void add(String token, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + token, "true", ttl);
+
+        long[] hash = hash(token);
+        filter.put(hash[0], hash[1], System.currentTimeMillis());
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + hash[0] + ":" + hash[1]);
+        } catch (Exception ex) {
+            // 다른 노드는 다음 동기화 때 반영된다
+            logger.error("Failed to publish blacklist entry", ex);
+        }
+    }
+
+    public boolean isBlacklisted(String token) {
+        if (warmedUp) {
+            long[] hash = hash(token);
+            if (!filter.mightContain(hash[0], hash[1], System.currentTimeMillis())) {
+                return false;
+            }
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + token));
+        } catch (Exception ex) {
+            logger.error("Error checking token blacklist", ex);
+            return false;
+        }
+    }
+
+    /**
+     * Redis 의 블랙리스트 키를 필터에 적재한다.
+     * 기동 직후 한 번 실행되고, 유실된 Pub/Sub 메시지를 보정하기 위해 주기적으로 다시 실행된다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.resync-interval-ms:300000}")
+    public void synchronize() {
+        try {
+            long now = System.currentTimeMillis();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            Long loaded = redisTemplate.execute((RedisCallback<Long>) connection -> scanInto(connection, options, now));
+
+            if (!warmedUp) {
+                logger.info("Token blacklist filter warmed up with {} entries", loaded);
+            }
+            warmedUp = true;
+        } catch (Exception ex) {
+            logger.error("Failed to synchronize token blacklist filter", ex);
+        }
+    }
+
+    boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    private Long scanInto(RedisConnection connection, ScanOptions options, long now) {
+        long count = 0;
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                long[] hash = hash(key.substring(KEY_PREFIX.length()));
+                filter.put(hash[0], hash[1], now);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void onBroadcast(String payload) {
+        try {
+            String[] parts = payload.split("\\|");
+            if (parts.length != 2 || nodeId.equals(parts[0])) {
+                return;
+            }
+
+            String[] hash = parts[1].split(":");
+            filter.put(Long.parseLong(hash[0]), Long.parseLong(hash[1]), System.currentTimeMillis());
+        } catch (Exception ex) {
+            logger.error("Invalid blacklist broadcast message: {}", payload, ex);
+        }
+    }
+
+    static long[] hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new long[] { buffer.getLong(), buffer.getLong() };
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
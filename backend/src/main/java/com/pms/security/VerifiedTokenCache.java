@@ -0,0 +1,169 @@
+package com.pms.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰 캐시
+ * 토큰별로 클레임과 인증 주체를 보관하고, 토큰 만료 시각에 맞춰 제거한다.
+ * 로그아웃/계정 비활성화 시 Redis Pub/Sub 으로 다른 노드의 캐시도 무효화한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    static final String INVALIDATION_CHANNEL = "auth:token-cache:invalidate";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private SecurityVersionCache securityVersionCache;
+
+    @Value("${jwt.token-cache.max-size:50000}")
+    private long maxSize;
+
+    private Cache<String, VerifiedToken> cache;
+
+    // 검증 도중 무효화된 토큰이 다시 캐시에 들어가지 않도록 잠시 기억해 둔다
+    private final Cache<String, Boolean> recentlyRevoked = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public VerifiedToken get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    public void put(String token, Long userId, Claims claims, UserDetails principal) {
+        if (claims.getExpiration() == null || recentlyRevoked.getIfPresent(token) != null) {
+            return;
+        }
+
+        cache.put(token, new VerifiedToken(userId, claims, principal, claims.getExpiration().getTime()));
+    }
+
+    /**
+     * 로그아웃 등으로 폐기된 토큰을 모든 노드의 캐시에서 제거한다
+     */
+    public void invalidateToken(String token) {
+        evictToken(token);
+        publish("token|" + token);
+    }
+
+    /**
+     * 계정 상태가 바뀐 사용자의 토큰을 모든 노드의 캐시에서 제거한다
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거한다 - 커밋 전에 지우면 그 사이 요청이 이전 행을 다시 캐시한다.
+     * 롤백되면 아무것도 하지 않는다.
+     */
+    public void invalidateUser(Long userId) {
+        runAfterCommit(() -> {
+            evictUser(userId);
+            publish("user|" + userId);
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evictToken(String token) {
+        recentlyRevoked.put(token, Boolean.TRUE);
+        cache.invalidate(token);
+    }
+
+    private void evictUser(Long userId) {
+        securityVersionCache.evict(userId);
+        cache.asMap().values().removeIf(verified -> verified.userId().equals(userId));
+    }
+
+    private void publish(String body) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + body);
+        } catch (Exception ex) {
+            logger.error("Failed to publish token cache invalidation", ex);
+        }
+    }
+
+    private void onInvalidation(String payload) {
+        try {
+            String[] parts = payload.split("\\|", 3);
+            if (parts.length != 3 || nodeId.equals(parts[0])) {
+                return;
+            }
+
+            if ("token".equals(parts[1])) {
+                evictToken(parts[2]);
+            } else if ("user".equals(parts[1])) {
+                evictUser(Long.parseLong(parts[2]));
+            }
+        } catch (Exception ex) {
+            logger.error("Invalid token cache invalidation message", ex);
+        }
+    }
+
+    public record VerifiedToken(Long userId, Claims claims, UserDetails principal, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pms.dto.response.ActivityLogResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 활동 로그 보관 파일 (cold tier)
+ * 보존 기간이 지난 월 파티션을 activity_log-yyyy-MM.ndjson.gz 한 파일로 내보낸다.
+ * 임시 파일에 다 쓴 뒤 fsync 하고 이름을 바꾸므로, 최종 파일이 있으면 그 달의 내보내기는 끝난 것이다.
+ * 한 번 만든 파일은 수정하지 않는다.
+ * 파티션 관리는 한 노드에서만 돌지만 조회는 모든 노드에서 하므로, 기본 경로는 노드 간에 공유되는 업로드 볼륨 아래에 둔다.
+ */
+@Component
+public class ActivityLogArchive {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final Pattern FILE_NAME = Pattern.compile("activity_log-(\\d{4}-\\d{2})\\.ndjson\\.gz");
+    private static final Comparator<ActivityLogResponse> OLDEST_FIRST = Comparator
+            .comparing(ActivityLogResponse::getCreatedAt)
+            .thenComparing(ActivityLogResponse::getId);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+
+    @Value("${activity-log.archive.path:${file.upload.dir:./uploads}/activity-archive}")
+    private String archivePath;
+
+    public boolean exists(YearMonth month) {
+        return Files.exists(fileFor(month));
+    }
+
+    /**
+     * 보관 파일이 있는 달 목록
+     */
+    public List<YearMonth> listMonths() throws IOException {
+        Path directory = Paths.get(archivePath);
+        List<YearMonth> months = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return months;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "activity_log-*.ndjson.gz")) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    months.add(YearMonth.parse(matcher.group(1), MONTH_FORMAT));
+                }
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    public Writer openWriter(YearMonth month) throws IOException {
+        Path directory = Paths.get(archivePath);
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "activity_log-" + month.format(MONTH_FORMAT) + "-", ".tmp");
+        return new Writer(temp, fileFor(month));
+    }
+
+    /**
+     * 한 달치 보관 파일에서 조건에 맞는 항목 중 최신 limit 개를 최신순으로 찾는다
+     * 파일 안의 순서는 정해져 있지 않아 전체를 순차로 읽되, 메모리에는 limit 개만 둔다.
+     */
+    public List<ActivityLogResponse> scan(YearMonth month, Long projectId, String entityType, Long entityId,
+                                          LocalDateTime from, LocalDateTime to, int limit) throws IOException {
+        Path file = fileFor(month);
+        if (!Files.exists(file) || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // 가장 오래된 항목이 머리에 오는 힙 - limit 을 넘으면 머리를 버린다
+        PriorityQueue<ActivityLogResponse> newest = new PriorityQueue<>(OLDEST_FIRST);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(line);
+                if (!matches(node, projectId, entityType, entityId)) {
+                    continue;
+                }
+
+                LocalDateTime createdAt = LocalDateTime.parse(node.get("created_at").asText());
+                if ((from != null && createdAt.isBefore(from)) || (to != null && !createdAt.isBefore(to))) {
+                    continue;
+                }
+                newest.add(toResponse(node, createdAt));
+                if (newest.size() > limit) {
+                    newest.poll();
+                }
+            }
+        }
+
+        List<ActivityLogResponse> results = new ArrayList<>(newest);
+        results.sort(OLDEST_FIRST.reversed());
+        return results;
+    }
+
+    private static boolean matches(JsonNode node, Long projectId, String entityType, Long entityId) {
+        return projectId.equals(longOrNull(node, "project_id"))
+                && entityType.equals(node.path("entity_type").asText())
+                && entityId.equals(longOrNull(node, "entity_id"));
+    }
+
+    private static ActivityLogResponse toResponse(JsonNode node, LocalDateTime createdAt) {
+        ActivityLogResponse response = new ActivityLogResponse();
+        response.setId(longOrNull(node, "id"));
+        response.setAction(textOrNull(node, "action"));
+        response.setEntityType(textOrNull(node, "entity_type"));
+        response.setEntityId(longOrNull(node, "entity_id"));
+        response.setOldValue(textOrNull(node, "old_value"));
+        response.setNewValue(textOrNull(node, "new_value"));
+        response.setUserId(longOrNull(node, "user_id"));
+        response.setProjectId(longOrNull(node, "project_id"));
+        response.setCreatedAt(createdAt);
+        response.setArchived(true);
+        return response;
+    }
+
+    private static Long longOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asLong();
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private Path fileFor(YearMonth month) {
+        return Paths.get(archivePath, "activity_log-" + month.format(MONTH_FORMAT) + ".ndjson.gz");
+    }
+
+    /**
+     * 한 달치 보관 파일 작성기 - commit() 하지 않고 닫으면 임시 파일을 지운다
+     */
+    public class Writer implements AutoCloseable {
+
+        private final Path temp;
+        private final Path target;
+        private final OutputStream output;
+        private final JsonGenerator generator;
+        private long count;
+        private boolean committed;
+
+        private Writer(Path temp, Path target) throws IOException {
+            this.temp = temp;
+            this.target = target;
+            this.output = new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024);
+            this.generator = jsonFactory.createGenerator(output);
+            // NDJSON - 한 줄에 한 항목
+            this.generator.setRootValueSeparator(null);
+        }
+
+        public void append(ResultSet rs) throws SQLException {
+            try {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                generator.writeStartObject();
+                generator.writeNumberField("id", rs.getLong("id"));
+                generator.writeStringField("action", rs.getString("action"));
+                generator.writeStringField("entity_type", rs.getString("entity_type"));
+                generator.writeNumberField("entity_id", rs.getLong("entity_id"));
+                generator.writeStringField("old_value", rs.getString("old_value"));
+                generator.writeStringField("new_value", rs.getString("new_value"));
+                generator.writeStringField("ip_address", rs.getString("ip_address"));
+                generator.writeStringField("user_agent", rs.getString("user_agent"));
+                generator.writeNumberField("user_id", rs.getLong("user_id"));
+                long projectId = rs.getLong("project_id");
+                if (rs.wasNull()) {
+                    generator.writeNullField("project_id");
+                } else {
+                    generator.writeNumberField("project_id", projectId);
+                }
+                generator.writeStringField("created_at", createdAt.toLocalDateTime().toString());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                count++;
+            } catch (IOException ex) {
+                throw new SQLException("Failed to write activity log archive", ex);
+            }
+        }
+
+        /**
+         * 파일을 디스크에 내린 뒤 최종 이름으로 바꾼다 - 기록한 항목 수를 반환한다
+         */
+        public long commit() throws IOException {
+            generator.close();
+            output.close();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                try {
+                    generator.close();
+                    output.close();
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        }
+    }
+}
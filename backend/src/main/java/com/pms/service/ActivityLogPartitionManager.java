@@ -0,0 +1,249 @@
+package com.pms.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * activity_log 월별 파티션 관리 (MySQL 전용, H2 등 다른 DB 에서는 아무것도 하지 않는다)
+ * - 파티션되지 않은 테이블이면 외래 키를 지우고 PK 를 (id, created_at) 으로 바꾼 뒤 RANGE COLUMNS(created_at) 로 나눈다
+ * - months-ahead 만큼 앞으로의 월 파티션을 미리 만든다 (pmax 를 쪼갠다)
+ * - retention-months 보다 오래된 파티션은 보관 파일로 내보낸 뒤 DROP PARTITION 으로 떼어낸다
+ * 여러 노드가 동시에 돌지 않도록 GET_LOCK 으로 막는다.
+ * 테이블 변환은 되돌릴 수 없으므로 기본값은 꺼져 있다 (activity-log.partition.enabled).
+ */
+@Component
+public class ActivityLogPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogPartitionManager.class);
+
+    private static final String TABLE = "activity_log";
+    private static final String LOCK_NAME = "activity_log_partitions";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String EXPORT_COLUMNS = "id, action, entity_type, entity_id, old_value, new_value, "
+            + "ip_address, user_agent, user_id, project_id, created_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityLogArchive archive;
+
+    @Value("${activity-log.partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${activity-log.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${activity-log.retention-months:6}")
+    private int retentionMonths;
+
+    @Scheduled(initialDelayString = "${activity-log.partition.initial-delay-ms:60000}",
+            fixedDelayString = "${activity-log.partition.interval-ms:21600000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            // GET_LOCK 은 연결 단위라 잠금/작업/해제를 한 연결에서 처리한다
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                    return null;
+                }
+                if (!acquireLock(connection)) {
+                    logger.debug("Activity log partition maintenance is running on another node");
+                    return null;
+                }
+                try {
+                    maintain(connection, YearMonth.now());
+                } finally {
+                    releaseLock(connection);
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            logger.error("Activity log partition maintenance failed", ex);
+        }
+    }
+
+    private void maintain(Connection connection, YearMonth now) throws SQLException {
+        if (!isPartitioned(connection)) {
+            partitionTable(connection, now);
+        }
+
+        List<YearMonth> partitions = listPartitions(connection);
+        addPartitions(connection, partitions, now.plusMonths(monthsAhead));
+
+        YearMonth cutoff = now.minusMonths(retentionMonths);
+        for (YearMonth month : partitions) {
+            if (month.isBefore(cutoff)) {
+                detach(connection, month);
+            }
+        }
+    }
+
+    private void partitionTable(Connection connection, YearMonth now) throws SQLException {
+        logger.warn("Converting {} to a monthly partitioned table - foreign keys are dropped and not restored", TABLE);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT CONSTRAINT_NAME, COLUMN_NAME, REFERENCED_TABLE_NAME, REFERENCED_COLUMN_NAME "
+                        + "FROM information_schema.KEY_COLUMN_USAGE "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND REFERENCED_TABLE_NAME IS NOT NULL")) {
+            statement.setString(1, TABLE);
+            List<String[]> foreignKeys = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    foreignKeys.add(new String[] { rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4) });
+                }
+            }
+            for (String[] foreignKey : foreignKeys) {
+                logger.warn("Dropping foreign key {} ({}.{} -> {}.{})",
+                        foreignKey[0], TABLE, foreignKey[1], foreignKey[2], foreignKey[3]);
+                execute(connection, "ALTER TABLE " + TABLE + " DROP FOREIGN KEY `" + foreignKey[0] + "`");
+            }
+        }
+
+        YearMonth first = now;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(created_at) FROM " + TABLE)) {
+            if (rs.next()) {
+                Timestamp oldest = rs.getTimestamp(1);
+                if (oldest != null) {
+                    first = YearMonth.from(oldest.toLocalDateTime());
+                }
+            }
+        }
+
+        // 파티션 키는 모든 고유 키에 포함되어야 한다
+        execute(connection, "ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+
+        StringBuilder sql = new StringBuilder("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(created_at) (");
+        for (YearMonth month = first; !month.isAfter(now.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            sql.append(partitionDefinition(month)).append(", ");
+        }
+        sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+        execute(connection, sql.toString());
+        logger.info("Partitioned {} by month starting from {}", TABLE, first);
+    }
+
+    private void addPartitions(Connection connection, List<YearMonth> partitions, YearMonth until) throws SQLException {
+        YearMonth next = partitions.isEmpty() ? YearMonth.now() : partitions.get(partitions.size() - 1).plusMonths(1);
+        if (next.isAfter(until)) {
+            return;
+        }
+
+        // pmax 는 비어 있으므로 쪼개는 비용이 거의 없다
+        StringBuilder sql = new StringBuilder("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (");
+        for (YearMonth month = next; !month.isAfter(until); month = month.plusMonths(1)) {
+            sql.append(partitionDefinition(month)).append(", ");
+        }
+        sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+        execute(connection, sql.toString());
+        logger.info("Added {} partitions up to {}", TABLE, until);
+    }
+
+    // 보관 파일이 이미 있으면 (지난 실행이 내보낸 뒤 떼어내기 전에 멈춘 경우) 내보내기를 건너뛴다
+    private void detach(Connection connection, YearMonth month) throws SQLException {
+        try {
+            if (!archive.exists(month)) {
+                long exported = export(connection, month);
+                logger.info("Archived {} activity log entries for {}", exported, month);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        execute(connection, "ALTER TABLE " + TABLE + " DROP PARTITION " + month.format(PARTITION_FORMAT));
+        logger.info("Dropped {} partition for {}", TABLE, month);
+    }
+
+    private long export(Connection connection, YearMonth month) throws SQLException, IOException {
+        String sql = "SELECT " + EXPORT_COLUMNS + " FROM " + TABLE + " PARTITION (" + month.format(PARTITION_FORMAT) + ")";
+        try (ActivityLogArchive.Writer writer = archive.openWriter(month);
+             Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // MySQL 드라이버 스트리밍 모드 - 파티션 전체를 메모리에 올리지 않는다
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = statement.executeQuery(sql)) {
+                while (rs.next()) {
+                    writer.append(rs);
+                }
+            }
+            return writer.commit();
+        }
+    }
+
+    private boolean isPartitioned(Connection connection) throws SQLException {
+        return !queryStrings(connection, "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL").isEmpty();
+    }
+
+    private List<YearMonth> listPartitions(Connection connection) throws SQLException {
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : queryStrings(connection, "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL")) {
+            if (!MAX_PARTITION.equals(name)) {
+                months.add(YearMonth.parse(name, PARTITION_FORMAT));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    private static String partitionDefinition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_FORMAT)
+                + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00')";
+    }
+
+    private static boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+
+    private static List<String> queryStrings(Connection connection, String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, TABLE);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    values.add(rs.getString(1));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
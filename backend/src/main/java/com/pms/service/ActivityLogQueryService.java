@@ -0,0 +1,124 @@
+package com.pms.service;
+
+import com.pms.dto.response.ActivityLogResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔티티별 활동 이력 조회 - 운영 테이블과 보관 파일을 합쳐 최신순으로 돌려준다.
+ * 보관 파일은 조회 구간(from ~ to)과 겹치는 달만 최신 달부터 읽고, limit 개를 채우면 멈춘다.
+ * 보관 파일은 달 단위로 통째로 풀어 읽으므로 조회 구간은 activity-log.query.max-range-months 개월로 제한한다.
+ * from 을 생략하면 to(없으면 현재)에서 그만큼 앞선 시점부터 조회한다.
+ */
+@Service
+public class ActivityLogQueryService {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private static final Comparator<ActivityLogResponse> NEWEST_FIRST = Comparator
+            .comparing(ActivityLogResponse::getCreatedAt)
+            .thenComparing(ActivityLogResponse::getId)
+            .reversed();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityLogArchive archive;
+
+    @Value("${activity-log.query.max-range-months:6}")
+    private int maxRangeMonths;
+
+    public List<ActivityLogResponse> getHistory(Long projectId, String entityType, Long entityId,
+                                                LocalDateTime from, LocalDateTime to, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusMonths(maxRangeMonths);
+        if (!start.isBefore(end)) {
+            throw new RuntimeException("Invalid time range");
+        }
+        if (start.isBefore(end.minusMonths(maxRangeMonths))) {
+            throw new RuntimeException("Time range must not exceed " + maxRangeMonths + " months");
+        }
+
+        // 떼어내기 직후에는 같은 항목이 양쪽에 있을 수 있어 id 로 중복을 걸러낸다
+        Map<Long, ActivityLogResponse> merged = new LinkedHashMap<>();
+        for (ActivityLogResponse log : findHot(projectId, entityType, entityId, start, to, size)) {
+            merged.put(log.getId(), log);
+        }
+        for (ActivityLogResponse log : findArchived(projectId, entityType, entityId, start, to, size)) {
+            merged.putIfAbsent(log.getId(), log);
+        }
+
+        List<ActivityLogResponse> results = new ArrayList<>(merged.values());
+        results.sort(NEWEST_FIRST);
+        return results.size() > size ? new ArrayList<>(results.subList(0, size)) : results;
+    }
+
+    private List<ActivityLogResponse> findHot(Long projectId, String entityType, Long entityId,
+                                              LocalDateTime from, LocalDateTime to, int size) {
+        StringBuilder sql = new StringBuilder("SELECT id, action, entity_type, entity_id, old_value, new_value, "
+                + "user_id, project_id, created_at FROM activity_log WHERE project_id = ? AND entity_type = ? AND entity_id = ?");
+        List<Object> args = new ArrayList<>(List.of(projectId, entityType, entityId));
+        if (from != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(size);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            ActivityLogResponse response = new ActivityLogResponse();
+            response.setId(rs.getLong("id"));
+            response.setAction(rs.getString("action"));
+            response.setEntityType(rs.getString("entity_type"));
+            response.setEntityId(rs.getLong("entity_id"));
+            response.setOldValue(rs.getString("old_value"));
+            response.setNewValue(rs.getString("new_value"));
+            response.setUserId(rs.getLong("user_id"));
+            response.setProjectId(rs.getLong("project_id"));
+            response.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            return response;
+        }, args.toArray());
+    }
+
+    private List<ActivityLogResponse> findArchived(Long projectId, String entityType, Long entityId,
+                                                   LocalDateTime from, LocalDateTime to, int size) {
+        List<ActivityLogResponse> results = new ArrayList<>();
+        try {
+            List<YearMonth> months = archive.listMonths();
+            // 달끼리는 겹치지 않으므로 최신 달부터 채우면 앞선 결과가 항상 더 최신이다
+            for (int i = months.size() - 1; i >= 0 && results.size() < size; i--) {
+                YearMonth month = months.get(i);
+                if (to != null && !month.atDay(1).atStartOfDay().isBefore(to)) {
+                    continue;
+                }
+                if (from != null && month.atEndOfMonth().atTime(23, 59, 59, 999_999_999).isBefore(from)) {
+                    break;
+                }
+                results.addAll(archive.scan(month, projectId, entityType, entityId, from, to, size - results.size()));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read activity log archive", ex);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,229 @@
+package com.pms.service;
+
+import com.pms.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활동 로그(activity_log) 비동기 기록기
+ * 요청 스레드에서는 행위자/클라이언트 정보를 담은 항목을 만들어 커밋 이후 고정 크기 버퍼에 넣기만 하고,
+ * 전용 스레드가 버퍼를 비우면서 여러 행을 한 번의 INSERT 로 기록한다.
+ * 버퍼가 가득 차면 새 항목을 버리고 activity.log.dropped 로 센다 (유실은 버퍼 크기로 제한된다).
+ * 종료 시에는 남은 항목을 모두 기록한 뒤 내려간다.
+ */
+@Component
+public class ActivityLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogWriter.class);
+
+    public static final String ENTITY_ISSUE = "ISSUE";
+    public static final String ENTITY_PROJECT = "PROJECT";
+    public static final String ENTITY_PROJECT_MEMBER = "PROJECT_MEMBER";
+
+    private static final int BATCH_SIZE = 500;
+    private static final int USER_AGENT_MAX_LENGTH = 500;
+    private static final String INSERT_PREFIX = "INSERT INTO activity_log (action, entity_type, entity_id, old_value, new_value, "
+            + "ip_address, user_agent, user_id, project_id, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${activity-log.buffer-size:65536}")
+    private int bufferSize;
+
+    @Value("${activity-log.poll-interval-ms:200}")
+    private long pollIntervalMs;
+
+    private ArrayBlockingQueue<Entry> buffer;
+    private Thread drainer;
+    private volatile boolean running = true;
+
+    private Counter writtenCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+
+        Gauge.builder("activity.log.buffer.size", buffer, ArrayBlockingQueue::size).register(meterRegistry);
+        writtenCounter = meterRegistry.counter("activity.log.written");
+        droppedCounter = meterRegistry.counter("activity.log.dropped");
+        failedCounter = meterRegistry.counter("activity.log.failed");
+
+        drainer = new Thread(this::drainLoop, "activity-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * 현재 요청의 사용자가 한 변경을 기록한다 - 트랜잭션 안이면 커밋된 경우에만 버퍼에 들어간다.
+     * 인증 정보가 없는 호출(배치 작업 등)은 기록하지 않는다.
+     */
+    public void record(String action, String entityType, Long entityId, Long projectId, Object oldValue, Object newValue) {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+
+        String ipAddress = null;
+        String userAgent = null;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            ipAddress = request.getRemoteAddr();
+            userAgent = truncate(request.getHeader("User-Agent"));
+        }
+
+        Entry entry = new Entry(action, entityType, entityId, projectId,
+                oldValue != null ? String.valueOf(oldValue) : null,
+                newValue != null ? String.valueOf(newValue) : null,
+                ipAddress, userAgent, userId, LocalDateTime.now());
+        enqueueAfterCommit(entry);
+    }
+
+    // 트랜잭션마다 항목을 모아 두었다가 커밋 시 한 번에 버퍼로 옮긴다
+    @SuppressWarnings("unchecked")
+    private void enqueueAfterCommit(Entry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(entry);
+            return;
+        }
+
+        List<Entry> pending = (List<Entry>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Entry> entries = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, entries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.forEach(ActivityLogWriter.this::offer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ActivityLogWriter.this);
+                }
+            });
+            pending = entries;
+        }
+        pending.add(entry);
+    }
+
+    private void offer(Entry entry) {
+        if (!buffer.offer(entry)) {
+            droppedCounter.increment();
+            if (droppedCounter.count() % 1000 == 1) {
+                logger.warn("Activity log buffer full, dropped {} entries so far", (long) droppedCounter.count());
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !buffer.isEmpty()) {
+            try {
+                Entry first = buffer.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 11];
+        int i = 0;
+        for (Entry entry : batch) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+
+            Timestamp createdAt = Timestamp.valueOf(entry.createdAt());
+            args[i++] = entry.action();
+            args[i++] = entry.entityType();
+            args[i++] = entry.entityId();
+            args[i++] = entry.oldValue();
+            args[i++] = entry.newValue();
+            args[i++] = entry.ipAddress();
+            args[i++] = entry.userAgent();
+            args[i++] = entry.userId();
+            args[i++] = entry.projectId();
+            args[i++] = createdAt;
+            args[i++] = createdAt;
+        }
+
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+            writtenCounter.increment(batch.size());
+        } catch (Exception ex) {
+            // 재시도하지 않는다 - 감사 로그 때문에 기록기가 밀리지 않게 한다
+            failedCounter.increment(batch.size());
+            logger.error("Failed to write {} activity log entries", batch.size(), ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(30));
+        if (drainer.isAlive()) {
+            logger.warn("Activity log writer did not finish, {} entries left in buffer", buffer.size());
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > USER_AGENT_MAX_LENGTH ? value.substring(0, USER_AGENT_MAX_LENGTH) : value;
+    }
+
+    private record Entry(String action, String entityType, Long entityId, Long projectId, String oldValue, String newValue,
+                         String ipAddress, String userAgent, Long userId, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.pms.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 내용 주소 기반 첨부파일 디스크 저장소
+ * 파일은 SHA-256 앞 두 바이트로 샤딩한 blobs/ab/cd/{hash} 에 한 번만 저장한다.
+ * 업로드는 임시 파일로 흘려 쓰면서 해시를 같이 계산하므로 파일 전체를 메모리에 올리지 않는다.
+ * 임시 디렉터리는 저장소와 같은 파일시스템에 두어 게시가 원자적 이동 한 번으로 끝나게 한다.
+ * 게시/삭제는 AttachmentBlob 행 잠금 안에서 호출해야 한다 (AttachmentService).
+ */
+@Component
+public class AttachmentBlobStore {
+
+    static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+    private static final String SESSION_DIR = "uploads";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${file.upload.dir:./uploads}")
+    private String uploadDir;
+
+    private Path root;
+
+    public record StagedFile(Path path, String hash, long size) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Files.createDirectories(root.resolve(BLOB_DIR).resolve(TEMP_DIR));
+        Files.createDirectories(root.resolve(BLOB_DIR).resolve(SESSION_DIR));
+    }
+
+    /**
+     * 스트림을 임시 파일로 쓰면서 SHA-256 을 계산한다
+     */
+    public StagedFile stage(InputStream in) throws IOException {
+        Path temp = createTempFile();
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+            return new StagedFile(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+    }
+
+    /**
+     * 받기 전의 빈 임시 파일 - 호출자가 채운 뒤 stageInPlace 로 넘긴다
+     */
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(tempDir(), "upload-", ".part");
+    }
+
+    /**
+     * 업로드 임시 디렉터리 - 멀티파트 파트도 여기에 받는다 (MultipartConfig)
+     */
+    public Path tempDir() {
+        return root.resolve(BLOB_DIR).resolve(TEMP_DIR);
+    }
+
+    /**
+     * 임시 디렉터리에 이미 받아 둔 파일의 SHA-256 을 계산한다 - 읽기만 하고 다시 쓰지 않는다
+     * 실패하면 파일을 지운다.
+     */
+    public StagedFile stageInPlace(Path temp) throws IOException {
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(temp)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    size += read;
+                }
+            }
+            return new StagedFile(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+    }
+
+    /**
+     * 분할 업로드 세션 파일 - 청크가 제 위치에 바로 쓰인다
+     */
+    public Path sessionFile(String uploadId) {
+        return root.resolve(BLOB_DIR).resolve(SESSION_DIR).resolve(uploadId + ".part");
+    }
+
+    /**
+     * 분할 업로드 세션 파일을 빈 파일로 만든다 - 청크 쓰기는 이 파일이 있을 때만 된다
+     */
+    public Path createSessionFile(String uploadId) throws IOException {
+        return Files.createFile(sessionFile(uploadId));
+    }
+
+    /**
+     * 스트림을 이미 있는 파일의 지정 위치부터 쓴다 (위치 지정 쓰기라 청크 순서와 무관하다)
+     * 파일을 만들지 않으므로 완료/중단으로 세션 파일이 지워진 뒤 도착한 청크는 NoSuchFileException 으로 끝난다.
+     * @return 쓴 바이트 수 - maxBytes 를 넘는 입력은 예외
+     */
+    public long writeAt(Path file, long position, InputStream in, long maxBytes) throws IOException {
+        long written = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer.array())) != -1) {
+                if (written + read > maxBytes) {
+                    throw new IOException("Chunk exceeds " + maxBytes + " bytes");
+                }
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer, position + written);
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 다 받은 세션 파일을 비공개 임시 파일로 복사하면서 해시를 계산하고, 세션 파일은 지운다.
+     * 해시는 복사본에 실제로 쓴 바이트로 계산하고 게시는 복사본만 하므로, 늦게 도착한 청크가 복사 중인 세션 파일에
+     * 쓰더라도 게시된 파일의 내용과 해시가 어긋나지 않는다. 세션 파일을 지운 뒤의 청크는 writeAt 에서 실패한다.
+     */
+    public StagedFile stageExisting(Path file) throws IOException {
+        StagedFile staged;
+        try (InputStream in = Files.newInputStream(file)) {
+            staged = stage(in);
+        }
+        Files.deleteIfExists(file);
+        return staged;
+    }
+
+    /**
+     * 같은 내용이 아직 없으면 임시 파일을 제자리로 옮기고, 있으면 버린다
+     * @return 새로 저장했으면 true
+     */
+    public boolean publish(StagedFile staged) throws IOException {
+        Path target = blobPath(staged.hash());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(staged.path());
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(staged.path(), target, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    public void discard(StagedFile staged) {
+        try {
+            Files.deleteIfExists(staged.path());
+        } catch (IOException ignored) {
+            // 남더라도 deleteStaleTempFiles 가 지운다
+        }
+    }
+
+    /**
+     * 업로드 중 죽은 프로세스가 남긴 임시 파일 정리
+     */
+    public int deleteStaleTempFiles(Instant cutoff) throws IOException {
+        return deleteOlderThan(root.resolve(BLOB_DIR).resolve(TEMP_DIR), cutoff);
+    }
+
+    /**
+     * 만료된 분할 업로드 세션 파일 정리
+     */
+    public int deleteStaleSessionFiles(Instant cutoff) throws IOException {
+        return deleteOlderThan(root.resolve(BLOB_DIR).resolve(SESSION_DIR), cutoff);
+    }
+
+    /**
+     * 원본과 그 옆에 만든 파생 파일({hash}.*)을 함께 지운다
+     */
+    public void delete(String hash) throws IOException {
+        Path blob = blobPath(hash);
+        Files.deleteIfExists(blob);
+        if (!Files.isDirectory(blob.getParent())) {
+            return;
+        }
+        try (DirectoryStream<Path> derivatives = Files.newDirectoryStream(blob.getParent(), hash + ".*")) {
+            for (Path derivative : derivatives) {
+                Files.deleteIfExists(derivative);
+            }
+        }
+    }
+
+    public Path blobPath(String hash) {
+        return root.resolve(relativePath(hash));
+    }
+
+    /**
+     * 원본 옆에 두는 썸네일 경로 - 내용이 같으면 썸네일도 같으므로 해시로만 정한다
+     */
+    public Path thumbnailPath(String hash, int size) {
+        return root.resolve(relativePath(hash) + ".w" + size + ".jpg");
+    }
+
+    /**
+     * 업로드 디렉터리 기준 경로 - attachment.file_path 에 그대로 저장한다
+     */
+    public static String relativePath(String hash) {
+        return BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private static int deleteOlderThan(Path dir, Instant cutoff) throws IOException {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.pms.service;
+
+import com.pms.entity.Attachment;
+import com.pms.entity.AttachmentBlob;
+import com.pms.entity.Issue;
+import com.pms.entity.User;
+import com.pms.event.AttachmentStoredEvent;
+import com.pms.repository.AttachmentBlobRepository;
+import com.pms.repository.AttachmentRepository;
+import com.pms.repository.IssueRepository;
+import com.pms.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 첨부파일 업로드/다운로드/삭제
+ * 파일은 내용 해시로 한 번만 저장하고(AttachmentBlobStore), attachment_blob.ref_count 로 참조하는 attachment 행 수를 센다.
+ * 다운로드 경로는 JPA 를 거치지 않는다 - open-in-view 세션이 커넥션을 잡은 채로 큰 파일을 내려보내지 않도록
+ * 첨부파일 조회와 멤버십 확인을 JDBC 쿼리 한 번으로 끝내고 바로 커넥션을 돌려준다.
+ */
+@Service
+public class AttachmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AttachmentBlobStore blobStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${file.upload.dir:./uploads}")
+    private String uploadDir;
+
+    // 참조가 0 이 된 파일을 지우기 전 유예 시간 - 그 사이 같은 내용이 다시 올라오면 그대로 재사용한다
+    @Value("${attachment.blob.gc-grace:1h}")
+    private Duration gcGrace;
+
+    @Value("${attachment.blob.gc-batch-size:500}")
+    private int gcBatchSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    public record AttachmentFile(Long id, Path path, String originalName, String contentType, String contentHash,
+                                 Attachment.ThumbnailStatus thumbnailStatus) {
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 업로드 - 본문은 트랜잭션 밖에서 임시 파일로 받고, 트랜잭션은 blob 참조와 attachment 행 저장에만 쓴다
+     * 멀티파트 파트는 저장소 임시 디렉터리에 디스크로 받아 두므로(spring.servlet.multipart.location) 복사 없이 옮기고 해시만 읽어 계산한다.
+     */
+    public Attachment uploadAttachment(Long issueId, Long userId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("File is empty");
+        }
+        String originalName = StringUtils.getFilename(StringUtils.cleanPath(
+                file.getOriginalFilename() != null ? file.getOriginalFilename() : "file"));
+
+        AttachmentBlobStore.StagedFile staged;
+        try {
+            Path temp = blobStore.createTempFile();
+            try {
+                file.transferTo(temp.toFile());
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(temp);
+                throw ex;
+            }
+            staged = blobStore.stageInPlace(temp);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to receive attachment", ex);
+        }
+
+        return attachStaged(issueId, userId, originalName, file.getContentType(), staged);
+    }
+
+    /**
+     * 임시 파일로 받아 둔 내용을 이슈에 첨부한다 (일반 업로드와 분할 업로드 완료가 같이 쓴다)
+     */
+    public Attachment attachStaged(Long issueId, Long userId, String originalName, String contentType,
+                                   AttachmentBlobStore.StagedFile staged) {
+        try {
+            try {
+                return transactionTemplate.execute(status -> attach(issueId, userId, originalName, contentType, staged));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException ex) {
+                // 같은 내용이 동시에 처음 올라와 blob 행 삽입이 겹쳤다 - 이제 행이 있으므로 잠그고 한 번 더 한다
+                return transactionTemplate.execute(status -> attach(issueId, userId, originalName, contentType, staged));
+            }
+        } finally {
+            // 게시되었으면 이미 옮겨져 없다
+            blobStore.discard(staged);
+        }
+    }
+
+    private Attachment attach(Long issueId, Long userId, String originalName, String contentType,
+                              AttachmentBlobStore.StagedFile staged) {
+        Issue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new RuntimeException("Issue not found"));
+        User uploader = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        AttachmentBlob blob = attachmentBlobRepository.findByHashForUpdate(staged.hash())
+                .orElseGet(() -> attachmentBlobRepository.saveAndFlush(new AttachmentBlob(staged.hash(), staged.size())));
+        boolean stored;
+        try {
+            stored = blobStore.publish(staged);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to store attachment", ex);
+        }
+        if (stored) {
+            deletePublishedOnRollback(staged.hash());
+        }
+        blob.setRefCount(blob.getRefCount() + 1);
+        meterRegistry.counter("attachment.uploads", "result", stored ? "stored" : "deduplicated").increment();
+
+        Attachment attachment = new Attachment(originalName, staged.hash(), AttachmentBlobStore.relativePath(staged.hash()),
+                contentType, staged.size(), issue, uploader);
+        attachment.setContentHash(staged.hash());
+        Attachment saved = attachmentRepository.save(attachment);
+        eventPublisher.publishEvent(new AttachmentStoredEvent(saved.getId(), saved.getContentHash(), saved.getContentType()));
+        return saved;
+    }
+
+    // 게시는 GC 와 겹치지 않도록 blob 행 잠금 안에서 해야 하므로, 롤백되면 이번에 새로 게시한 파일을 되돌린다.
+    // 롤백 뒤에는 잠금이 풀려 있어 다시 잠그고, 그 사이 다른 업로드가 같은 파일을 참조했으면 남긴다.
+    private void deletePublishedOnRollback(String hash) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    TransactionTemplate cleanup = new TransactionTemplate(transactionManager);
+                    cleanup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                    cleanup.executeWithoutResult(tx -> {
+                        AttachmentBlob blob = attachmentBlobRepository.findByHashForUpdate(hash).orElse(null);
+                        if (blob != null && blob.getRefCount() > 0) {
+                            return;
+                        }
+                        try {
+                            blobStore.delete(hash);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+                } catch (Exception ex) {
+                    // 남은 파일은 행이 있으면 GC 가 지우고, 없으면 다음 같은 내용 업로드가 재사용한다
+                    logger.error("Failed to remove attachment blob {} after rollback", hash, ex);
+                }
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Attachment> findById(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId);
+    }
+
+    @Transactional
+    public void deleteAttachment(Long attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new RuntimeException("Attachment not found"));
+        if (attachment.getContentHash() != null) {
+            attachmentBlobRepository.release(attachment.getContentHash(), 1, LocalDateTime.now());
+        }
+        attachmentRepository.delete(attachment);
+    }
+
+    /**
+     * 이슈 삭제 전에 호출 - cascade 로 지워질 첨부파일들의 참조를 해제한다
+     */
+    @Transactional
+    public void releaseIssueAttachments(Collection<Long> issueIds) {
+        List<Object[]> references = new ArrayList<>(attachmentRepository.countBlobReferences(issueIds));
+        // 잠금 순서를 고정해 동시 삭제 간 교착을 피한다
+        references.sort(Comparator.comparing(reference -> (String) reference[0]));
+        LocalDateTime now = LocalDateTime.now();
+        for (Object[] reference : references) {
+            attachmentBlobRepository.release((String) reference[0], ((Number) reference[1]).intValue(), now);
+        }
+    }
+
+    /**
+     * 참조가 없는 파일 정리 - 행 잠금 안에서 참조 수를 다시 확인하고 지우므로 동시 업로드와 겹쳐도 안전하다
+     */
+    @Scheduled(fixedDelayString = "${attachment.blob.gc-interval-ms:3600000}",
+               initialDelayString = "${attachment.blob.gc-interval-ms:3600000}")
+    public void collectUnreferencedBlobs() {
+        List<String> hashes = attachmentBlobRepository.findUnreferenced(
+                LocalDateTime.now().minus(gcGrace), PageRequest.of(0, gcBatchSize));
+
+        int deleted = 0;
+        for (String hash : hashes) {
+            try {
+                Boolean removed = transactionTemplate.execute(status -> {
+                    AttachmentBlob blob = attachmentBlobRepository.findByHashForUpdate(hash).orElse(null);
+                    if (blob == null || blob.getRefCount() > 0) {
+                        return false;
+                    }
+                    try {
+                        blobStore.delete(hash);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    attachmentBlobRepository.delete(blob);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(removed)) {
+                    deleted++;
+                }
+            } catch (Exception ex) {
+                logger.error("Failed to delete attachment blob {}", hash, ex);
+            }
+        }
+
+        try {
+            blobStore.deleteStaleTempFiles(Instant.now().minus(gcGrace));
+        } catch (IOException ex) {
+            logger.error("Failed to clean attachment temp files", ex);
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} unreferenced attachment blobs", deleted);
+        }
+    }
+
+    /**
+     * 사용자가 멤버인 프로젝트의 첨부파일만 찾는다 - 없거나 권한이 없으면 같은 예외로 존재 여부를 숨긴다
+     */
+    public AttachmentFile getDownloadableFile(Long attachmentId, Long userId) {
+        List<AttachmentFile> files = jdbcTemplate.query(
+                "SELECT a.id, a.file_path, a.original_name, a.content_type, a.content_hash, a.thumbnail_status FROM attachment a " +
+                "JOIN issue i ON i.id = a.issue_id " +
+                "WHERE a.id = ? AND EXISTS (SELECT 1 FROM project_member pm WHERE pm.project_id = i.project_id AND pm.user_id = ?)",
+                (rs, rowNum) -> new AttachmentFile(
+                        rs.getLong("id"),
+                        resolvePath(rs.getString("file_path")),
+                        rs.getString("original_name"),
+                        rs.getString("content_type"),
+                        rs.getString("content_hash"),
+                        rs.getString("thumbnail_status") != null
+                                ? Attachment.ThumbnailStatus.valueOf(rs.getString("thumbnail_status"))
+                                : null),
+                attachmentId, userId);
+
+        if (files.isEmpty()) {
+            throw new RuntimeException("Attachment not found");
+        }
+        AttachmentFile file = files.get(0);
+        if (!Files.isRegularFile(file.path())) {
+            throw new RuntimeException("Attachment file not found");
+        }
+        return file;
+    }
+
+    // 저장 경로는 업로드 디렉터리 기준이며 밖을 가리키면 거부한다
+    Path resolvePath(String filePath) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path path = root.resolve(filePath).normalize();
+        if (!path.startsWith(root)) {
+            throw new RuntimeException("Invalid attachment path");
+        }
+        return path;
+    }
+}
@@ -2,9 +2,12 @@ package com.pms.service;
 
 import com.pms.entity.User;
 import com.pms.security.JwtTokenProvider;
+import com.pms.security.TokenBlacklist;
+import com.pms.security.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,10 +34,34 @@ public class AuthService {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
     
+    @Autowired
+    private TokenBlacklist tokenBlacklist;
+    
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+    
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+    
     public Map<String, Object> authenticateUser(String email, String password) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(email, password)
-        );
+        // 잠긴 계정은 비밀번호 해싱 전에 거절한다
+        if (loginAttemptService.isLocked(email)) {
+            throw new RuntimeException("Account is temporarily locked due to too many failed login attempts");
+        }
+        
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, password)
+            );
+        } catch (BadCredentialsException ex) {
+            loginAttemptService.recordFailure(email);
+            throw ex;
+        }
+        loginAttemptService.reset(email);
         
         SecurityContextHolder.getContext().setAuthentication(authentication);
         
@@ -48,11 +75,13 @@ public class AuthService {
             throw new RuntimeException("Account is deactivated");
         }
         
+        lastLoginRecorder.record(user.getId());
+        
         // Generate tokens
         List<String> roles = new ArrayList<>();
         user.getRoles().forEach(role -> roles.add(role.getName()));
         
-        String accessToken = tokenProvider.createAccessToken(user.getId(), user.getEmail(), roles);
+        String accessToken = tokenProvider.createAccessToken(user.getId(), user.getEmail(), roles, user.getSecurityVersion());
         String refreshToken = tokenProvider.createRefreshToken(user.getId());
         
         // Store refresh token in Redis
@@ -124,7 +153,7 @@ public class AuthService {
         List<String> roles = new ArrayList<>();
         user.getRoles().forEach(role -> roles.add(role.getName()));
         
-        String newAccessToken = tokenProvider.createAccessToken(user.getId(), user.getEmail(), roles);
+        String newAccessToken = tokenProvider.createAccessToken(user.getId(), user.getEmail(), roles, user.getSecurityVersion());
         String newRefreshToken = tokenProvider.createRefreshToken(user.getId());
         
         // Update refresh token in Redis
@@ -153,12 +182,11 @@ public class AuthService {
             // Add access token to blacklist
             long remainingTime = tokenProvider.getRemainingTime(accessToken);
             if (remainingTime > 0) {
-                redisTemplate.opsForValue().set(
-                        "blacklist:" + accessToken,
-                        "true",
-                        Duration.ofSeconds(remainingTime)
-                );
+                tokenBlacklist.add(accessToken, Duration.ofSeconds(remainingTime));
             }
+            
+            // 검증된 토큰 캐시에서도 제거 (다른 노드 포함)
+            verifiedTokenCache.invalidateToken(accessToken);
         }
     }
     
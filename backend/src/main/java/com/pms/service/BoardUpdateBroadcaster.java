@@ -0,0 +1,107 @@
+package com.pms.service;
+
+import com.pms.dto.response.BoardUpdateMessage;
+import com.pms.event.IssueBoardEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 칸반 보드 변경 푸시
+ * 커밋된 IssueBoardEvent 를 프로젝트별로 모아 두었다가 flush-interval 마다 한 메시지로 보낸다.
+ * 같은 이슈의 델타는 하나로 합쳐지므로 일괄 재정렬처럼 짧은 시간에 몰리는 변경도 프로젝트당 메시지 하나가 된다.
+ * 한 번에 max-deltas 를 넘으면 델타 대신 resync 만 보내 클라이언트가 보드를 한 번 다시 읽게 한다.
+ * 다른 노드에 연결된 클라이언트에게는 ProjectEventRelay 가 Redis 로 중계한다.
+ */
+@Component
+public class BoardUpdateBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardUpdateBroadcaster.class);
+
+    public static final String TOPIC_PREFIX = "/topic/projects/";
+    public static final String TOPIC_SUFFIX = "/issues";
+
+    @Autowired
+    private ProjectEventRelay projectEventRelay;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${websocket.board.max-deltas:200}")
+    private int maxDeltas;
+
+    // projectId -> (issueId -> 합쳐진 델타), 내부 맵은 compute/remove 로만 다뤄 프로젝트 단위로 원자적이다
+    private final ConcurrentHashMap<Long, Map<Long, IssueBoardEvent>> pending = new ConcurrentHashMap<>();
+
+    private Counter receivedCounter;
+    private Counter sentCounter;
+
+    @PostConstruct
+    void init() {
+        receivedCounter = meterRegistry.counter("websocket.board.deltas.received");
+        sentCounter = meterRegistry.counter("websocket.board.messages.sent");
+    }
+
+    public static String topic(Long projectId) {
+        return TOPIC_PREFIX + projectId + TOPIC_SUFFIX;
+    }
+
+    /**
+     * /topic/projects/{projectId}/issues 에서 프로젝트 ID 를 꺼낸다 - 형식이 다르면 null
+     */
+    public static Long projectIdOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX) || !destination.endsWith(TOPIC_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(TOPIC_PREFIX.length(), destination.length() - TOPIC_SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardEvent(IssueBoardEvent event) {
+        receivedCounter.increment();
+        pending.compute(event.projectId(), (projectId, deltas) -> {
+            Map<Long, IssueBoardEvent> merged = deltas != null ? deltas : new LinkedHashMap<>();
+            merged.merge(event.issueId(), event, IssueBoardEvent::merge);
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.board.flush-interval-ms:250}")
+    public void flush() {
+        for (Long projectId : pending.keySet()) {
+            Map<Long, IssueBoardEvent> deltas = pending.remove(projectId);
+            if (deltas == null || deltas.isEmpty()) {
+                continue;
+            }
+
+            BoardUpdateMessage message = deltas.size() > maxDeltas
+                    ? new BoardUpdateMessage(projectId, List.of(), true)
+                    : new BoardUpdateMessage(projectId, new ArrayList<>(deltas.values()), false);
+            try {
+                projectEventRelay.publish(projectId, topic(projectId), message);
+                sentCounter.increment();
+            } catch (Exception ex) {
+                // 놓친 델타는 클라이언트가 재연결 시 보드를 다시 읽어 맞춘다
+                logger.error("Failed to push board update for project {}", projectId, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.pms.service;
+
+import com.pms.dto.request.CreateUploadSessionRequest;
+import com.pms.dto.response.UploadSessionResponse;
+import com.pms.entity.Attachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이어받기 가능한 분할 업로드
+ * 세션 상태는 Redis 에 두고(attachment:upload:{uploadId} 해시 + 받은 청크 비트맵), 청크는 세션 파일의 제 위치에 바로 쓴다.
+ * 완료 시에는 세션 파일을 복사하면서 해시를 계산해 복사본만 게시하므로, 완료와 엇갈린 청크가 게시된 내용을 바꾸지 못한다.
+ * 요청 하나가 청크 하나뿐이라 큰 파일도 Tomcat 스레드를 오래 잡지 않고, 실패한 청크만 다시 보내면 된다.
+ * 세션 파일은 file.upload.dir 에 있으므로 여러 노드로 운영할 때는 이 디렉터리를 공유 스토리지로 둔다.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    static final String SESSION_KEY_PREFIX = "attachment:upload:";
+    private static final String CHUNKS_KEY_SUFFIX = ":chunks";
+    private static final String COMPLETING_FIELD = "completing";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private AttachmentBlobStore blobStore;
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Value("${attachment.upload.chunk-size:8MB}")
+    private DataSize chunkSize;
+
+    @Value("${attachment.upload.max-size:2GB}")
+    private DataSize maxSize;
+
+    @Value("${attachment.upload.session-ttl:24h}")
+    private Duration sessionTtl;
+
+    record UploadSession(String uploadId, Long issueId, Long userId, String fileName, String contentType,
+                         long totalSize, int chunkSize) {
+
+        int chunkCount() {
+            return (int) ((totalSize + chunkSize - 1) / chunkSize);
+        }
+
+        long chunkLength(int index) {
+            return Math.min(chunkSize, totalSize - (long) index * chunkSize);
+        }
+    }
+
+    public UploadSessionResponse createSession(Long issueId, Long userId, CreateUploadSessionRequest request) {
+        if (request.getTotalSize() > maxSize.toBytes()) {
+            throw new RuntimeException("File size must not exceed " + maxSize.toMegabytes() + "MB");
+        }
+
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), issueId, userId,
+                StringUtils.getFilename(StringUtils.cleanPath(request.getFileName())), request.getContentType(),
+                request.getTotalSize(), (int) chunkSize.toBytes());
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("issueId", String.valueOf(issueId));
+        fields.put("userId", String.valueOf(userId));
+        fields.put("fileName", session.fileName());
+        if (session.contentType() != null) {
+            fields.put("contentType", session.contentType());
+        }
+        fields.put("totalSize", String.valueOf(session.totalSize()));
+        fields.put("chunkSize", String.valueOf(session.chunkSize()));
+        try {
+            blobStore.createSessionFile(session.uploadId());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create upload session", ex);
+        }
+        redisTemplate.opsForHash().putAll(sessionKey(session.uploadId()), fields);
+        redisTemplate.expire(sessionKey(session.uploadId()), sessionTtl);
+
+        return toResponse(session, new byte[0]);
+    }
+
+    public UploadSessionResponse getSession(String uploadId, Long userId) {
+        UploadSession session = loadSession(uploadId, userId);
+        return toResponse(session, readChunkBitmap(uploadId));
+    }
+
+    /**
+     * 청크 하나를 offset 위치에 쓴다 - offset 은 chunkSize 의 배수, 길이는 마지막 청크만 짧을 수 있다
+     */
+    public UploadSessionResponse uploadChunk(String uploadId, Long userId, long offset, InputStream body) {
+        UploadSession session = loadSession(uploadId, userId);
+        if (Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(sessionKey(uploadId), COMPLETING_FIELD))) {
+            throw new RuntimeException("Upload is already being completed");
+        }
+        if (offset < 0 || offset % session.chunkSize() != 0 || offset >= session.totalSize()) {
+            throw new RuntimeException("Offset must be a multiple of " + session.chunkSize() + " within the file");
+        }
+
+        int index = (int) (offset / session.chunkSize());
+        long expected = session.chunkLength(index);
+        long written;
+        try {
+            written = blobStore.writeAt(blobStore.sessionFile(uploadId), offset, body, expected);
+        } catch (NoSuchFileException ex) {
+            // 완료 확인 이후에 완료/중단되어 세션 파일이 지워졌다
+            throw new RuntimeException("Upload is already being completed");
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write chunk " + index, ex);
+        }
+        if (written != expected) {
+            throw new RuntimeException("Chunk " + index + " must be " + expected + " bytes but was " + written);
+        }
+
+        redisTemplate.opsForValue().setBit(chunksKey(uploadId), index, true);
+        // 청크가 들어오는 동안은 세션이 만료되지 않게 한다
+        redisTemplate.expire(sessionKey(uploadId), sessionTtl);
+        redisTemplate.expire(chunksKey(uploadId), sessionTtl);
+
+        return toResponse(session, readChunkBitmap(uploadId));
+    }
+
+    /**
+     * 모든 청크가 모이면 해시를 계산해 첨부파일로 만든다
+     */
+    public Attachment complete(String uploadId, Long userId) {
+        UploadSession session = loadSession(uploadId, userId);
+        List<Integer> missing = missingChunks(session, readChunkBitmap(uploadId));
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Missing " + missing.size() + " chunks");
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.opsForHash().putIfAbsent(sessionKey(uploadId), COMPLETING_FIELD, "1"))) {
+            throw new RuntimeException("Upload is already being completed");
+        }
+
+        AttachmentBlobStore.StagedFile staged;
+        try {
+            staged = blobStore.stageExisting(blobStore.sessionFile(uploadId));
+        } catch (IOException ex) {
+            // 세션 파일은 그대로라 다시 완료를 시도할 수 있다
+            redisTemplate.opsForHash().delete(sessionKey(uploadId), COMPLETING_FIELD);
+            throw new UncheckedIOException("Failed to complete upload", ex);
+        }
+
+        try {
+            if (staged.size() != session.totalSize()) {
+                blobStore.discard(staged);
+                throw new RuntimeException("Uploaded size " + staged.size() + " does not match " + session.totalSize());
+            }
+            return attachmentService.attachStaged(session.issueId(), userId, session.fileName(),
+                    session.contentType(), staged);
+        } finally {
+            // 세션 파일이 지워졌으므로 성공/실패와 관계없이 세션은 끝난다
+            redisTemplate.delete(List.of(sessionKey(uploadId), chunksKey(uploadId)));
+        }
+    }
+
+    public void abort(String uploadId, Long userId) {
+        loadSession(uploadId, userId);
+        redisTemplate.delete(List.of(sessionKey(uploadId), chunksKey(uploadId)));
+        try {
+            Files.deleteIfExists(blobStore.sessionFile(uploadId));
+        } catch (IOException ex) {
+            // 남은 파일은 만료 정리 때 지운다
+            logger.warn("Failed to delete upload session file: {}", uploadId, ex);
+        }
+    }
+
+    /**
+     * Redis 세션이 만료된 뒤 남은 세션 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${attachment.blob.gc-interval-ms:3600000}",
+               initialDelayString = "${attachment.blob.gc-interval-ms:3600000}")
+    public void deleteExpiredSessionFiles() {
+        try {
+            int deleted = blobStore.deleteStaleSessionFiles(Instant.now().minus(sessionTtl));
+            if (deleted > 0) {
+                logger.info("Deleted {} expired upload session files", deleted);
+            }
+        } catch (IOException ex) {
+            logger.error("Failed to clean upload session files", ex);
+        }
+    }
+
+    private UploadSession loadSession(String uploadId, Long userId) {
+        if (!isValidUploadId(uploadId)) {
+            throw new RuntimeException("Upload session not found");
+        }
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(sessionKey(uploadId));
+        if (fields.isEmpty()) {
+            throw new RuntimeException("Upload session not found");
+        }
+
+        UploadSession session = new UploadSession(uploadId,
+                Long.valueOf((String) fields.get("issueId")),
+                Long.valueOf((String) fields.get("userId")),
+                (String) fields.get("fileName"),
+                (String) fields.get("contentType"),
+                Long.parseLong((String) fields.get("totalSize")),
+                Integer.parseInt((String) fields.get("chunkSize")));
+        if (!session.userId().equals(userId)) {
+            throw new RuntimeException("Upload session not found");
+        }
+        return session;
+    }
+
+    // 비트맵은 문자열 직렬화를 거치지 않도록 원시 바이트로 읽는다
+    private byte[] readChunkBitmap(String uploadId) {
+        byte[] key = chunksKey(uploadId).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        return bitmap != null ? bitmap : new byte[0];
+    }
+
+    static List<Integer> missingChunks(UploadSession session, byte[] bitmap) {
+        List<Integer> missing = new ArrayList<>();
+        for (int index = 0; index < session.chunkCount(); index++) {
+            int octet = index / 8;
+            boolean received = octet < bitmap.length && (bitmap[octet] & (0x80 >>> (index % 8))) != 0;
+            if (!received) {
+                missing.add(index);
+            }
+        }
+        return missing;
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, byte[] bitmap) {
+        List<Integer> missing = missingChunks(session, bitmap);
+
+        UploadSessionResponse response = new UploadSessionResponse();
+        response.setUploadId(session.uploadId());
+        response.setIssueId(session.issueId());
+        response.setFileName(session.fileName());
+        response.setTotalSize(session.totalSize());
+        response.setChunkSize(session.chunkSize());
+        response.setChunkCount(session.chunkCount());
+        response.setReceivedChunks(session.chunkCount() - missing.size());
+        response.setMissingChunks(missing);
+        response.setExpiresIn(sessionTtl.toSeconds());
+        return response;
+    }
+
+    // uploadId 는 파일 이름에도 쓰이므로 UUID 형식만 받는다
+    private static boolean isValidUploadId(String uploadId) {
+        try {
+            return uploadId != null && UUID.fromString(uploadId).toString().equals(uploadId);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static String sessionKey(String uploadId) {
+        return SESSION_KEY_PREFIX + uploadId;
+    }
+
+    private static String chunksKey(String uploadId) {
+        return SESSION_KEY_PREFIX + uploadId + CHUNKS_KEY_SUFFIX;
+    }
+}
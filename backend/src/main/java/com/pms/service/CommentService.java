@@ -0,0 +1,134 @@
+package com.pms.service;
+
+import com.pms.dto.response.CommentResponse;
+import com.pms.dto.response.CursorPageResponse;
+import com.pms.entity.Comment;
+import com.pms.entity.Issue;
+import com.pms.entity.Notification;
+import com.pms.entity.User;
+import com.pms.repository.CommentCursor;
+import com.pms.repository.CommentRepository;
+import com.pms.repository.IssueRepository;
+import com.pms.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 이슈 댓글
+ * 목록은 (issue_id, created_at, id) 키셋으로 읽고 삭제된 댓글은 SQL 에서 거른다.
+ * 이슈의 comment_count 는 작성/삭제 때 원자적 UPDATE 로 맞춰 두어 이슈 조회가 댓글을 모두 읽지 않게 한다.
+ */
+@Service
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    // 이슈 상세에 함께 내려주는 최근 댓글 수
+    @Value("${comment.preview-size:5}")
+    private int previewSize;
+
+    @Transactional(readOnly = true)
+    public Optional<Comment> findById(Long commentId) {
+        return commentRepository.findById(commentId)
+                .filter(comment -> !comment.getIsDeleted());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getComments(Long issueId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> comments;
+        if (cursor != null && !cursor.isBlank()) {
+            CommentCursor after = CommentCursor.decode(cursor);
+            comments = commentRepository.findByIssueAfter(issueId, after.createdAt(), after.id(), limit);
+        } else {
+            comments = commentRepository.findByIssue(issueId, limit);
+        }
+
+        String nextCursor = null;
+        if (comments.size() > pageSize) {
+            comments = comments.subList(0, pageSize);
+            Comment last = comments.get(pageSize - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<CommentResponse> content = comments.stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList());
+        return new CursorPageResponse<>(content, nextCursor);
+    }
+
+    /**
+     * 최근 댓글 previewSize 개를 작성 순서(오래된 것부터)로 돌려준다
+     */
+    @Transactional(readOnly = true)
+    public List<Comment> getLatestComments(Long issueId) {
+        if (previewSize <= 0) {
+            return List.of();
+        }
+        List<Comment> latest = new ArrayList<>(commentRepository.findLatestByIssue(issueId, PageRequest.of(0, previewSize)));
+        Collections.reverse(latest);
+        return latest;
+    }
+
+    @Transactional
+    public Comment createComment(Long issueId, Long authorId, String content) {
+        Issue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new RuntimeException("Issue not found"));
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Comment savedComment = commentRepository.save(new Comment(content, issue, author));
+        issueRepository.adjustCommentCount(issueId, 1);
+
+        notificationService.notifyUsers(Notification.Type.COMMENT_ADDED, issue.getProject().getId(),
+                ActivityLogWriter.ENTITY_ISSUE, issueId, "New comment: " + issue.getTitle(), null,
+                Arrays.asList(
+                        issue.getReporter() != null ? issue.getReporter().getId() : null,
+                        issue.getAssignee() != null ? issue.getAssignee().getId() : null));
+
+        return savedComment;
+    }
+
+    @Transactional
+    public Comment updateComment(Long commentId, String content) {
+        Comment comment = findById(commentId)
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+        comment.edit(content);
+        return commentRepository.save(comment);
+    }
+
+    @Transactional
+    public void deleteComment(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+        if (commentRepository.softDelete(commentId, LocalDateTime.now()) > 0) {
+            issueRepository.adjustCommentCount(comment.getIssue().getId(), -1);
+        }
+    }
+}
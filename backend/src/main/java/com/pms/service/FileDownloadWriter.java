@@ -0,0 +1,200 @@
+package com.pms.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 디스크 파일을 HTTP 응답으로 내려보낸다 (Range, ETag 지원)
+ * 컨테이너가 sendfile 을 지원하면(Tomcat NIO, 평문 커넥터) 헤더만 쓰고 파일 전송은 커넥터에 맡긴다.
+ * 이때 바이트는 힙을 거치지 않고 요청 스레드도 바로 풀려난다.
+ * 지원하지 않으면(TLS 커넥터 등) FileChannel.transferTo 로 보내며, 요청당 작은 전송 버퍼 하나만 쓴다.
+ */
+@Component
+public class FileDownloadWriter {
+
+    // Tomcat 의 sendfile 요청 속성 (org.apache.tomcat.util.net.Constants / Globals)
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 커서 그냥 쓴다 (Tomcat DefaultServlet 기본값과 같다)
+    @Value("${file.download.sendfile-min-size:48KB}")
+    private DataSize sendfileMinSize;
+
+    record ByteRange(long start, long end) {
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      Path file, String contentType, String filename) throws IOException {
+        write(request, response, file, contentType, filename, false);
+    }
+
+    /**
+     * @param inline true 면 브라우저가 바로 표시하도록 (미리보기/썸네일)
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      Path file, String contentType, String filename, boolean inline) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        String etag = etag(size, attributes.lastModifiedTime().toMillis());
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            record("not_modified", 0);
+            return;
+        }
+
+        ByteRange range = null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.trim().equals(etag)) {
+            range = parseRange(request.getHeader(HttpHeaders.RANGE), size);
+        }
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+            response.setStatus(HttpServletResponse.SC_OK);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+
+        response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                        .filename(filename, StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+
+        if (range.length() >= sendfileMinSize.toBytes()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START_ATTR, range.start());
+            request.setAttribute(SENDFILE_END_ATTR, range.end() + 1); // 끝은 배타적
+            record("sendfile", range.length());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new IOException("File truncated while downloading: " + file);
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        record("channel", range.length());
+    }
+
+    /**
+     * Range 헤더 해석 - 단일 범위만 처리하고 다중 범위나 잘못된 형식은 null (전체 응답)
+     */
+    static ByteRange parseRange(String header, long size) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (spec.contains(",") || dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return ByteRange.UNSATISFIABLE;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return null;
+                }
+                end = Math.min(end, size - 1);
+            }
+            return start < size ? new ByteRange(start, end) : ByteRange.UNSATISFIABLE;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    static boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 저장된 파일은 바뀌지 않으므로 크기와 수정 시각이면 충분하다
+    static String etag(long size, long lastModifiedMillis) {
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModifiedMillis) + "\"";
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private void record(String mode, long bytes) {
+        meterRegistry.counter("attachment.download.requests", "mode", mode).increment();
+        if (bytes > 0) {
+            meterRegistry.counter("attachment.download.bytes", "mode", mode).increment(bytes);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.pms.service;
+
+import com.pms.entity.Issue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 칸반 컬럼 위치 재배치
+ * 위치는 POSITION_GAP 간격의 희소 정수라 카드 이동 시 한 행만 갱신하면 된다.
+ * 인접 카드 사이 간격이 바닥나면 컬럼 전체를 다시 GAP 간격으로 펼친다.
+ * 위치를 정하는 작업(이동/추가/재배치)은 모두 먼저 lockPositions 로 프로젝트 행을 잠가, 옛 간격으로 계산한 위치가 재배치와 섞이지 않게 한다.
+ */
+@Component
+public class IssuePositionRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssuePositionRebalancer.class);
+
+    public static final int POSITION_GAP = 1024;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 프로젝트의 카드 위치 변경을 직렬화한다 - 이웃 위치를 읽기 전에 호출하고, 잠금은 트랜잭션 끝까지 유지된다
+     */
+    public void lockPositions(Long projectId) {
+        jdbcTemplate.queryForList("SELECT id FROM project WHERE id = ? FOR UPDATE", Long.class, projectId);
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 바로 재배치한다 (간격이 완전히 바닥난 경우)
+     * 프로젝트 행을 잠근 뒤 읽으므로 재배치 도중에는 다른 이동이 이웃 위치를 읽지 못한다.
+     * 잠금 밖에서 위치를 바꾼 카드가 있으면 (읽은 위치가 달라져 있으면) 덮어쓰지 않고 건너뛴다.
+     */
+    public void rebalance(Long projectId, Issue.Status status) {
+        lockPositions(projectId);
+        List<PositionRow> rows = jdbcTemplate.query(
+                "SELECT id, position FROM issue WHERE project_id = ? AND status = ? ORDER BY position, id",
+                (rs, rowNum) -> new PositionRow(rs.getLong("id"), rs.getInt("position")),
+                projectId, status.name());
+
+        List<Object[]> batchArgs = spread(rows);
+        int skipped = 0;
+        for (int from = 0; from < batchArgs.size(); from += BATCH_SIZE) {
+            int[] updated = jdbcTemplate.batchUpdate(
+                    "UPDATE issue SET position = ? WHERE id = ? AND position = ?",
+                    batchArgs.subList(from, Math.min(from + BATCH_SIZE, batchArgs.size())));
+            for (int count : updated) {
+                if (count == 0) {
+                    skipped++;
+                }
+            }
+        }
+
+        if (skipped > 0) {
+            logger.warn("Skipped {} issues moved without the position lock while rebalancing project {} / {}",
+                    skipped, projectId, status);
+        }
+    }
+
+    // 정렬된 행을 GAP 간격으로 펼친 UPDATE 인자 (새 위치, id, 읽은 위치) - 이미 제자리인 행은 뺀다
+    static List<Object[]> spread(List<PositionRow> rows) {
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            PositionRow row = rows.get(i);
+            int position = i * POSITION_GAP;
+            if (row.position() != position) {
+                batchArgs.add(new Object[] { position, row.id(), row.position() });
+            }
+        }
+        return batchArgs;
+    }
+
+    /**
+     * lower 와 upper 사이에 넣을 위치와 양옆에 남는 간격을 구한다 (null 은 그쪽이 컬럼 끝이라는 뜻)
+     * 사이에 정수 자리가 없거나 int 범위를 벗어나면 null - 재배치가 필요하다.
+     */
+    static Slot slotBetween(Integer lower, Integer upper) {
+        long position;
+        long gap;
+        if (lower == null && upper == null) {
+            return new Slot(0, POSITION_GAP);
+        } else if (upper == null) {
+            position = (long) lower + POSITION_GAP;
+            gap = POSITION_GAP;
+        } else if (lower == null) {
+            position = (long) upper - POSITION_GAP;
+            gap = POSITION_GAP;
+        } else {
+            if ((long) upper - lower < 2) {
+                return null;
+            }
+            position = lower + ((long) upper - lower) / 2;
+            gap = Math.min(position - lower, upper - position);
+        }
+
+        if (position > Integer.MAX_VALUE || position < Integer.MIN_VALUE) {
+            return null;
+        }
+        return new Slot((int) position, gap);
+    }
+
+    /**
+     * 간격이 좁아진 컬럼을 요청 흐름 밖에서 재배치한다
+     */
+    @Async
+    public void rebalanceInBackground(Long projectId, Issue.Status status) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx -> rebalance(projectId, status));
+            logger.debug("Rebalanced positions for project {} / {}", projectId, status);
+        } catch (Exception ex) {
+            // 다음 이동에서 간격이 바닥나면 동기 재배치로 처리된다
+            logger.error("Failed to rebalance positions for project {} / {}", projectId, status, ex);
+        }
+    }
+
+    record PositionRow(long id, int position) {
+    }
+
+    record Slot(int position, long gap) {
+    }
+}
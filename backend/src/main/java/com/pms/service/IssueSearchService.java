@@ -0,0 +1,396 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pms.config.AsyncConfig;
+import com.pms.event.IssueChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 이슈 전문 검색 색인 (Lucene, 프로세스 내장)
+ * 제목/설명을 Nori 형태소 분석기로 색인하고, 이슈 변경 이벤트로 커밋 이후 증분 갱신한다.
+ * search.index.path 가 비어 있으면 메모리 색인을 사용한다.
+ * 색인은 노드마다 따로 두므로, 변경 이벤트를 Redis Pub/Sub 으로 다른 노드에 중계해 각 노드가 자기 색인에 반영한다.
+ * 중계 메시지를 놓친 노드는 rebuild 로 맞춘다.
+ */
+@Service
+public class IssueSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueSearchService.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_PROJECT_ID = "projectId";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+
+    static final String CHANGE_CHANNEL = "search:issue-changed";
+
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${search.index.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${search.index.path:./data/search-index}")
+    private String indexPath;
+
+    private Directory directory;
+    private Analyzer analyzer;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    // rebuild 진행 중에 들어온 변경 이벤트 - 스캔이 끝난 뒤 다시 적용한다 (rebuild 중이 아니면 null)
+    private final Object indexLock = new Object();
+    private List<IssueChangedEvent> changedDuringRebuild;
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Paths.get(indexPath));
+        analyzer = new KoreanAnalyzer();
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        if (relayEnabled) {
+            MessageListener listener =
+                    (message, pattern) -> onRelayMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+            redisMessageListenerContainer.addMessageListener(listener, new ChannelTopic(CHANGE_CHANNEL));
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        index(event);
+        publishChange(event);
+    }
+
+    private void publishChange(IssueChangedEvent event) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, nodeId + "|" + objectMapper.writeValueAsString(event));
+        } catch (Exception ex) {
+            // 다른 노드의 색인은 다음 rebuild 때 맞춰진다
+            logger.error("Failed to relay search index change for issue: {}", event.issueId(), ex);
+        }
+    }
+
+    private void onRelayMessage(String payload) {
+        try {
+            String[] parts = payload.split("\\|", 2);
+            if (parts.length != 2 || nodeId.equals(parts[0])) {
+                return;
+            }
+
+            index(objectMapper.readValue(parts[1], IssueChangedEvent.class));
+        } catch (Exception ex) {
+            logger.error("Invalid search index change message: {}", payload, ex);
+        }
+    }
+
+    private void index(IssueChangedEvent event) {
+        synchronized (indexLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event);
+                return;
+            }
+            apply(event);
+        }
+    }
+
+    private void apply(IssueChangedEvent event) {
+        try {
+            Term idTerm = new Term(FIELD_ID, String.valueOf(event.issueId()));
+            if (event.type() == IssueChangedEvent.Type.DELETED) {
+                indexWriter.deleteDocuments(idTerm);
+            } else {
+                indexWriter.updateDocument(idTerm,
+                        toDocument(event.issueId(), event.projectId(), event.title(), event.description()));
+            }
+        } catch (IOException ex) {
+            // 색인은 rebuild 로 복구할 수 있으므로 요청은 실패시키지 않는다
+            logger.error("Failed to update search index for issue: {}", event.issueId(), ex);
+        }
+    }
+
+    /**
+     * 프로젝트 내 이슈를 관련도순으로 검색해 이슈 ID 페이지를 반환한다
+     */
+    public Page<Long> search(Long projectId, String text, int page, int size) throws IOException {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Query textQuery = buildTextQuery(text);
+        if (textQuery == null) {
+            return new PageImpl<>(List.of(), pageRequest, 0);
+        }
+
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_PROJECT_ID, String.valueOf(projectId))), BooleanClause.Occur.FILTER)
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .build();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, (page + 1) * size);
+            long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? topDocs.totalHits.value
+                    : searcher.count(query);
+
+            List<Long> issueIds = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = page * size; i < scoreDocs.length; i++) {
+                Document document = searcher.storedFields().document(scoreDocs[i].doc);
+                issueIds.add(Long.parseLong(document.get(FIELD_ID)));
+            }
+            return new PageImpl<>(issueIds, pageRequest, total);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * issue 테이블 전체로 색인을 다시 맞춘다
+     * 색인을 비우지 않고 행마다 문서를 교체한 뒤 테이블에 없는 문서만 지우므로, 도중에도 검색 결과가 비거나 줄지 않는다.
+     * 스캔 도중의 변경 이벤트는 모아 두었다가 스캔 뒤에 적용해, 먼저 읽은 행이 최신 변경을 덮어쓰지 않게 한다.
+     */
+    public synchronized int rebuild() throws IOException {
+        synchronized (indexLock) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+
+        Set<String> scannedIds = new HashSet<>();
+        try {
+            jdbcTemplate.query("SELECT id, project_id, title, description FROM issue", rs -> {
+                try {
+                    long issueId = rs.getLong("id");
+                    indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(issueId)),
+                            toDocument(issueId, rs.getLong("project_id"), rs.getString("title"), rs.getString("description")));
+                    scannedIds.add(String.valueOf(issueId));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            deleteMissing(scannedIds);
+        } finally {
+            synchronized (indexLock) {
+                changedDuringRebuild.forEach(this::apply);
+                changedDuringRebuild = null;
+            }
+        }
+
+        indexWriter.commit();
+        searcherManager.maybeRefreshBlocking();
+        logger.info("Rebuilt issue search index with {} documents", scannedIds.size());
+        return scannedIds.size();
+    }
+
+    // 스캔에서 보지 못한 문서 (rebuild 전에 지워졌는데 이벤트를 놓친 이슈) 를 지운다
+    private void deleteMissing(Set<String> scannedIds) throws IOException {
+        List<Term> missing = new ArrayList<>();
+        try (DirectoryReader reader = DirectoryReader.open(indexWriter)) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                LeafReader leafReader = leaf.reader();
+                Bits liveDocs = leafReader.getLiveDocs();
+                StoredFields storedFields = leafReader.storedFields();
+                for (int doc = 0; doc < leafReader.maxDoc(); doc++) {
+                    if (liveDocs != null && !liveDocs.get(doc)) {
+                        continue;
+                    }
+                    String issueId = storedFields.document(doc).get(FIELD_ID);
+                    if (!scannedIds.contains(issueId)) {
+                        missing.add(new Term(FIELD_ID, issueId));
+                    }
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            indexWriter.deleteDocuments(missing.toArray(new Term[0]));
+        }
+    }
+
+    // 기존 색인이 없으면 (최초 기동, 메모리 색인) 백그라운드에서 전체 색인을 만든다
+    @Async(AsyncConfig.INDEXING_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (indexWriter.getDocStats().numDocs == 0) {
+                rebuild();
+            }
+        } catch (Exception ex) {
+            logger.error("Failed to build issue search index", ex);
+        }
+    }
+
+    // 변경 사항을 검색에 반영 (near-real-time)
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            logger.error("Failed to refresh issue search index", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (IOException ex) {
+            logger.error("Failed to commit issue search index", ex);
+        }
+    }
+
+    private Document toDocument(Long issueId, Long projectId, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(issueId), Field.Store.YES));
+        document.add(new StringField(FIELD_PROJECT_ID, String.valueOf(projectId), Field.Store.NO));
+        document.add(new TextField(FIELD_TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, description != null ? description : "", Field.Store.NO));
+        return document;
+    }
+
+    // 단어마다 형태소 일치를 요구하고, 입력 중인 마지막 단어는 접두어 일치도 허용한다
+    private Query buildTextQuery(String text) throws IOException {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        String[] words = text.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            BooleanQuery.Builder wordQuery = new BooleanQuery.Builder();
+
+            List<String> tokens = analyze(words[i]);
+            if (!tokens.isEmpty()) {
+                BooleanQuery.Builder tokensQuery = new BooleanQuery.Builder();
+                for (String token : tokens) {
+                    tokensQuery.add(fieldsQuery(token), BooleanClause.Occur.MUST);
+                }
+                wordQuery.add(tokensQuery.build(), BooleanClause.Occur.SHOULD);
+            }
+
+            if (i == words.length - 1) {
+                wordQuery.add(new BoostQuery(new PrefixQuery(new Term(FIELD_TITLE, words[i])), TITLE_BOOST),
+                        BooleanClause.Occur.SHOULD);
+                wordQuery.add(new PrefixQuery(new Term(FIELD_DESCRIPTION, words[i])), BooleanClause.Occur.SHOULD);
+            }
+
+            BooleanQuery built = wordQuery.build();
+            if (!built.clauses().isEmpty()) {
+                builder.add(built, BooleanClause.Occur.MUST);
+            }
+        }
+
+        BooleanQuery query = builder.build();
+        return query.clauses().isEmpty() ? null : query;
+    }
+
+    private Query fieldsQuery(String token) {
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, token)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(FIELD_DESCRIPTION, token)), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private List<String> analyze(String word) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_TITLE, word)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+}
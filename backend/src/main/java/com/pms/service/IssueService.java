@@ -1,29 +1,65 @@
 package com.pms.service;
 
+import com.pms.dto.request.BatchCreateIssuesRequest;
+import com.pms.dto.request.BulkUpdateIssuesRequest;
+import com.pms.dto.request.IssueFilterRequest;
+import com.pms.dto.response.CursorPageResponse;
+import com.pms.dto.response.IssueCardResponse;
+import com.pms.event.IssueBoardEvent;
+import com.pms.event.IssueChangedEvent;
 import com.pms.entity.Issue;
 import com.pms.entity.Label;
+import com.pms.entity.Notification;
 import com.pms.entity.Project;
 import com.pms.entity.User;
+import com.pms.repository.IssueCursor;
 import com.pms.repository.IssueRepository;
 import com.pms.repository.LabelRepository;
 import com.pms.repository.ProjectRepository;
 import com.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class IssueService {
     
+    // 이웃과의 간격이 이 값 이하로 좁아지면 백그라운드에서 컬럼을 재배치한다
+    private static final int MIN_POSITION_GAP = 8;
+    
+    private static final int MAX_FILTER_PAGE_SIZE = 200;
+    
+    // 일괄 처리 시 이 건수마다 flush/clear 해서 영속성 컨텍스트를 작게 유지한다 (jdbc.batch_size 의 배수)
+    private static final int BULK_FLUSH_SIZE = 500;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     @Autowired
     private IssueRepository issueRepository;
     
@@ -36,6 +72,30 @@ public class IssueService {
     @Autowired
     private LabelRepository labelRepository;
     
+    @Autowired
+    private IssuePositionRebalancer positionRebalancer;
+    
+    @Autowired
+    private IssueSearchService issueSearchService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
+    @Autowired
+    private ActivityLogWriter activityLogWriter;
+    
+    @Autowired
+    private NotificationService notificationService;
+    
+    @Autowired
+    private AttachmentService attachmentService;
+    
+    @Autowired
+    private SubtaskRollupService subtaskRollupService;
+    
     public Issue createIssue(String title, String description, Issue.Type type, Issue.Priority priority,
                            Long projectId, Long reporterId, Long assigneeId, LocalDateTime dueDate, 
                            BigDecimal storyPoints, Set<Long> labelIds) {
@@ -65,8 +125,7 @@ public class IssueService {
         }
         
         // Calculate position (add to the end)
-        List<Issue> existingIssues = issueRepository.findByProjectAndStatusOrderByPositionAsc(project, Issue.Status.TODO);
-        issue.setPosition(existingIssues.size());
+        issue.setPosition(nextAppendPosition(project.getId(), Issue.Status.TODO));
         
         Issue savedIssue = issueRepository.save(issue);
         
@@ -80,9 +139,220 @@ public class IssueService {
             savedIssue = issueRepository.save(savedIssue);
         }
         
+        projectStatsService.issueCreated(savedIssue);
+        eventPublisher.publishEvent(IssueChangedEvent.created(
+                savedIssue.getId(), project.getId(), savedIssue.getTitle(), savedIssue.getDescription()));
+        activityLogWriter.record("ISSUE_CREATED", ActivityLogWriter.ENTITY_ISSUE, savedIssue.getId(), project.getId(),
+                null, savedIssue.getTitle());
+        eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.CREATED, savedIssue));
+        notifyAssigned(savedIssue);
+        
         return savedIssue;
     }
     
+    /**
+     * 이슈 일괄 생성 - 프로젝트/사용자/라벨은 집합 쿼리로 한 번에 읽고 INSERT 는 JDBC 배치로 나간다.
+     * 새 이슈는 TODO 컬럼 끝에 요청 순서대로 붙는다.
+     */
+    public List<Long> createIssues(Long projectId, Long reporterId, List<BatchCreateIssuesRequest.Item> items) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+        
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> labelIds = new HashSet<>();
+        userIds.add(reporterId);
+        for (BatchCreateIssuesRequest.Item item : items) {
+            if (item.getAssigneeId() != null) {
+                userIds.add(item.getAssigneeId());
+            }
+            if (item.getLabelIds() != null) {
+                labelIds.addAll(item.getLabelIds());
+            }
+        }
+        
+        Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Label> labelsById = findProjectLabels(projectId, labelIds);
+        
+        User reporter = usersById.get(reporterId);
+        if (reporter == null) {
+            throw new RuntimeException("Reporter not found");
+        }
+        
+        int position = reserveAppendPositions(projectId, Issue.Status.TODO, items.size());
+        List<Long> issueIds = new ArrayList<>(items.size());
+        ProjectStatsService.Delta statsDelta = new ProjectStatsService.Delta();
+        
+        for (BatchCreateIssuesRequest.Item item : items) {
+            Issue issue = new Issue();
+            issue.setTitle(item.getTitle());
+            issue.setDescription(item.getDescription());
+            issue.setType(item.getType() != null ? item.getType() : Issue.Type.TASK);
+            issue.setPriority(item.getPriority() != null ? item.getPriority() : Issue.Priority.MEDIUM);
+            issue.setProject(project);
+            issue.setReporter(reporter);
+            issue.setDueDate(item.getDueDate());
+            issue.setStoryPoints(item.getStoryPoints());
+            issue.setStatus(Issue.Status.TODO);
+            issue.setPosition(position);
+            position += IssuePositionRebalancer.POSITION_GAP;
+            
+            if (item.getAssigneeId() != null) {
+                User assignee = usersById.get(item.getAssigneeId());
+                if (assignee == null) {
+                    throw new RuntimeException("Assignee not found: " + item.getAssigneeId());
+                }
+                issue.setAssignee(assignee);
+            }
+            
+            // 소유 측(issue.labels)만 채운다 - addLabel 은 라벨마다 label.issues 전체를 읽어 온다
+            if (item.getLabelIds() != null) {
+                for (Long labelId : item.getLabelIds()) {
+                    issue.getLabels().add(labelsById.get(labelId));
+                }
+            }
+            
+            // 시퀀스(pooled) ID 라 persist 시점에 INSERT 가 나가지 않고 flush 때 배치로 묶인다
+            entityManager.persist(issue);
+            issueIds.add(issue.getId());
+            statsDelta.issueAdded(issue.getStatus(), issue.getStoryPoints());
+            eventPublisher.publishEvent(IssueChangedEvent.created(
+                    issue.getId(), projectId, issue.getTitle(), issue.getDescription()));
+            activityLogWriter.record("ISSUE_CREATED", ActivityLogWriter.ENTITY_ISSUE, issue.getId(), projectId,
+                    null, issue.getTitle());
+            eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.CREATED, issue));
+            notifyAssigned(issue);
+            
+            if (issueIds.size() % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        
+        projectStatsService.apply(projectId, statsDelta);
+        return issueIds;
+    }
+    
+    /**
+     * 이슈 일괄 수정 - 요청에 지정된 필드만 모든 대상 이슈에 적용한다.
+     * 상태가 바뀌는 이슈는 새 컬럼 끝에 요청 순서대로 붙는다.
+     */
+    public int updateIssues(Long projectId, BulkUpdateIssuesRequest request) {
+        List<Long> issueIds = request.getIssueIds().stream().distinct().collect(Collectors.toList());
+        
+        boolean unassign = Boolean.TRUE.equals(request.getUnassign());
+        User assignee = null;
+        if (!unassign && request.getAssigneeId() != null) {
+            assignee = userRepository.findById(request.getAssigneeId())
+                    .orElseThrow(() -> new RuntimeException("Assignee not found"));
+        }
+        
+        Map<Long, Label> addLabels = findProjectLabels(projectId, request.getAddLabelIds());
+        Set<Long> removeLabelIds = request.getRemoveLabelIds() != null ? request.getRemoveLabelIds() : Set.of();
+        boolean changeLabels = !addLabels.isEmpty() || !removeLabelIds.isEmpty();
+        
+        Issue.Status status = request.getStatus();
+        int position = status != null ? reserveAppendPositions(projectId, status, issueIds.size()) : 0;
+        ProjectStatsService.Delta statsDelta = new ProjectStatsService.Delta();
+        Map<Long, SubtaskRollupService.Delta> rollupDeltas = new HashMap<>();
+        
+        for (int from = 0; from < issueIds.size(); from += BULK_FLUSH_SIZE) {
+            List<Long> chunk = issueIds.subList(from, Math.min(from + BULK_FLUSH_SIZE, issueIds.size()));
+            List<Issue> issues = changeLabels
+                    ? issueRepository.findAllWithLabelsByIdIn(chunk)
+                    : issueRepository.findAllById(chunk);
+            Map<Long, Issue> issuesById = issues.stream()
+                    .collect(Collectors.toMap(Issue::getId, Function.identity()));
+            
+            for (Long issueId : chunk) {
+                Issue issue = issuesById.get(issueId);
+                if (issue == null || !issue.getProject().getId().equals(projectId)) {
+                    throw new RuntimeException("Issue not found: " + issueId);
+                }
+                
+                Issue.Status oldStatus = issue.getStatus();
+                Long oldAssigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
+                if (status != null && issue.getStatus() != status) {
+                    activityLogWriter.record("ISSUE_STATUS_CHANGED", ActivityLogWriter.ENTITY_ISSUE, issueId, projectId,
+                            issue.getStatus(), status);
+                    statsDelta.issueChanged(issue.getStatus(), issue.getStoryPoints(), status, issue.getStoryPoints());
+                    if (issue.getParentIssue() != null) {
+                        rollupDeltas.computeIfAbsent(issue.getParentIssue().getId(), id -> new SubtaskRollupService.Delta())
+                                .changed(issue.getStatus(), issue.getStoryPoints(), status, issue.getStoryPoints());
+                    }
+                    issue.setStatus(status);
+                    issue.setPosition(position);
+                    position += IssuePositionRebalancer.POSITION_GAP;
+                }
+                boolean changed = issue.getStatus() != oldStatus;
+                if (request.getPriority() != null && issue.getPriority() != request.getPriority()) {
+                    issue.setPriority(request.getPriority());
+                    changed = true;
+                }
+                if (request.getType() != null && issue.getType() != request.getType()) {
+                    issue.setType(request.getType());
+                    changed = true;
+                }
+                if (request.getDueDate() != null && !request.getDueDate().equals(issue.getDueDate())) {
+                    issue.setDueDate(request.getDueDate());
+                    changed = true;
+                }
+                if (unassign && oldAssigneeId != null) {
+                    issue.setAssignee(null);
+                    changed = true;
+                } else if (assignee != null && !assignee.getId().equals(oldAssigneeId)) {
+                    issue.setAssignee(assignee);
+                    changed = true;
+                }
+                
+                if (changeLabels) {
+                    changed |= issue.getLabels().removeIf(label -> removeLabelIds.contains(label.getId()));
+                    changed |= issue.getLabels().addAll(addLabels.values());
+                }
+                
+                // 요청 값이 이미 그대로인 이슈는 기록/이벤트를 남기지 않는다
+                if (!changed) {
+                    continue;
+                }
+                eventPublisher.publishEvent(IssueChangedEvent.updated(
+                        issue.getId(), projectId, issue.getTitle(), issue.getDescription()));
+                activityLogWriter.record("ISSUE_UPDATED", ActivityLogWriter.ENTITY_ISSUE, issueId, projectId, null, null);
+                eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.UPDATED, issue));
+                if (assignee != null && !assignee.getId().equals(oldAssigneeId)) {
+                    notifyAssigned(issue);
+                }
+                if (issue.getStatus() != oldStatus) {
+                    notifyStatusChanged(issue, oldStatus);
+                }
+            }
+            
+            // 변경 감지된 UPDATE 를 배치로 내보내고 다음 묶음 전에 컨텍스트를 비운다
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        projectStatsService.apply(projectId, statsDelta);
+        subtaskRollupService.apply(rollupDeltas);
+        return issueIds.size();
+    }
+    
+    // 라벨을 한 번에 조회하고 모두 해당 프로젝트 소속인지 확인한다
+    private Map<Long, Label> findProjectLabels(Long projectId, Set<Long> labelIds) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, Label> labelsById = labelRepository.findAllById(labelIds).stream()
+                .collect(Collectors.toMap(Label::getId, Function.identity()));
+        for (Long labelId : labelIds) {
+            Label label = labelsById.get(labelId);
+            if (label == null || !label.getProject().getId().equals(projectId)) {
+                throw new RuntimeException("Label not found: " + labelId);
+            }
+        }
+        return labelsById;
+    }
+    
     public Optional<Issue> findById(Long id) {
         return issueRepository.findById(id);
     }
@@ -101,13 +371,6 @@ public class IssueService {
         return issueRepository.findByProjectAndStatus(project, status, pageable);
     }
     
-    public Page<Issue> searchIssues(Long projectId, String query, Pageable pageable) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        return issueRepository.searchByProject(project, query, pageable);
-    }
-    
     public Page<Issue> findUserAssignedIssues(Long userId, Pageable pageable) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -129,6 +392,103 @@ public class IssueService {
         return issueRepository.findByProjectOrderByPositionAsc(project);
     }
     
+    // 목록/칸반용 카드 조회 - 페이지당 카드 쿼리 + 라벨 쿼리 (+ 카운트 쿼리)
+    @Transactional(readOnly = true)
+    public Page<IssueCardResponse> findIssueCardsByProject(Long projectId, Issue.Status status, String search,
+                                                           Pageable pageable) {
+        Page<IssueCardResponse> cards;
+        if (search != null && !search.trim().isEmpty()) {
+            cards = searchIssueCards(projectId, search, pageable);
+        } else if (status != null) {
+            cards = issueRepository.findCardsByProjectIdAndStatus(projectId, status, pageable);
+        } else {
+            cards = issueRepository.findCardsByProjectId(projectId, pageable);
+        }
+        
+        fillCardLabels(cards.getContent());
+        return cards;
+    }
+    
+    // 전문 검색 색인에서 관련도순 ID 를 얻고 카드는 ID 로 한 번에 조회한다 (정렬 파라미터는 무시)
+    private Page<IssueCardResponse> searchIssueCards(Long projectId, String search, Pageable pageable) {
+        Page<Long> issueIds;
+        try {
+            issueIds = issueSearchService.search(projectId, search, pageable.getPageNumber(), pageable.getPageSize());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        
+        if (issueIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, issueIds.getTotalElements());
+        }
+        
+        Map<Long, IssueCardResponse> cardsById = issueRepository.findCardsByIds(issueIds.getContent()).stream()
+                .collect(Collectors.toMap(IssueCardResponse::getId, Function.identity()));
+        List<IssueCardResponse> ranked = issueIds.getContent().stream()
+                .map(cardsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        
+        return new PageImpl<>(ranked, pageable, issueIds.getTotalElements());
+    }
+    
+    @Transactional(readOnly = true)
+    public List<IssueCardResponse> getKanbanCards(Long projectId) {
+        List<IssueCardResponse> cards = issueRepository.findKanbanCardsByProjectId(projectId);
+        fillCardLabels(cards);
+        return cards;
+    }
+    
+    @Transactional(readOnly = true)
+    public Page<IssueCardResponse> findUserAssignedIssueCards(Long userId, Pageable pageable) {
+        Page<IssueCardResponse> cards = issueRepository.findCardsByAssigneeId(userId, pageable);
+        fillCardLabels(cards.getContent());
+        return cards;
+    }
+    
+    @Transactional(readOnly = true)
+    public Page<IssueCardResponse> findUserReportedIssueCards(Long userId, Pageable pageable) {
+        Page<IssueCardResponse> cards = issueRepository.findCardsByReporterId(userId, pageable);
+        fillCardLabels(cards.getContent());
+        return cards;
+    }
+    
+    /**
+     * 동적 필터 + 키셋 페이지네이션 - 한 건 더 읽어서 다음 페이지 존재 여부를 판단한다
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<IssueCardResponse> filterIssueCards(Long projectId, IssueFilterRequest filter) {
+        int size = Math.max(1, Math.min(filter.getSize(), MAX_FILTER_PAGE_SIZE));
+        IssueCursor after = filter.getCursor() != null && !filter.getCursor().isBlank()
+                ? IssueCursor.decode(filter.getCursor(), filter.getSort())
+                : null;
+        
+        List<IssueCardResponse> cards = new ArrayList<>(
+                issueRepository.findCardsByFilter(projectId, filter, after, size + 1));
+        
+        String nextCursor = null;
+        if (cards.size() > size) {
+            cards = new ArrayList<>(cards.subList(0, size));
+            nextCursor = IssueCursor.from(cards.get(size - 1), filter.getSort()).encode();
+        }
+        
+        fillCardLabels(cards);
+        return new CursorPageResponse<>(cards, nextCursor);
+    }
+    
+    private void fillCardLabels(List<IssueCardResponse> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, IssueCardResponse> cardsById = cards.stream()
+                .collect(Collectors.toMap(IssueCardResponse::getId, Function.identity()));
+        
+        for (Object[] row : issueRepository.findCardLabelsByIssueIds(cardsById.keySet())) {
+            cardsById.get((Long) row[0]).getLabelIds().add((Long) row[1]);
+        }
+    }
+    
     public Issue updateIssue(Long issueId, String title, String description, Issue.Type type, 
                            Issue.Priority priority, Issue.Status status, Long assigneeId, 
                            LocalDateTime dueDate, BigDecimal storyPoints, Set<Long> labelIds) {
@@ -136,6 +496,10 @@ public class IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new RuntimeException("Issue not found"));
         
+        Issue.Status oldStatus = issue.getStatus();
+        BigDecimal oldStoryPoints = issue.getStoryPoints();
+        Long oldAssigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
+        
         if (title != null) issue.setTitle(title);
         if (description != null) issue.setDescription(description);
         if (type != null) issue.setType(type);
@@ -164,7 +528,25 @@ public class IssueService {
             }
         }
         
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        projectStatsService.issueChanged(savedIssue.getProject().getId(),
+                oldStatus, oldStoryPoints, savedIssue.getStatus(), savedIssue.getStoryPoints());
+        subtaskRollupService.subtaskChanged(savedIssue, oldStatus, oldStoryPoints);
+        eventPublisher.publishEvent(IssueChangedEvent.updated(
+                savedIssue.getId(), savedIssue.getProject().getId(), savedIssue.getTitle(), savedIssue.getDescription()));
+        if (oldStatus != savedIssue.getStatus()) {
+            activityLogWriter.record("ISSUE_STATUS_CHANGED", ActivityLogWriter.ENTITY_ISSUE, savedIssue.getId(),
+                    savedIssue.getProject().getId(), oldStatus, savedIssue.getStatus());
+            notifyStatusChanged(savedIssue, oldStatus);
+        }
+        activityLogWriter.record("ISSUE_UPDATED", ActivityLogWriter.ENTITY_ISSUE, savedIssue.getId(),
+                savedIssue.getProject().getId(), null, savedIssue.getTitle());
+        eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.UPDATED, savedIssue));
+        if (savedIssue.getAssignee() != null && !savedIssue.getAssignee().getId().equals(oldAssigneeId)) {
+            notifyAssigned(savedIssue);
+        }
+        
+        return savedIssue;
     }
     
     public Issue updateIssueStatus(Long issueId, Issue.Status newStatus) {
@@ -176,9 +558,14 @@ public class IssueService {
         
         // Update position when moving between columns
         if (!oldStatus.equals(newStatus)) {
-            List<Issue> newStatusIssues = issueRepository.findByProjectAndStatusOrderByPositionAsc(
-                    issue.getProject(), newStatus);
-            issue.setPosition(newStatusIssues.size());
+            issue.setPosition(nextAppendPosition(issue.getProject().getId(), newStatus));
+            projectStatsService.issueChanged(issue.getProject().getId(),
+                    oldStatus, issue.getStoryPoints(), newStatus, issue.getStoryPoints());
+            subtaskRollupService.subtaskChanged(issue, oldStatus, issue.getStoryPoints());
+            activityLogWriter.record("ISSUE_STATUS_CHANGED", ActivityLogWriter.ENTITY_ISSUE, issueId,
+                    issue.getProject().getId(), oldStatus, newStatus);
+            notifyStatusChanged(issue, oldStatus);
+            eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.MOVED, issue));
         }
         
         return issueRepository.save(issue);
@@ -188,6 +575,8 @@ public class IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new RuntimeException("Issue not found"));
         
+        Long oldAssigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
+        
         if (assigneeId != null) {
             User assignee = userRepository.findById(assigneeId)
                     .orElseThrow(() -> new RuntimeException("Assignee not found"));
@@ -195,22 +584,155 @@ public class IssueService {
         } else {
             issue.setAssignee(null);
         }
+        activityLogWriter.record("ISSUE_ASSIGNED", ActivityLogWriter.ENTITY_ISSUE, issueId, issue.getProject().getId(),
+                oldAssigneeId, assigneeId);
+        if (assigneeId != null && !assigneeId.equals(oldAssigneeId)) {
+            notifyAssigned(issue);
+        }
+        eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.UPDATED, issue));
         
         return issueRepository.save(issue);
     }
     
     public void reorderIssues(Long projectId, Issue.Status status, List<Long> issueIds) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+        if (issueIds == null || issueIds.isEmpty()) {
+            throw new RuntimeException("Issue IDs list cannot be empty");
+        }
+        
+        positionRebalancer.lockPositions(projectId);
+        Map<Long, Issue> issuesById = issueRepository.findAllById(issueIds).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+        ProjectStatsService.Delta statsDelta = new ProjectStatsService.Delta();
+        Map<Long, SubtaskRollupService.Delta> rollupDeltas = new HashMap<>();
         
         for (int i = 0; i < issueIds.size(); i++) {
             Long issueId = issueIds.get(i);
-            Issue issue = issueRepository.findById(issueId)
-                    .orElseThrow(() -> new RuntimeException("Issue not found: " + issueId));
+            Issue issue = issuesById.get(issueId);
+            if (issue == null || !issue.getProject().getId().equals(projectId)) {
+                throw new RuntimeException("Issue not found: " + issueId);
+            }
             
+            Issue.Status oldStatus = issue.getStatus();
+            if (oldStatus != status) {
+                statsDelta.issueChanged(oldStatus, issue.getStoryPoints(), status, issue.getStoryPoints());
+                if (issue.getParentIssue() != null) {
+                    rollupDeltas.computeIfAbsent(issue.getParentIssue().getId(), id -> new SubtaskRollupService.Delta())
+                            .changed(oldStatus, issue.getStoryPoints(), status, issue.getStoryPoints());
+                }
+                activityLogWriter.record("ISSUE_STATUS_CHANGED", ActivityLogWriter.ENTITY_ISSUE, issueId, projectId,
+                        oldStatus, status);
+            }
             issue.setStatus(status);
-            issue.setPosition(i);
-            issueRepository.save(issue);
+            issue.setPosition(i * IssuePositionRebalancer.POSITION_GAP);
+            if (oldStatus != status) {
+                notifyStatusChanged(issue, oldStatus);
+            }
+            eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.MOVED, issue));
+        }
+        
+        issueRepository.saveAll(issuesById.values());
+        projectStatsService.apply(projectId, statsDelta);
+        subtaskRollupService.apply(rollupDeltas);
+    }
+    
+    /**
+     * 이슈 하나를 afterIssueId 와 beforeIssueId 사이로 옮긴다 - 이동한 이슈 한 행만 갱신한다.
+     * 둘 다 없으면 컬럼 맨 끝에 붙인다.
+     */
+    public Issue moveIssue(Long projectId, Long issueId, Issue.Status status, Long afterIssueId, Long beforeIssueId) {
+        Issue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueId));
+        
+        if (!issue.getProject().getId().equals(projectId)) {
+            throw new RuntimeException("Issue not found: " + issueId);
+        }
+        
+        positionRebalancer.lockPositions(projectId);
+        IssuePositionRebalancer.Slot slot = findPositionSlot(projectId, status, issueId, afterIssueId, beforeIssueId);
+        if (slot == null) {
+            // 간격이 바닥났으면 컬럼을 다시 펼친 뒤 계산한다
+            positionRebalancer.rebalance(projectId, status);
+            slot = findPositionSlot(projectId, status, issueId, afterIssueId, beforeIssueId);
+            if (slot == null) {
+                throw new RuntimeException("Invalid move target for issue: " + issueId);
+            }
+        } else if (slot.gap() <= MIN_POSITION_GAP) {
+            rebalanceAfterCommit(projectId, status);
+        }
+        
+        Issue.Status oldStatus = issue.getStatus();
+        if (oldStatus != status) {
+            projectStatsService.issueChanged(projectId,
+                    oldStatus, issue.getStoryPoints(), status, issue.getStoryPoints());
+            activityLogWriter.record("ISSUE_STATUS_CHANGED", ActivityLogWriter.ENTITY_ISSUE, issueId, projectId,
+                    oldStatus, status);
+        }
+        issue.setStatus(status);
+        issue.setPosition(slot.position());
+        if (oldStatus != status) {
+            subtaskRollupService.subtaskChanged(issue, oldStatus, issue.getStoryPoints());
+            notifyStatusChanged(issue, oldStatus);
+        }
+        eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.MOVED, issue));
+        
+        return issueRepository.save(issue);
+    }
+    
+    private IssuePositionRebalancer.Slot findPositionSlot(Long projectId, Issue.Status status, Long issueId,
+                                          Long afterIssueId, Long beforeIssueId) {
+        Integer lower = afterIssueId != null ? positionInColumn(afterIssueId, projectId, status) : null;
+        Integer upper = beforeIssueId != null ? positionInColumn(beforeIssueId, projectId, status) : null;
+        
+        // 한쪽 이웃만 주어지면 실제 반대쪽 이웃을 찾는다
+        if (lower != null && upper == null) {
+            upper = issueRepository.findNextPosition(projectId, status, lower, issueId);
+        } else if (upper != null && lower == null) {
+            lower = issueRepository.findPreviousPosition(projectId, status, upper, issueId);
+        } else if (lower == null) {
+            lower = issueRepository.findMaxPosition(projectId, status);
+        }
+        
+        return IssuePositionRebalancer.slotBetween(lower, upper);
+    }
+    
+    private Integer positionInColumn(Long issueId, Long projectId, Issue.Status status) {
+        return issueRepository.findPositionInColumn(issueId, projectId, status)
+                .orElseThrow(() -> new RuntimeException("Issue not found in column: " + issueId));
+    }
+    
+    private int nextAppendPosition(Long projectId, Issue.Status status) {
+        return reserveAppendPositions(projectId, status, 1);
+    }
+    
+    // 컬럼 끝에 count 개의 자리(GAP 간격)를 잡고 첫 위치를 반환한다
+    private int reserveAppendPositions(Long projectId, Issue.Status status, int count) {
+        positionRebalancer.lockPositions(projectId);
+        long last = appendStart(projectId, status) + (long) (count - 1) * IssuePositionRebalancer.POSITION_GAP;
+        if (last > Integer.MAX_VALUE) {
+            positionRebalancer.rebalance(projectId, status);
+            last = appendStart(projectId, status) + (long) (count - 1) * IssuePositionRebalancer.POSITION_GAP;
+            if (last > Integer.MAX_VALUE) {
+                throw new RuntimeException("Too many issues in column: " + status);
+            }
+        }
+        return (int) (last - (long) (count - 1) * IssuePositionRebalancer.POSITION_GAP);
+    }
+    
+    private long appendStart(Long projectId, Issue.Status status) {
+        Integer max = issueRepository.findMaxPosition(projectId, status);
+        return max == null ? 0 : (long) max + IssuePositionRebalancer.POSITION_GAP;
+    }
+    
+    private void rebalanceAfterCommit(Long projectId, Issue.Status status) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    positionRebalancer.rebalanceInBackground(projectId, status);
+                }
+            });
+        } else {
+            positionRebalancer.rebalanceInBackground(projectId, status);
         }
     }
     
@@ -234,11 +756,46 @@ public class IssueService {
             subtask.setAssignee(assignee);
         }
         
-        // Calculate position
-        List<Issue> existingSubtasks = issueRepository.findSubtasksByParentIssue(parentIssue);
-        subtask.setPosition(existingSubtasks.size());
-        
-        return issueRepository.save(subtask);
+        // 부모의 서브태스크 수로 위치를 정한다 - 기존 서브태스크를 읽지 않는다
+        subtask.setPosition(parentIssue.getSubtaskCount());
+        
+        Issue savedSubtask = issueRepository.save(subtask);
+        projectStatsService.issueCreated(savedSubtask);
+        subtaskRollupService.subtaskAdded(savedSubtask);
+        eventPublisher.publishEvent(IssueChangedEvent.created(
+                savedSubtask.getId(), savedSubtask.getProject().getId(), savedSubtask.getTitle(), savedSubtask.getDescription()));
+        activityLogWriter.record("ISSUE_CREATED", ActivityLogWriter.ENTITY_ISSUE, savedSubtask.getId(),
+                savedSubtask.getProject().getId(), null, savedSubtask.getTitle());
+        notificationService.notifyUsers(Notification.Type.SUBTASK_CREATED, savedSubtask.getProject().getId(),
+                ActivityLogWriter.ENTITY_ISSUE, savedSubtask.getId(), "Subtask created: " + savedSubtask.getTitle(),
+                parentIssue.getTitle(), participantIds(parentIssue));
+        eventPublisher.publishEvent(IssueBoardEvent.of(IssueBoardEvent.Type.CREATED, savedSubtask));
+        notifyAssigned(savedSubtask);
+        
+        return savedSubtask;
+    }
+    
+    // 새 담당자에게 알린다 (본인이 스스로 맡은 경우는 NotificationService 가 거른다)
+    private void notifyAssigned(Issue issue) {
+        if (issue.getAssignee() == null) {
+            return;
+        }
+        notificationService.notifyUsers(Notification.Type.ISSUE_ASSIGNED, issue.getProject().getId(),
+                ActivityLogWriter.ENTITY_ISSUE, issue.getId(), "Issue assigned: " + issue.getTitle(), null,
+                List.of(issue.getAssignee().getId()));
+    }
+    
+    private void notifyStatusChanged(Issue issue, Issue.Status oldStatus) {
+        notificationService.notifyUsers(Notification.Type.ISSUE_STATUS_CHANGED, issue.getProject().getId(),
+                ActivityLogWriter.ENTITY_ISSUE, issue.getId(), "Status changed: " + issue.getTitle(),
+                oldStatus + " -> " + issue.getStatus(), participantIds(issue));
+    }
+    
+    // 보고자 + 담당자
+    private static List<Long> participantIds(Issue issue) {
+        return Arrays.asList(
+                issue.getReporter() != null ? issue.getReporter().getId() : null,
+                issue.getAssignee() != null ? issue.getAssignee().getId() : null);
     }
     
     public List<Issue> getSubtasks(Long parentIssueId) {
@@ -252,13 +809,35 @@ public class IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new RuntimeException("Issue not found"));
         
+        ProjectStatsService.Delta statsDelta = new ProjectStatsService.Delta();
+        
         // Delete all subtasks first
         List<Issue> subtasks = issueRepository.findSubtasksByParentIssue(issue);
+        
+        // 첨부파일 행은 cascade 로 지워지므로 공유 파일의 참조를 먼저 해제한다
+        List<Long> deletedIssueIds = new ArrayList<>();
+        deletedIssueIds.add(issueId);
+        subtasks.forEach(subtask -> deletedIssueIds.add(subtask.getId()));
+        attachmentService.releaseIssueAttachments(deletedIssueIds);
+        
         for (Issue subtask : subtasks) {
             issueRepository.delete(subtask);
+            statsDelta.issueRemoved(subtask.getStatus(), subtask.getStoryPoints());
+            eventPublisher.publishEvent(IssueChangedEvent.deleted(subtask.getId(), subtask.getProject().getId()));
+            eventPublisher.publishEvent(IssueBoardEvent.deleted(subtask.getProject().getId(), subtask.getId()));
+            activityLogWriter.record("ISSUE_DELETED", ActivityLogWriter.ENTITY_ISSUE, subtask.getId(),
+                    subtask.getProject().getId(), subtask.getTitle(), null);
         }
         
+        // 지우는 이슈가 서브태스크면 부모 집계에서 뺀다 (이 이슈의 서브태스크는 부모와 함께 사라지므로 따로 빼지 않는다)
+        subtaskRollupService.subtaskRemoved(issue);
         issueRepository.delete(issue);
+        statsDelta.issueRemoved(issue.getStatus(), issue.getStoryPoints());
+        projectStatsService.apply(issue.getProject().getId(), statsDelta);
+        eventPublisher.publishEvent(IssueChangedEvent.deleted(issue.getId(), issue.getProject().getId()));
+        eventPublisher.publishEvent(IssueBoardEvent.deleted(issue.getProject().getId(), issue.getId()));
+        activityLogWriter.record("ISSUE_DELETED", ActivityLogWriter.ENTITY_ISSUE, issue.getId(),
+                issue.getProject().getId(), issue.getTitle(), null);
     }
     
     public List<Issue> getUpcomingDueDates(Long userId, int days) {
@@ -0,0 +1,72 @@
+package com.pms.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각 기록
+ * 로그인마다 user 행을 갱신하지 않고 사용자별 최신 시각만 메모리에 모아 두었다가 주기적으로 JDBC 배치로 반영한다.
+ * 노드가 갑자기 죽으면 마지막 주기분이 유실될 수 있다 (표시용 값이라 허용).
+ */
+@Component
+public class LastLoginRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId) {
+        pending.merge(userId, LocalDateTime.now(), (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LocalDateTime> snapshot = new HashMap<>(pending);
+        List<Object[]> batchArgs = new ArrayList<>(snapshot.size());
+        snapshot.forEach((userId, loginAt) -> {
+            Timestamp timestamp = Timestamp.valueOf(loginAt);
+            batchArgs.add(new Object[] { timestamp, userId, timestamp });
+        });
+
+        try {
+            // 다른 노드가 더 최근 시각을 먼저 썼다면 덮어쓰지 않는다
+            for (int from = 0; from < batchArgs.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE user SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)",
+                        batchArgs.subList(from, Math.min(from + BATCH_SIZE, batchArgs.size())));
+            }
+            // 플러시 도중 다시 로그인한 사용자는 다음 주기에 반영되도록 남겨 둔다
+            snapshot.forEach(pending::remove);
+            logger.debug("Flushed last login time for {} users", snapshot.size());
+        } catch (Exception ex) {
+            logger.error("Failed to flush last login times, will retry", ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,109 @@
+package com.pms.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 로그인 실패 횟수 / 잠금 관리
+ * user 행 대신 Redis 에 이메일별 슬라이딩 윈도우(ZSET)를 두고 Lua 스크립트로 원자적으로 갱신한다.
+ * 윈도우 안의 실패가 max-failures 에 도달하면 lock-duration 동안 잠금 키를 둔다.
+ * Redis 장애 시에는 로그인을 막지 않는다.
+ */
+@Component
+public class LoginAttemptService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptService.class);
+
+    static final String FAILURE_KEY_PREFIX = "login:failures:";
+    static final String LOCK_KEY_PREFIX = "login:lock:";
+
+    // KEYS[1]=실패 ZSET, KEYS[2]=잠금 키 / ARGV[1]=현재 시각(ms), ARGV[2]=윈도우(ms), ARGV[3]=최대 실패, ARGV[4]=잠금(ms), ARGV[5]=멤버
+    private static final DefaultRedisScript<Long> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local window = tonumber(ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window) " +
+            "redis.call('ZADD', KEYS[1], now, ARGV[5]) " +
+            "redis.call('PEXPIRE', KEYS[1], window) " +
+            "local failures = redis.call('ZCARD', KEYS[1]) " +
+            "if failures >= tonumber(ARGV[3]) then " +
+            "  redis.call('SET', KEYS[2], '1', 'PX', ARGV[4]) " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return failures",
+            Long.class);
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Value("${auth.lockout.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${auth.lockout.window:15m}")
+    private Duration window;
+
+    @Value("${auth.lockout.lock-duration:15m}")
+    private Duration lockDuration;
+
+    public boolean isLocked(String email) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY_PREFIX + normalize(email)));
+        } catch (Exception ex) {
+            logger.error("Error checking login lock", ex);
+            return false;
+        }
+    }
+
+    /**
+     * 실패를 기록하고 윈도우 안의 실패 횟수를 반환한다 - 잠금에 도달하면 카운터는 초기화된다
+     */
+    public long recordFailure(String email) {
+        String key = normalize(email);
+        try {
+            Long failures = redisTemplate.execute(RECORD_FAILURE_SCRIPT,
+                    List.of(FAILURE_KEY_PREFIX + key, LOCK_KEY_PREFIX + key),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(window.toMillis()),
+                    String.valueOf(maxFailures),
+                    String.valueOf(lockDuration.toMillis()),
+                    UUID.randomUUID().toString());
+            if (failures != null && failures >= maxFailures) {
+                logger.warn("Login locked for {} after {} failed attempts", key, failures);
+            }
+            return failures != null ? failures : 0;
+        } catch (Exception ex) {
+            logger.error("Failed to record login failure", ex);
+            return 0;
+        }
+    }
+
+    public void reset(String email) {
+        try {
+            redisTemplate.delete(FAILURE_KEY_PREFIX + normalize(email));
+        } catch (Exception ex) {
+            logger.error("Failed to reset login failures", ex);
+        }
+    }
+
+    public void unlock(String email) {
+        String key = normalize(email);
+        try {
+            redisTemplate.delete(List.of(FAILURE_KEY_PREFIX + key, LOCK_KEY_PREFIX + key));
+        } catch (Exception ex) {
+            logger.error("Failed to unlock login", ex);
+        }
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
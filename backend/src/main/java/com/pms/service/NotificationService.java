@@ -0,0 +1,340 @@
+package com.pms.service;
+
+import com.pms.config.AsyncConfig;
+import com.pms.dto.response.CursorPageResponse;
+import com.pms.dto.response.NotificationResponse;
+import com.pms.entity.Notification;
+import com.pms.entity.User;
+import com.pms.event.NotificationEvent;
+import com.pms.repository.NotificationCursor;
+import com.pms.repository.NotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 / 알림함
+ * - 발송: 서비스가 NotificationEvent 를 발행하면 커밋 이후 notificationExecutor 에서 수신자별 행을 JDBC 배치로 넣는다
+ * - 안 읽은 수: Redis 카운터(notification:unread:{userId})로 관리해 헤더 배지가 COUNT(*) 를 돌리지 않는다.
+ *   키가 없을 때만 DB 에서 세어 채우고, 키가 있을 때만 증감한다 (TTL 이 지나면 다시 세어 오차를 바로잡는다)
+ *   증감은 커밋 이후에 한다 - 롤백되면 카운터를 건드리지 않는다
+ *   카운터를 바꾸는 DB 변경은 시작 전에 {key}:writers 에 표시(gen, inflight)를 남기고, 증감과 함께 표시를 거둔다.
+ *   채우기는 세기 전에 읽은 gen 이 그대로이고 진행 중인 변경이 없을 때만 한다 - 이미 센 변경의 증감이 한 번 더 더해지지 않는다
+ * - 알림함: (created_at, id) 키셋 페이지네이션
+ */
+@Service
+public class NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    static final String UNREAD_KEY_PREFIX = "notification:unread:";
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    static final String CHANGE_NONE = "0";
+    static final String CHANGE_EVICT = "evict";
+
+    // 끝나지 않은 변경 표시가 남아 있을 최대 시간 - 노드가 중간에 죽으면 이 시간 동안 카운터를 채우지 않는다
+    private static final Duration WRITER_TTL = Duration.ofMinutes(5);
+
+    // KEYS: writers / ARGV: ttl
+    static final DefaultRedisScript<Long> BEGIN_CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], 'gen', 1) " +
+            "local inflight = redis.call('HINCRBY', KEYS[1], 'inflight', 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return inflight",
+            Long.class);
+
+    // KEYS: writers, counter / ARGV: 증감(CHANGE_NONE, CHANGE_EVICT 또는 정수), ttl
+    // 카운터는 키가 있을 때만 바꾸고 0 아래로 내리지 않는다
+    static final DefaultRedisScript<Long> END_CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HINCRBY', KEYS[1], 'inflight', -1) < 0 then " +
+            "  redis.call('HSET', KEYS[1], 'inflight', 0) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "if ARGV[1] == 'evict' then " +
+            "  redis.call('DEL', KEYS[2]) " +
+            "  return -1 " +
+            "end " +
+            "local count = tonumber(redis.call('GET', KEYS[2])) " +
+            "local delta = tonumber(ARGV[1]) " +
+            "if not count or delta == 0 then " +
+            "  return -1 " +
+            "end " +
+            "if count + delta < 0 then " +
+            "  delta = -count " +
+            "end " +
+            "return redis.call('INCRBY', KEYS[2], delta)",
+            Long.class);
+
+    // KEYS: writers, counter / ARGV: 세기 전에 읽은 gen, 센 값, ttl
+    static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "local gen = redis.call('HGET', KEYS[1], 'gen') or '0' " +
+            "local inflight = tonumber(redis.call('HGET', KEYS[1], 'inflight') or '0') " +
+            "if gen ~= ARGV[1] or inflight > 0 then " +
+            "  return 0 " +
+            "end " +
+            "if redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3], 'NX') then " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.unread.ttl:1d}")
+    private Duration unreadTtl;
+
+    /**
+     * 현재 사용자가 한 변경을 수신자들에게 알린다 - 변경한 사용자 본인과 null 은 제외된다
+     */
+    public void notifyUsers(Notification.Type type, Long projectId, String entityType, Long entityId,
+                            String title, String message, Collection<Long> recipientIds) {
+        Long actorId = currentUserId();
+        Set<Long> recipients = recipientIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !id.equals(actorId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (recipients.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new NotificationEvent(type, actorId, projectId, entityType, entityId,
+                title, message, recipients));
+    }
+
+    // 리스너에는 @Transactional 을 붙이지 않는다 - 커밋 이후 단계라 INSERT 는 별도 트랜잭션으로 묶는다
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        List<Long> recipients = new ArrayList<>(event.recipientIds());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(recipients.size());
+        Set<Long> begun = new HashSet<>();
+        for (Long recipientId : recipients) {
+            batchArgs.add(new Object[] { event.type().name(), event.title(), event.message(),
+                    event.entityType(), event.entityId(), recipientId, event.projectId(), now, now });
+            if (beginUnreadChange(recipientId)) {
+                begun.add(recipientId);
+            }
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                for (int from = 0; from < batchArgs.size(); from += BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(
+                            "INSERT INTO notification (type, title, message, entity_type, entity_id, is_read, "
+                                    + "user_id, project_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?)",
+                            batchArgs.subList(from, Math.min(from + BATCH_SIZE, batchArgs.size())));
+                }
+            });
+        } catch (Exception ex) {
+            logger.error("Failed to deliver {} notification to {} users", event.type(), recipients.size(), ex);
+            recipients.forEach(recipientId -> endUnreadChange(recipientId, begun.contains(recipientId), CHANGE_NONE));
+            return;
+        }
+
+        recipients.forEach(recipientId -> endUnreadChange(recipientId, begun.contains(recipientId), "1"));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationResponse> getInbox(Long userId, String cursor, int size, boolean unreadOnly) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> notifications;
+        if (cursor != null && !cursor.isBlank()) {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            notifications = notificationRepository.findInboxAfter(userId, unreadOnly, after.createdAt(), after.id(), limit);
+        } else {
+            notifications = notificationRepository.findInbox(userId, unreadOnly, limit);
+        }
+
+        String nextCursor = null;
+        if (notifications.size() > pageSize) {
+            notifications = notifications.subList(0, pageSize);
+            Notification last = notifications.get(pageSize - 1);
+            nextCursor = new NotificationCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<NotificationResponse> content = notifications.stream()
+                .map(NotificationResponse::from)
+                .collect(Collectors.toList());
+        return new CursorPageResponse<>(content, nextCursor);
+    }
+
+    // 트랜잭션을 걸지 않는다 - 다시 세기가 같은 스냅샷을 읽으면 그 사이 커밋된 변경을 놓친다
+    public long getUnreadCount(Long userId) {
+        String key = UNREAD_KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Math.max(0, Long.parseLong(cached));
+            }
+        } catch (Exception ex) {
+            logger.error("Error reading unread notification count", ex);
+            return notificationRepository.countUnread(userId);
+        }
+
+        // 세기 전에 변경 표시를 읽는다 - 세는 동안 시작된 변경이 있으면 gen 이 달라져 채우지 않는다
+        List<String> writers;
+        try {
+            writers = redisTemplate.<String, String>opsForHash().multiGet(writersKey(userId), List.of("gen", "inflight"));
+        } catch (Exception ex) {
+            logger.error("Error reading unread notification writers", ex);
+            return notificationRepository.countUnread(userId);
+        }
+
+        long count = notificationRepository.countUnread(userId);
+        String generation = writers.get(0) != null ? writers.get(0) : "0";
+        boolean inFlight = writers.get(1) != null && Long.parseLong(writers.get(1)) > 0;
+        if (!inFlight) {
+            try {
+                redisTemplate.execute(SEED_SCRIPT, List.of(writersKey(userId), key),
+                        generation, String.valueOf(count), String.valueOf(unreadTtl.toSeconds()));
+            } catch (Exception ex) {
+                logger.error("Error caching unread notification count", ex);
+            }
+        }
+        return count;
+    }
+
+    @Transactional
+    public void markAsRead(Long userId, Long notificationId) {
+        boolean begun = beginUnreadChange(userId);
+        int updated;
+        try {
+            updated = notificationRepository.markAsRead(userId, notificationId, LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            endUnreadChange(userId, begun, CHANGE_NONE);
+            throw ex;
+        }
+        String change = updated > 0 ? "-1" : CHANGE_NONE;
+        runAfterCompletion(committed -> endUnreadChange(userId, begun, committed ? change : CHANGE_NONE));
+    }
+
+    /**
+     * 안 읽은 알림을 한 번의 UPDATE 로 모두 읽음 처리한다 - 처리한 건수를 반환한다
+     * 커밋 이후 카운터를 지운다. 0 으로 덮어쓰면 그 사이 도착한 알림의 증가분이 사라진다.
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        boolean begun = beginUnreadChange(userId);
+        int updated;
+        try {
+            updated = notificationRepository.markAllAsRead(userId, LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            endUnreadChange(userId, begun, CHANGE_NONE);
+            throw ex;
+        }
+        String change = updated > 0 ? CHANGE_EVICT : CHANGE_NONE;
+        runAfterCompletion(committed -> endUnreadChange(userId, begun, committed ? change : CHANGE_NONE));
+        return updated;
+    }
+
+    // 카운터를 바꿀 DB 변경 전에 호출 - 표시를 남기지 못했으면 false (끝날 때 카운터를 지운다)
+    private boolean beginUnreadChange(Long userId) {
+        try {
+            redisTemplate.execute(BEGIN_CHANGE_SCRIPT, List.of(writersKey(userId)),
+                    String.valueOf(WRITER_TTL.toSeconds()));
+            return true;
+        } catch (Exception ex) {
+            logger.error("Failed to mark unread notification change for user {}", userId, ex);
+            return false;
+        }
+    }
+
+    // 커밋(또는 롤백) 뒤 호출 - 표시를 거두고 카운터에 증감을 반영한다
+    private void endUnreadChange(Long userId, boolean begun, String change) {
+        if (!begun) {
+            // 표시 없이 바뀌었으므로 카운터를 믿을 수 없다 - 지워서 다음 조회 때 다시 세게 한다
+            if (!CHANGE_NONE.equals(change)) {
+                evictUnreadCount(userId);
+            }
+            return;
+        }
+
+        try {
+            redisTemplate.execute(END_CHANGE_SCRIPT, List.of(writersKey(userId), UNREAD_KEY_PREFIX + userId),
+                    change, String.valueOf(WRITER_TTL.toSeconds()));
+        } catch (Exception ex) {
+            evictUnreadCount(userId);
+        }
+    }
+
+    private static String writersKey(Long userId) {
+        return UNREAD_KEY_PREFIX + userId + ":writers";
+    }
+
+    private void runAfterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            action.accept(true);
+        }
+    }
+
+    private void evictUnreadCount(Long userId) {
+        try {
+            redisTemplate.delete(UNREAD_KEY_PREFIX + userId);
+        } catch (Exception ex) {
+            logger.error("Failed to evict unread notification count for user {}", userId, ex);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,245 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 프로젝트 단위 WebSocket 메시지의 노드 간 중계 (Redis Pub/Sub)
+ * 채널은 프로젝트마다 따로 두고(ws:project:{projectId}), 이 노드에 해당 프로젝트를 구독한 소켓이 있을 때만 채널을 구독한다.
+ * 따라서 메시지는 실제로 보고 있는 사용자가 있는 노드에만 전달된다.
+ * 보내는 쪽은 플러시 주기마다 프로젝트당 한 번만 발행하고(BoardUpdateBroadcaster), 자기 노드에는 Redis 를 거치지 않고 바로 보낸다.
+ * 구독자 수는 전역 lock 안에서 바꾸고, 채널 구독/해제(Redis I/O)는 lock 밖에서 프로젝트별 잠금으로 순서를 맞춰 한다.
+ */
+@Component
+public class ProjectEventRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventRelay.class);
+
+    static final String CHANNEL_PREFIX = "ws:project:";
+
+    private static final int CHANNEL_LOCK_STRIPES = 64;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${websocket.relay.enabled:true}")
+    private boolean enabled;
+
+    private final MessageListener listener =
+            (message, pattern) -> onRelayMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+
+    // 아래 두 맵은 lock 안에서만 다룬다
+    private final Object lock = new Object();
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new HashMap<>();
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+
+    // 실제로 구독 중인 채널 - 프로젝트별 잠금(channelLocks) 안에서만 바꾼다
+    private final Set<Long> subscribedChannels = ConcurrentHashMap.newKeySet();
+    private final Object[] channelLocks = IntStream.range(0, CHANNEL_LOCK_STRIPES).mapToObj(i -> new Object()).toArray();
+
+    private Counter publishedCounter;
+    private Counter receivedCounter;
+
+    @PostConstruct
+    void init() {
+        publishedCounter = meterRegistry.counter("websocket.relay.published");
+        receivedCounter = meterRegistry.counter("websocket.relay.received");
+        Gauge.builder("websocket.relay.subscribed.projects", this, relay -> relay.subscribedProjectCount())
+                .register(meterRegistry);
+    }
+
+    public static String channel(Long projectId) {
+        return CHANNEL_PREFIX + projectId;
+    }
+
+    /**
+     * 이 노드의 구독자에게 보내고, 같은 프로젝트를 보는 다른 노드로 중계한다
+     */
+    public void publish(Long projectId, String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String body = objectMapper.writeValueAsString(payload);
+            redisTemplate.convertAndSend(channel(projectId), nodeId + "|" + destination + "|" + body);
+            publishedCounter.increment();
+        } catch (Exception ex) {
+            // 다른 노드의 클라이언트는 재연결/resync 때 보드를 다시 읽는다
+            logger.error("Failed to relay message for project {}", projectId, ex);
+        }
+    }
+
+    private void onRelayMessage(String payload) {
+        try {
+            String[] parts = payload.split("\\|", 3);
+            if (parts.length != 3 || nodeId.equals(parts[0])) {
+                return;
+            }
+
+            JsonNode body = objectMapper.readTree(parts[2]);
+            messagingTemplate.convertAndSend(parts[1], body);
+            receivedCounter.increment();
+        } catch (Exception ex) {
+            logger.error("Invalid relay message: {}", payload, ex);
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long projectId = BoardUpdateBroadcaster.projectIdOf(accessor.getDestination());
+        if (projectId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        boolean released = false;
+        boolean acquired;
+        Long previous;
+        synchronized (lock) {
+            previous = subscriptionsBySession
+                    .computeIfAbsent(accessor.getSessionId(), id -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), projectId);
+            if (previous != null) {
+                released = release(previous);
+            }
+            acquired = acquire(projectId);
+        }
+
+        if (released) {
+            syncChannel(previous);
+        }
+        if (acquired) {
+            syncChannel(projectId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long released = null;
+        synchronized (lock) {
+            Map<String, Long> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            Long projectId = subscriptions.remove(accessor.getSubscriptionId());
+            if (projectId != null && release(projectId)) {
+                released = projectId;
+            }
+            if (subscriptions.isEmpty()) {
+                subscriptionsBySession.remove(accessor.getSessionId());
+            }
+        }
+
+        if (released != null) {
+            syncChannel(released);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        List<Long> released = new ArrayList<>();
+        synchronized (lock) {
+            Map<String, Long> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+            if (subscriptions != null) {
+                for (Long projectId : subscriptions.values()) {
+                    if (release(projectId)) {
+                        released.add(projectId);
+                    }
+                }
+            }
+        }
+
+        released.forEach(this::syncChannel);
+    }
+
+    // lock 안에서 호출 - 이 노드의 첫 구독자면 true
+    private boolean acquire(Long projectId) {
+        return subscriberCounts.merge(projectId, 1, Integer::sum) == 1;
+    }
+
+    // lock 안에서 호출 - 마지막 구독자가 떠났으면 true
+    private boolean release(Long projectId) {
+        if (!subscriberCounts.containsKey(projectId)) {
+            return false;
+        }
+        return subscriberCounts.computeIfPresent(projectId, (id, current) -> current > 1 ? current - 1 : null) == null;
+    }
+
+    /**
+     * 채널 구독 상태를 현재 구독자 수에 맞춘다 - lock 밖에서 호출한다.
+     * 같은 프로젝트의 구독/해제가 엇갈려도 프로젝트별 잠금 안에서 최신 구독자 수를 다시 읽으므로 마지막 호출이 최종 상태를 맞춘다.
+     */
+    private void syncChannel(Long projectId) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (channelLocks[Math.floorMod(projectId.hashCode(), CHANNEL_LOCK_STRIPES)]) {
+            boolean wanted;
+            synchronized (lock) {
+                wanted = subscriberCounts.containsKey(projectId);
+            }
+
+            ChannelTopic topic = new ChannelTopic(channel(projectId));
+            if (wanted && !subscribedChannels.contains(projectId)) {
+                redisMessageListenerContainer.addMessageListener(listener, topic);
+                subscribedChannels.add(projectId);
+            } else if (!wanted && subscribedChannels.contains(projectId)) {
+                redisMessageListenerContainer.removeMessageListener(listener, topic);
+                subscribedChannels.remove(projectId);
+            }
+        }
+    }
+
+    int subscribedProjectCount() {
+        synchronized (lock) {
+            return subscriberCounts.size();
+        }
+    }
+}
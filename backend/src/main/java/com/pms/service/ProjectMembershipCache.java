@@ -0,0 +1,153 @@
+package com.pms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pms.entity.ProjectMember;
+import com.pms.event.MembershipChangedEvent;
+import com.pms.repository.ProjectMemberRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 프로젝트 멤버십 인덱스 (userId, projectId) -> Role
+ * 권한 체크마다 Project 전체와 멤버 목록을 로딩하지 않도록 노드 로컬 캐시에 보관하고,
+ * 멤버 변경 시 Redis Pub/Sub 으로 다른 노드의 캐시를 무효화한다.
+ * 캐시에 반영할 때마다(다른 노드의 변경 포함) MembershipChangedEvent 를 발행한다 - 열려 있는 WebSocket 구독 재확인 등.
+ */
+@Component
+public class ProjectMembershipCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectMembershipCache.class);
+
+    static final String INVALIDATION_CHANNEL = "membership:invalidate";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${membership.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${membership.cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    // 비멤버도 캐싱하기 위해 Optional 로 감싼다
+    private Cache<MembershipKey, Optional<ProjectMember.Role>> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public ProjectMember.Role getRole(Long userId, Long projectId) {
+        if (userId == null || projectId == null) {
+            return null;
+        }
+
+        return cache.get(new MembershipKey(userId, projectId),
+                key -> projectMemberRepository.findRoleByUserIdAndProjectId(key.userId(), key.projectId()))
+                .orElse(null);
+    }
+
+    public boolean isMember(Long userId, Long projectId) {
+        return getRole(userId, projectId) != null;
+    }
+
+    /**
+     * 멤버 추가/역할 변경 반영 - 트랜잭션 커밋 이후에 적용된다
+     */
+    public void put(Long userId, Long projectId, ProjectMember.Role role) {
+        MembershipKey key = new MembershipKey(userId, projectId);
+        runAfterCommit(() -> {
+            cache.put(key, Optional.ofNullable(role));
+            publishInvalidation(key);
+            eventPublisher.publishEvent(new MembershipChangedEvent(userId, projectId));
+        });
+    }
+
+    /**
+     * 멤버 제거 반영 - 트랜잭션 커밋 이후에 적용된다
+     */
+    public void evict(Long userId, Long projectId) {
+        MembershipKey key = new MembershipKey(userId, projectId);
+        runAfterCommit(() -> {
+            cache.invalidate(key);
+            publishInvalidation(key);
+            eventPublisher.publishEvent(new MembershipChangedEvent(userId, projectId));
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void publishInvalidation(MembershipKey key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + "|" + key.userId() + ":" + key.projectId());
+        } catch (Exception ex) {
+            // 다른 노드는 expire-after-write 이후에 갱신된다
+            logger.error("Failed to publish membership invalidation for {}", key, ex);
+        }
+    }
+
+    private void onInvalidation(String payload) {
+        try {
+            String[] parts = payload.split("\\|");
+            if (parts.length != 2 || nodeId.equals(parts[0])) {
+                return;
+            }
+
+            String[] ids = parts[1].split(":");
+            MembershipKey key = new MembershipKey(Long.parseLong(ids[0]), Long.parseLong(ids[1]));
+            cache.invalidate(key);
+            eventPublisher.publishEvent(new MembershipChangedEvent(key.userId(), key.projectId()));
+        } catch (Exception ex) {
+            logger.error("Invalid membership invalidation message: {}", payload, ex);
+        }
+    }
+
+    record MembershipKey(Long userId, Long projectId) {
+    }
+}
@@ -2,17 +2,24 @@ package com.pms.service;
 
 import com.pms.entity.Project;
 import com.pms.entity.ProjectMember;
+import com.pms.entity.ProjectStats;
 import com.pms.entity.User;
+import com.pms.repository.ProjectMemberRepository;
 import com.pms.repository.ProjectRepository;
 import com.pms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -24,6 +31,18 @@ public class ProjectService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+    
+    @Autowired
+    private ProjectMembershipCache membershipCache;
+    
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
+    @Autowired
+    private ActivityLogWriter activityLogWriter;
+    
     public Project createProject(String name, String key, String description, Long ownerId, 
                                LocalDate startDate, LocalDate endDate, Boolean isPublic) {
         
@@ -50,7 +69,13 @@ public class ProjectService {
         ProjectMember ownerMember = new ProjectMember(savedProject, owner, ProjectMember.Role.OWNER);
         savedProject.addMember(ownerMember);
         
-        return projectRepository.save(savedProject);
+        Project result = projectRepository.save(savedProject);
+        membershipCache.put(owner.getId(), result.getId(), ProjectMember.Role.OWNER);
+        projectStatsService.initialize(result.getId(), 1);
+        activityLogWriter.record("PROJECT_CREATED", ActivityLogWriter.ENTITY_PROJECT, result.getId(), result.getId(),
+                null, result.getName());
+        
+        return result;
     }
     
     public Optional<Project> findById(Long id) {
@@ -79,6 +104,22 @@ public class ProjectService {
         return projectRepository.findPublicProjects(pageable);
     }
     
+    // 목록 응답용 통계 - 페이지의 프로젝트를 한 번에 조회한다
+    @Transactional(readOnly = true)
+    public Map<Long, ProjectStats> getProjectStats(Collection<Long> projectIds) {
+        return projectStatsService.findByProjectIds(projectIds);
+    }
+    
+    // 응답용 멤버 목록 - project.members 를 프로젝트마다 지연 로딩하지 않고 사용자까지 한 번에 읽는다
+    @Transactional(readOnly = true)
+    public Map<Long, List<ProjectMember>> getProjectMembers(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        return projectMemberRepository.findWithUserByProjectIdIn(projectIds).stream()
+                .collect(Collectors.groupingBy(member -> member.getProject().getId()));
+    }
+    
     public Project updateProject(Long projectId, String name, String description, 
                                LocalDate startDate, LocalDate endDate, Boolean isPublic) {
         
@@ -91,6 +132,8 @@ public class ProjectService {
         if (endDate != null) project.setEndDate(endDate);
         if (isPublic != null) project.setIsPublic(isPublic);
         
+        activityLogWriter.record("PROJECT_UPDATED", ActivityLogWriter.ENTITY_PROJECT, projectId, projectId,
+                null, project.getName());
         return projectRepository.save(project);
     }
     
@@ -113,6 +156,9 @@ public class ProjectService {
         project.addMember(member);
         
         projectRepository.save(project);
+        projectStatsService.membersChanged(projectId, 1);
+        membershipCache.put(userId, projectId, role);
+        activityLogWriter.record("MEMBER_ADDED", ActivityLogWriter.ENTITY_PROJECT_MEMBER, userId, projectId, null, role);
         
         return member;
     }
@@ -133,6 +179,10 @@ public class ProjectService {
         
         project.removeMember(memberToRemove);
         projectRepository.save(project);
+        projectStatsService.membersChanged(projectId, -1);
+        membershipCache.evict(userId, projectId);
+        activityLogWriter.record("MEMBER_REMOVED", ActivityLogWriter.ENTITY_PROJECT_MEMBER, userId, projectId,
+                memberToRemove.getRole(), null);
     }
     
     public ProjectMember updateMemberRole(Long projectId, Long userId, ProjectMember.Role newRole) {
@@ -149,8 +199,12 @@ public class ProjectService {
             throw new RuntimeException("Cannot change owner role");
         }
         
+        ProjectMember.Role oldRole = member.getRole();
         member.setRole(newRole);
         projectRepository.save(project);
+        membershipCache.put(userId, projectId, newRole);
+        activityLogWriter.record("MEMBER_ROLE_CHANGED", ActivityLogWriter.ENTITY_PROJECT_MEMBER, userId, projectId,
+                oldRole, newRole);
         
         return member;
     }
@@ -159,34 +213,51 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         
+        Project.Status oldStatus = project.getStatus();
         project.setStatus(Project.Status.ARCHIVED);
         projectRepository.save(project);
+        activityLogWriter.record("PROJECT_ARCHIVED", ActivityLogWriter.ENTITY_PROJECT, projectId, projectId,
+                oldStatus, Project.Status.ARCHIVED);
     }
     
     public void deleteProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         
+        Project.Status oldStatus = project.getStatus();
         project.setStatus(Project.Status.DELETED);
         projectRepository.save(project);
+        // 삭제된 프로젝트는 멤버십 조회에서 빠지므로 모든 멤버의 캐시를 비우고 다른 노드에도 알린다
+        for (ProjectMember member : project.getMembers()) {
+            membershipCache.evict(member.getUser().getId(), projectId);
+        }
+        activityLogWriter.record("PROJECT_DELETED", ActivityLogWriter.ENTITY_PROJECT, projectId, projectId,
+                oldStatus, Project.Status.DELETED);
     }
     
+    // 멤버십 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isUserMemberOfProject(Long userId, Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        return project.getMembers().stream()
-                .anyMatch(member -> member.getUser().getId().equals(userId));
+        return membershipCache.isMember(userId, projectId);
     }
     
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProjectMember.Role getUserRoleInProject(Long userId, Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+        return membershipCache.getRole(userId, projectId);
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean hasProjectRole(Long userId, Long projectId, String... roles) {
+        ProjectMember.Role role = membershipCache.getRole(userId, projectId);
+        if (role == null) {
+            return false;
+        }
         
-        return project.getMembers().stream()
-                .filter(member -> member.getUser().getId().equals(userId))
-                .map(ProjectMember::getRole)
-                .findFirst()
-                .orElse(null);
+        for (String allowed : roles) {
+            if (role.name().equals(allowed)) {
+                return true;
+            }
+        }
+        return false;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.pms.service;
+
+import com.pms.entity.Issue;
+import com.pms.entity.ProjectStats;
+import com.pms.repository.ProjectStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 통계 유지 - 이슈/멤버 변경과 같은 트랜잭션에서 증감분만 반영한다.
+ * 통계 행이 없는 프로젝트(기존 데이터)는 처음 변경될 때 원본 테이블에서 다시 집계한다.
+ */
+@Service
+@Transactional
+public class ProjectStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    // 상태별 컬럼은 enum 이름에서 만든다 (TODO -> todo_count)
+    private static final String REBUILD_SQL =
+            "INSERT INTO project_stats (project_id, " +
+            Arrays.stream(Issue.Status.values())
+                    .map(status -> status.name().toLowerCase(Locale.ROOT) + "_count")
+                    .collect(Collectors.joining(", ")) +
+            ", story_points_total, story_points_done, member_count, updated_at) " +
+            "SELECT p.id, " +
+            Arrays.stream(Issue.Status.values())
+                    .map(status -> "SUM(CASE WHEN i.status = '" + status.name() + "' THEN 1 ELSE 0 END)")
+                    .collect(Collectors.joining(", ")) +
+            ", COALESCE(SUM(i.story_points), 0)" +
+            ", COALESCE(SUM(CASE WHEN i.status IN ('DONE', 'CLOSED') THEN i.story_points ELSE 0 END), 0)" +
+            ", (SELECT COUNT(*) FROM project_member m WHERE m.project_id = p.id), CURRENT_TIMESTAMP " +
+            "FROM project p LEFT JOIN issue i ON i.project_id = p.id ";
+
+    @Autowired
+    private ProjectStatsRepository projectStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void initialize(Long projectId, long memberCount) {
+        projectStatsRepository.save(new ProjectStats(projectId, memberCount));
+    }
+
+    public void issueCreated(Issue issue) {
+        apply(issue.getProject().getId(), new Delta().issueAdded(issue.getStatus(), issue.getStoryPoints()));
+    }
+
+    public void issueChanged(Long projectId, Issue.Status oldStatus, BigDecimal oldStoryPoints,
+                             Issue.Status newStatus, BigDecimal newStoryPoints) {
+        apply(projectId, new Delta().issueChanged(oldStatus, oldStoryPoints, newStatus, newStoryPoints));
+    }
+
+    public void membersChanged(Long projectId, int members) {
+        apply(projectId, new Delta().membersChanged(members));
+    }
+
+    /**
+     * 누적된 증감분을 UPDATE 한 번으로 반영한다 (일괄 처리는 Delta 에 모아서 호출)
+     */
+    public void apply(Long projectId, Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        int updated = projectStatsRepository.applyDelta(projectId,
+                delta.count(Issue.Status.TODO), delta.count(Issue.Status.IN_PROGRESS),
+                delta.count(Issue.Status.IN_REVIEW), delta.count(Issue.Status.TESTING),
+                delta.count(Issue.Status.DONE), delta.count(Issue.Status.CLOSED),
+                delta.storyPoints, delta.doneStoryPoints, delta.members, LocalDateTime.now());
+
+        if (updated == 0) {
+            // 통계 행이 없으면 방금 변경까지 포함해 원본에서 집계한다
+            rebuild(projectId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, ProjectStats> findByProjectIds(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        return projectStatsRepository.findByProjectIdIn(projectIds).stream()
+                .collect(Collectors.toMap(ProjectStats::getProjectId, Function.identity()));
+    }
+
+    /**
+     * 한 프로젝트의 통계를 issue/project_member 테이블에서 다시 집계한다
+     * 프로젝트 행을 잠가 같은 프로젝트의 재집계를 직렬화한다 - 동시에 DELETE/INSERT 하면 PK 충돌이나 증감 유실이 난다
+     */
+    public void rebuild(Long projectId) {
+        // 아직 flush 되지 않은 JPA 변경을 집계에 포함시킨다
+        entityManager.flush();
+        jdbcTemplate.queryForList("SELECT id FROM project WHERE id = ? FOR UPDATE", Long.class, projectId);
+        jdbcTemplate.update("DELETE FROM project_stats WHERE project_id = ?", projectId);
+        jdbcTemplate.update(REBUILD_SQL + "WHERE p.id = ? GROUP BY p.id", projectId);
+    }
+
+    /**
+     * 통계 행이 없는 프로젝트를 모두 집계한다 - 도입 이전 데이터 백필
+     */
+    public int rebuildMissing() {
+        return jdbcTemplate.update(REBUILD_SQL +
+                "WHERE NOT EXISTS (SELECT 1 FROM project_stats s WHERE s.project_id = p.id) GROUP BY p.id");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            int rebuilt = rebuildMissing();
+            if (rebuilt > 0) {
+                logger.info("Built project stats for {} projects", rebuilt);
+            }
+        } catch (Exception ex) {
+            logger.error("Failed to build missing project stats", ex);
+        }
+    }
+
+    /**
+     * 통계 증감분 - 여러 이슈 변경을 모아서 한 번에 반영한다
+     */
+    public static class Delta {
+
+        private final long[] counts = new long[Issue.Status.values().length];
+        private BigDecimal storyPoints = BigDecimal.ZERO;
+        private BigDecimal doneStoryPoints = BigDecimal.ZERO;
+        private long members;
+
+        public Delta issueAdded(Issue.Status status, BigDecimal points) {
+            return add(status, points, 1);
+        }
+
+        public Delta issueRemoved(Issue.Status status, BigDecimal points) {
+            return add(status, points, -1);
+        }
+
+        public Delta issueChanged(Issue.Status oldStatus, BigDecimal oldPoints,
+                                  Issue.Status newStatus, BigDecimal newPoints) {
+            return issueRemoved(oldStatus, oldPoints).issueAdded(newStatus, newPoints);
+        }
+
+        public Delta membersChanged(int members) {
+            this.members += members;
+            return this;
+        }
+
+        long count(Issue.Status status) {
+            return counts[status.ordinal()];
+        }
+
+        boolean isEmpty() {
+            return Arrays.stream(counts).allMatch(count -> count == 0)
+                    && storyPoints.signum() == 0 && doneStoryPoints.signum() == 0 && members == 0;
+        }
+
+        private Delta add(Issue.Status status, BigDecimal points, int sign) {
+            counts[status.ordinal()] += sign;
+            if (points != null) {
+                BigDecimal signed = sign > 0 ? points : points.negate();
+                storyPoints = storyPoints.add(signed);
+                if (isDone(status)) {
+                    doneStoryPoints = doneStoryPoints.add(signed);
+                }
+            }
+            return this;
+        }
+
+        private static boolean isDone(Issue.Status status) {
+            return status == Issue.Status.DONE || status == Issue.Status.CLOSED;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+package com.pms.service;
+
+import com.pms.entity.Issue;
+import com.pms.repository.IssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부모 이슈의 서브태스크 집계(개수, 완료 개수, 스토리 포인트 합) 유지
+ * 서브태스크 생성/상태·포인트 변경/삭제와 같은 트랜잭션에서 증감분만 부모 행에 더한다.
+ * 집계 컬럼이 생기기 전 데이터나 증감이 빠진 경로로 어긋난 값은 주기 작업이 서브태스크를 다시 세어 고친다.
+ */
+@Service
+public class SubtaskRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubtaskRollupService.class);
+
+    // 부모별 실제 집계와 저장된 값이 다른 행 - [id, 저장된 값 4개, 실제 값 4개]
+    private static final String DRIFTED_SQL =
+            "SELECT p.id, p.subtask_count, p.completed_subtask_count, " +
+            "p.subtask_story_points, p.completed_subtask_story_points, " +
+            "COALESCE(s.cnt, 0), COALESCE(s.done_cnt, 0), COALESCE(s.points, 0), COALESCE(s.done_points, 0) " +
+            "FROM issue p LEFT JOIN (" +
+            "SELECT parent_issue_id, COUNT(*) AS cnt, " +
+            "SUM(CASE WHEN status IN ('DONE', 'CLOSED') THEN 1 ELSE 0 END) AS done_cnt, " +
+            "SUM(COALESCE(story_points, 0)) AS points, " +
+            "SUM(CASE WHEN status IN ('DONE', 'CLOSED') THEN COALESCE(story_points, 0) ELSE 0 END) AS done_points " +
+            "FROM issue WHERE parent_issue_id IS NOT NULL GROUP BY parent_issue_id" +
+            ") s ON s.parent_issue_id = p.id " +
+            "WHERE p.subtask_count <> COALESCE(s.cnt, 0) " +
+            "OR p.completed_subtask_count <> COALESCE(s.done_cnt, 0) " +
+            "OR p.subtask_story_points <> COALESCE(s.points, 0) " +
+            "OR p.completed_subtask_story_points <> COALESCE(s.done_points, 0) " +
+            "LIMIT ?";
+
+    // 읽은 뒤 증감이 끼어들었으면 덮어쓰지 않는다 - 다음 실행에서 다시 확인한다
+    private static final String REPAIR_SQL =
+            "UPDATE issue SET subtask_count = ?, completed_subtask_count = ?, " +
+            "subtask_story_points = ?, completed_subtask_story_points = ? " +
+            "WHERE id = ? AND subtask_count = ? AND completed_subtask_count = ? " +
+            "AND subtask_story_points = ? AND completed_subtask_story_points = ?";
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${issue.subtask-rollup.repair-batch-size:1000}")
+    private int repairBatchSize;
+
+    @Transactional
+    public void subtaskAdded(Issue subtask) {
+        if (subtask.getParentIssue() != null) {
+            apply(subtask.getParentIssue().getId(), new Delta().added(subtask.getStatus(), subtask.getStoryPoints()));
+        }
+    }
+
+    @Transactional
+    public void subtaskRemoved(Issue subtask) {
+        if (subtask.getParentIssue() != null) {
+            apply(subtask.getParentIssue().getId(), new Delta().removed(subtask.getStatus(), subtask.getStoryPoints()));
+        }
+    }
+
+    @Transactional
+    public void subtaskChanged(Issue subtask, Issue.Status oldStatus, BigDecimal oldStoryPoints) {
+        if (subtask.getParentIssue() != null) {
+            apply(subtask.getParentIssue().getId(), new Delta().changed(
+                    oldStatus, oldStoryPoints, subtask.getStatus(), subtask.getStoryPoints()));
+        }
+    }
+
+    /**
+     * 부모별로 모은 증감분을 반영한다 (일괄 처리용)
+     */
+    @Transactional
+    public void apply(Map<Long, Delta> deltasByParentId) {
+        deltasByParentId.forEach(this::apply);
+    }
+
+    @Transactional
+    public void apply(Long parentIssueId, Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        issueRepository.adjustSubtaskRollup(parentIssueId, delta.count, delta.completed,
+                delta.storyPoints, delta.completedStoryPoints);
+    }
+
+    /**
+     * 어긋난 집계를 서브태스크에서 다시 세어 고친다 - 한 번에 repair-batch-size 건까지
+     */
+    @Scheduled(initialDelayString = "${issue.subtask-rollup.repair-initial-delay-ms:60000}",
+               fixedDelayString = "${issue.subtask-rollup.repair-interval-ms:21600000}")
+    public int repairDrifted() {
+        try {
+            // REPAIR_SQL 인자 순서 - 실제 값, id, 저장된 값
+            List<Object[]> repairs = jdbcTemplate.query(DRIFTED_SQL, (rs, rowNum) -> new Object[] {
+                    rs.getInt(6), rs.getInt(7), rs.getBigDecimal(8), rs.getBigDecimal(9),
+                    rs.getLong(1),
+                    rs.getInt(2), rs.getInt(3), rs.getBigDecimal(4), rs.getBigDecimal(5) },
+                    repairBatchSize);
+            if (repairs.isEmpty()) {
+                return 0;
+            }
+
+            int repaired = 0;
+            for (int updated : jdbcTemplate.batchUpdate(REPAIR_SQL, repairs)) {
+                if (updated > 0) {
+                    repaired++;
+                }
+            }
+            logger.info("Repaired subtask rollups of {} issues ({} drifted)", repaired, repairs.size());
+            return repaired;
+        } catch (Exception ex) {
+            logger.error("Failed to repair subtask rollups", ex);
+            return 0;
+        }
+    }
+
+    /**
+     * 서브태스크 집계 증감분 - 완료 여부는 DONE/CLOSED 기준 (Issue.isCompleted 와 동일)
+     */
+    public static class Delta {
+
+        private int count;
+        private int completed;
+        private BigDecimal storyPoints = BigDecimal.ZERO;
+        private BigDecimal completedStoryPoints = BigDecimal.ZERO;
+
+        public Delta added(Issue.Status status, BigDecimal points) {
+            return add(status, points, 1);
+        }
+
+        public Delta removed(Issue.Status status, BigDecimal points) {
+            return add(status, points, -1);
+        }
+
+        public Delta changed(Issue.Status oldStatus, BigDecimal oldPoints,
+                             Issue.Status newStatus, BigDecimal newPoints) {
+            return removed(oldStatus, oldPoints).added(newStatus, newPoints);
+        }
+
+        boolean isEmpty() {
+            return count == 0 && completed == 0
+                    && storyPoints.signum() == 0 && completedStoryPoints.signum() == 0;
+        }
+
+        private Delta add(Issue.Status status, BigDecimal points, int sign) {
+            count += sign;
+            boolean done = status == Issue.Status.DONE || status == Issue.Status.CLOSED;
+            if (done) {
+                completed += sign;
+            }
+            if (points != null) {
+                BigDecimal signed = sign > 0 ? points : points.negate();
+                storyPoints = storyPoints.add(signed);
+                if (done) {
+                    completedStoryPoints = completedStoryPoints.add(signed);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.pms.service;
+
+import com.pms.config.AsyncConfig;
+import com.pms.entity.Attachment;
+import com.pms.event.AttachmentStoredEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미지 첨부파일 썸네일 생성
+ * 첨부파일이 커밋되면 thumbnailExecutor 에서 설정된 크기들(긴 변 기준)의 JPEG 을 원본 옆에 만든다.
+ * 원본은 가장 큰 썸네일의 두 배 정도까지만 서브샘플링해 읽으므로 큰 사진도 디코딩 메모리가 작다.
+ * 썸네일은 내용 해시 기준이라 같은 이미지를 여러 이슈에 올려도 한 번만 만든다.
+ * 만들어지지 않은 썸네일(큐에서 밀렸거나 기능 도입 전 업로드)은 처음 조회될 때 다시 만든다.
+ * 읽을 수 없거나 변환에 실패한 원본은 같은 해시의 attachment 행에 thumbnail_status 를 남겨, 조회가 다시 큐에 넣지 않게 한다.
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    @Autowired
+    private AttachmentBlobStore blobStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${attachment.thumbnail.sizes:64,256,1024}")
+    private List<Integer> sizes;
+
+    @Value("${attachment.thumbnail.max-source-pixels:50000000}")
+    private long maxSourcePixels;
+
+    // 같은 해시를 동시에 두 번 만들지 않는다
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // ImageIO 가 읽을 수 있는 MIME 형식만 - image/svg+xml, image/heic 등은 만들지 않는다
+    public static boolean isThumbnailable(String contentType) {
+        return Attachment.isThumbnailSource(contentType);
+    }
+
+    @Async(AsyncConfig.THUMBNAIL_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttachmentStored(AttachmentStoredEvent event) {
+        if (event.contentHash() != null && isThumbnailable(event.contentType())) {
+            generate(event.contentHash());
+        }
+    }
+
+    @Async(AsyncConfig.THUMBNAIL_EXECUTOR)
+    public void generateInBackground(String hash) {
+        generate(hash);
+    }
+
+    /**
+     * 요청 크기 이상인 설정 크기 중 가장 작은 것 - 없으면 가장 큰 크기
+     */
+    public int resolveSize(Integer requested) {
+        List<Integer> sorted = sizes.stream().sorted().toList();
+        if (requested == null) {
+            return sorted.get(sorted.size() / 2);
+        }
+        return sorted.stream().filter(size -> size >= requested).findFirst().orElse(sorted.get(sorted.size() - 1));
+    }
+
+    public Path thumbnailPath(String hash, int size) {
+        return blobStore.thumbnailPath(hash, size);
+    }
+
+    void generate(String hash) {
+        if (!inFlight.add(hash)) {
+            return;
+        }
+        try {
+            List<Integer> missing = sizes.stream()
+                    .filter(size -> !Files.exists(blobStore.thumbnailPath(hash, size)))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            BufferedImage source = read(blobStore.blobPath(hash), missing.get(0));
+            if (source == null) {
+                logger.debug("Unsupported image format for thumbnails: {}", hash);
+                markUnavailable(hash, Attachment.ThumbnailStatus.UNSUPPORTED);
+                return;
+            }
+            for (int size : missing) {
+                write(resize(source, size), blobStore.thumbnailPath(hash, size));
+            }
+            meterRegistry.counter("attachment.thumbnails.generated").increment(missing.size());
+        } catch (Exception ex) {
+            meterRegistry.counter("attachment.thumbnails.failed").increment();
+            logger.warn("Failed to generate thumbnails for {}: {}", hash, ex.getMessage());
+            markUnavailable(hash, Attachment.ThumbnailStatus.FAILED);
+        } finally {
+            inFlight.remove(hash);
+        }
+    }
+
+    // 같은 내용의 첨부파일 전체에 기록한다 - 이후 조회는 다시 만들지 않고 바로 실패를 돌려준다
+    private void markUnavailable(String hash, Attachment.ThumbnailStatus status) {
+        try {
+            jdbcTemplate.update("UPDATE attachment SET thumbnail_status = ? WHERE content_hash = ? AND thumbnail_status IS NULL",
+                    status.name(), hash);
+        } catch (Exception ex) {
+            logger.error("Failed to record thumbnail status {} for {}", status, hash, ex);
+        }
+    }
+
+    private BufferedImage read(Path path, int largestSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IOException("Image too large: " + width + "x" + height);
+                }
+
+                // 긴 변이 가장 큰 썸네일의 두 배 아래로 내려가지 않는 만큼만 건너뛰며 읽는다
+                int subsampling = Math.max(1, Math.max(width, height) / (largestSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변을 maxSide 에 맞춘다 (확대하지 않음) - 반씩 줄여 가며 보간해 한 번에 줄일 때의 계단 현상을 피한다
+     */
+    static BufferedImage resize(BufferedImage source, int maxSide) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            // JPEG 은 알파가 없으므로 투명 영역은 흰 배경으로 채운다
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, currentWidth, currentHeight);
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    // 같은 디렉터리의 임시 파일에 쓴 뒤 옮겨, 읽는 쪽이 덜 쓴 썸네일을 보지 않게 한다
+    private static void write(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.pms.entity.Role;
 import com.pms.entity.User;
 import com.pms.repository.RoleRepository;
 import com.pms.repository.UserRepository;
+import com.pms.security.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,7 +22,7 @@ import java.util.UUID;
 
 @Service
 @Transactional
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
     
     @Autowired
     private UserRepository userRepository;
@@ -31,7 +33,11 @@ public class UserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
@@ -39,6 +45,18 @@ public class UserService implements UserDetailsService {
         return user;
     }
     
+    /**
+     * 로그인 성공 시 저장된 해시의 알고리즘/강도가 현재 설정과 다르면 호출된다 (newPassword 는 이미 해싱된 값)
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
+    
     public UserDetails loadUserByUserId(Long userId) {
         return userRepository.findById(userId).orElse(null);
     }
@@ -84,7 +102,10 @@ public class UserService implements UserDetailsService {
         if (nickname != null) user.setNickname(nickname);
         if (phone != null) user.setPhone(phone);
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        verifiedTokenCache.invalidateUser(userId);
+        
+        return saved;
     }
     
     public boolean verifyEmail(String token) {
@@ -142,8 +163,10 @@ public class UserService implements UserDetailsService {
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setPasswordResetToken(null);
         user.setPasswordResetExpiresAt(null);
+        user.bumpSecurityVersion();
         
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(user.getId());
         return true;
     }
     
@@ -159,7 +182,9 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
         user.setIsActive(false);
+        user.bumpSecurityVersion();
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(userId);
     }
     
     public void activateUser(Long userId) {
@@ -168,5 +193,6 @@ public class UserService implements UserDetailsService {
         
         user.setIsActive(true);
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(userId);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.pms.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InstrumentedTaskDecoratorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Timer timer = Timer.builder("async.task.duration").tag("pool", "test").register(meterRegistry);
+    private final InstrumentedTaskDecorator decorator = new InstrumentedTaskDecorator(timer);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 호출_스레드의_MDC와_인증정보를_작업_스레드로_전달() throws InterruptedException {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "req-1");
+
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> {
+            requestId.set(MDC.get("requestId"));
+            seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+
+        // When
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        // Then
+        assertThat(requestId.get()).isEqualTo("req-1");
+        assertThat(seenAuthentication.get()).isSameAs(authentication);
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 작업은_호출_스레드와_다른_SecurityContext_를_씀() throws InterruptedException {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        SecurityContext callerContext = SecurityContextHolder.getContext();
+
+        AtomicReference<SecurityContext> seenContext = new AtomicReference<>();
+        AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> {
+            seenContext.set(SecurityContextHolder.getContext());
+            seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+
+        // When - 작업이 돌기 전에 호출 스레드가 자기 컨텍스트의 인증을 비운다 (요청 종료)
+        callerContext.setAuthentication(null);
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        // Then
+        assertThat(seenContext.get()).isNotSameAs(callerContext);
+        assertThat(seenAuthentication.get()).isSameAs(authentication);
+    }
+
+    @Test
+    void 호출_스레드에서_실행되어도_원래_컨텍스트를_복원() {
+        // Given
+        MDC.put("requestId", "submitter");
+        Runnable task = decorator.decorate(() -> MDC.put("requestId", "changed"));
+        MDC.put("requestId", "caller");
+
+        // When - CallerRunsPolicy 처럼 현재 스레드에서 실행
+        task.run();
+
+        // Then
+        assertThat(MDC.get("requestId")).isEqualTo("caller");
+    }
+}
@@ -0,0 +1,84 @@
+package com.pms.repository;
+
+import com.pms.dto.request.IssueFilterRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IssueCursorTest {
+
+    @Test
+    void 위치_정렬_커서_왕복() {
+        // Given
+        IssueCursor cursor = new IssueCursor(IssueFilterRequest.SortKey.POSITION, 2048, null, 7L);
+
+        // When
+        IssueCursor decoded = IssueCursor.decode(cursor.encode(), IssueFilterRequest.SortKey.POSITION);
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 생성일_정렬_커서_왕복() {
+        // Given
+        IssueCursor cursor = new IssueCursor(IssueFilterRequest.SortKey.CREATED_AT, null,
+                LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000), 7L);
+
+        // When
+        IssueCursor decoded = IssueCursor.decode(cursor.encode(), IssueFilterRequest.SortKey.CREATED_AT);
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 다른_정렬의_커서는_거부() {
+        // Given
+        String cursor = new IssueCursor(IssueFilterRequest.SortKey.POSITION, 2048, null, 7L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> IssueCursor.decode(cursor, IssueFilterRequest.SortKey.CREATED_AT))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void 변조되거나_깨진_커서는_거부() {
+        // Given
+        String notBase64 = "%%%";
+        String wrongParts = encode("POSITION|2048");
+        String notNumber = encode("POSITION|abc|7");
+        String badDate = encode("CREATED_AT|yesterday|7");
+
+        // When & Then
+        for (String cursor : new String[] { notBase64, wrongParts, notNumber }) {
+            assertThatThrownBy(() -> IssueCursor.decode(cursor, IssueFilterRequest.SortKey.POSITION))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("Invalid cursor");
+        }
+        assertThatThrownBy(() -> IssueCursor.decode(badDate, IssueFilterRequest.SortKey.CREATED_AT))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void 정렬을_null로_지정하면_기본_정렬() {
+        // Given
+        IssueFilterRequest filter = new IssueFilterRequest();
+
+        // When
+        filter.setSort(null);
+
+        // Then
+        assertThat(filter.getSort()).isEqualTo(IssueFilterRequest.SortKey.POSITION);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
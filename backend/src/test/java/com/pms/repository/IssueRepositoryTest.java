@@ -0,0 +1,175 @@
+package com.pms.repository;
+
+import com.pms.TestDataFactory;
+import com.pms.config.TestConfig;
+import com.pms.dto.request.IssueFilterRequest;
+import com.pms.dto.response.IssueCardResponse;
+import com.pms.entity.Issue;
+import com.pms.entity.Label;
+import com.pms.entity.Project;
+import com.pms.entity.Role;
+import com.pms.entity.User;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class IssueRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    private User reporter;
+    private Project project;
+    private Issue parentIssue;
+    private Label bugLabel;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = TestDataFactory.createTestRole("USER");
+        entityManager.persistAndFlush(userRole);
+
+        reporter = TestDataFactory.createTestUser("reporter@example.com", "Reporter", new BCryptPasswordEncoder());
+        reporter.getRoles().add(userRole);
+        entityManager.persistAndFlush(reporter);
+
+        project = TestDataFactory.createTestProject("Test Project", "TP", reporter);
+        entityManager.persistAndFlush(project);
+
+        bugLabel = TestDataFactory.createTestLabel("bug", "#ff0000", project);
+        entityManager.persistAndFlush(bugLabel);
+
+        parentIssue = TestDataFactory.createTestIssue("Parent issue", project, reporter);
+        parentIssue.setAssignee(reporter);
+        parentIssue.addLabel(bugLabel);
+        entityManager.persistAndFlush(parentIssue);
+
+        Issue doneSubtask = TestDataFactory.createTestIssue("Done subtask", project, reporter);
+        doneSubtask.setStatus(Issue.Status.DONE);
+        doneSubtask.setPosition(1);
+        parentIssue.addSubIssue(doneSubtask);
+        entityManager.persistAndFlush(doneSubtask);
+
+        Issue openSubtask = TestDataFactory.createTestIssue("Open subtask", project, reporter);
+        openSubtask.setPosition(2);
+        parentIssue.addSubIssue(openSubtask);
+        entityManager.persistAndFlush(openSubtask);
+
+        entityManager.clear();
+    }
+
+    @Test
+    void 프로젝트_이슈_카드_조회() {
+        // When
+        Page<IssueCardResponse> cards = issueRepository.findCardsByProjectId(project.getId(),
+                PageRequest.of(0, 10, Sort.by("position")));
+
+        // Then
+        assertThat(cards.getTotalElements()).isEqualTo(3);
+        IssueCardResponse card = cards.getContent().get(0);
+        assertThat(card.getId()).isEqualTo(parentIssue.getId());
+        assertThat(card.getIssueNumber()).isEqualTo("TP-" + parentIssue.getId());
+        assertThat(card.getAssignee().getId()).isEqualTo(reporter.getId());
+        assertThat(cards.getContent().get(1).getAssignee()).isNull();
+        assertThat(cards.getContent().get(1).getParentIssueId()).isEqualTo(parentIssue.getId());
+    }
+
+    @Test
+    void 카드_라벨_조회() {
+        // When
+        List<Object[]> rows = issueRepository.findCardLabelsByIssueIds(List.of(parentIssue.getId()));
+
+        // Then
+        assertThat(rows).hasSize(1);
+        Object[] row = rows.get(0);
+        assertThat(row[0]).isEqualTo(parentIssue.getId());
+        assertThat(row[1]).isEqualTo(bugLabel.getId());
+    }
+
+    @Test
+    void 같은_위치의_이슈는_id_순으로_커서를_넘겨도_빠짐없이_조회() {
+        // Given - 위치가 같은 이슈를 더 만든다
+        for (int i = 0; i < 3; i++) {
+            entityManager.persistAndFlush(TestDataFactory.createTestIssue("Tie " + i, project, reporter));
+        }
+        entityManager.clear();
+        IssueFilterRequest filter = new IssueFilterRequest();
+        List<Long> expected = issueRepository.findCardsByFilter(project.getId(), filter, null, 100).stream()
+                .map(IssueCardResponse::getId)
+                .toList();
+
+        // When - 한 건씩 넘긴다
+        List<Long> paged = new ArrayList<>();
+        IssueCursor after = null;
+        while (true) {
+            List<IssueCardResponse> page = issueRepository.findCardsByFilter(project.getId(), filter, after, 1);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.add(page.get(0).getId());
+            after = IssueCursor.decode(IssueCursor.from(page.get(0), filter.getSort()).encode(), filter.getSort());
+        }
+
+        // Then
+        assertThat(expected).hasSize(6).doesNotHaveDuplicates();
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 일괄_수정용_조회는_라벨을_함께_가져옴() {
+        // When
+        List<Issue> issues = issueRepository.findAllWithLabelsByIdIn(List.of(parentIssue.getId()));
+
+        // Then
+        assertThat(issues).hasSize(1);
+        assertThat(Hibernate.isInitialized(issues.get(0).getLabels())).isTrue();
+        assertThat(issues.get(0).getLabels()).extracting(Label::getId).containsExactly(bugLabel.getId());
+    }
+
+    @Test
+    void 카드_서브태스크_집계는_부모_행에서_읽음() {
+        // Given - 서브태스크 2개 중 1개 완료
+        issueRepository.adjustSubtaskRollup(parentIssue.getId(), 2, 1, new BigDecimal("5"), new BigDecimal("3"));
+        entityManager.clear();
+
+        // When
+        List<IssueCardResponse> cards = issueRepository.findCardsByIds(List.of(parentIssue.getId()));
+
+        // Then
+        assertThat(cards).hasSize(1);
+        assertThat(cards.get(0).getSubtaskCount()).isEqualTo(2);
+        assertThat(cards.get(0).getCompletedSubtaskCount()).isEqualTo(1);
+        Issue parent = issueRepository.findById(parentIssue.getId()).orElseThrow();
+        assertThat(parent.getSubtaskStoryPoints()).isEqualByComparingTo("5");
+        assertThat(parent.getSubtaskProgress()).isEqualTo(50.0);
+    }
+
+    @Test
+    void 칸반_카드는_위치순으로_조회() {
+        // When
+        List<IssueCardResponse> cards = issueRepository.findKanbanCardsByProjectId(project.getId());
+
+        // Then
+        assertThat(cards).extracting(IssueCardResponse::getPosition).containsExactly(0, 1, 2);
+    }
+}
@@ -0,0 +1,145 @@
+package com.pms.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void 해싱_풀에서_인코딩과_검증() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5), 2, meterRegistry);
+
+        // When
+        String encoded = encoder.encode("password123");
+
+        // Then
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong-password", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 대기열이_가득_차면_즉시_거절() throws InterruptedException {
+        // Given - 스레드 1개가 작업 중이고 대기열 1칸도 차 있음
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 1, Duration.ofSeconds(10), 3, meterRegistry);
+
+        new Thread(() -> encodeQuietly("first")).start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        new Thread(() -> encodeQuietly("second")).start();
+        awaitQueued(1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue-full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기_시간을_넘기면_거절() {
+        // Given
+        encoder = new BoundedPasswordEncoder(blockingEncoder(new CountDownLatch(1)), 1, 1, Duration.ofMillis(50), 2, meterRegistry);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("password123"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 예상_대기_시간이_한도를_넘으면_제출하지_않고_거절() throws InterruptedException {
+        // Given - 평균 해싱 시간 100ms 이상, 스레드 1개가 작업 중 -> 예상 대기 200ms 이상
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = blockingEncoder(started);
+        PasswordEncoder delegate = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if ("warm-up".contentEquals(rawPassword)) {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return rawPassword.toString();
+                }
+                return blocking.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return blocking.matches(rawPassword, encodedPassword);
+            }
+        };
+        encoder = new BoundedPasswordEncoder(delegate, 1, 4, Duration.ofMillis(150), 2, meterRegistry);
+        encoder.encode("warm-up");
+
+        new Thread(() -> encodeQuietly("first")).start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("second"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "expected-wait").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count()).isZero();
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private void encodeQuietly(String rawPassword) {
+        try {
+            encoder.encode(rawPassword);
+        } catch (PasswordHashingBusyException ignored) {
+            // 테스트 종료 시 풀이 내려가면서 거절될 수 있다
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.POOL_NAME).gauge().value() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.pms.security;
 
+import com.pms.entity.User;
 import com.pms.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,12 +13,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -31,7 +33,16 @@ class JwtAuthenticationFilterTest {
     private UserService userService;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private TokenBlacklist tokenBlacklist;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private SecurityVersionCache securityVersionCache;
+
+    @Mock
+    private Claims claims;
 
     @Mock
     private HttpServletRequest request;
@@ -54,7 +65,9 @@ class JwtAuthenticationFilterTest {
         // Reflection을 사용해서 private 필드에 Mock 주입
         ReflectionTestUtils.setField(jwtAuthenticationFilter, "tokenProvider", jwtTokenProvider);
         ReflectionTestUtils.setField(jwtAuthenticationFilter, "userService", userService);
-        ReflectionTestUtils.setField(jwtAuthenticationFilter, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "tokenBlacklist", tokenBlacklist);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "securityVersionCache", securityVersionCache);
     }
 
     @Test
@@ -65,9 +78,9 @@ class JwtAuthenticationFilterTest {
         Long userId = 1L;
         
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-        when(redisTemplate.hasKey("blacklist:" + token)).thenReturn(false);
-        when(jwtTokenProvider.getUserIdFromToken(token)).thenReturn(userId);
+        when(jwtTokenProvider.parseAccessToken(token)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("1");
+        when(tokenBlacklist.isBlacklisted(token)).thenReturn(false);
         when(userService.loadUserByUserId(userId)).thenReturn(userDetails);
 
         // When
@@ -76,9 +89,30 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenProvider).validateToken(token);
-        verify(jwtTokenProvider).getUserIdFromToken(token);
+        verify(jwtTokenProvider).parseAccessToken(token);
         verify(userService).loadUserByUserId(userId);
+        verify(verifiedTokenCache).put(token, userId, claims, userDetails);
+    }
+
+    @Test
+    void 캐시된_JWT_토큰은_재검증_없이_인증() throws ServletException, IOException {
+        // Given
+        String token = "cached.jwt.token";
+        String authHeader = "Bearer " + token;
+        
+        when(request.getHeader("Authorization")).thenReturn(authHeader);
+        when(verifiedTokenCache.get(token))
+                .thenReturn(new VerifiedTokenCache.VerifiedToken(1L, claims, userDetails, Long.MAX_VALUE));
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
+        verify(filterChain).doFilter(request, response);
+        verify(jwtTokenProvider, never()).parseAccessToken(any());
+        verifyNoInteractions(tokenBlacklist, userService);
     }
 
     @Test
@@ -92,7 +126,7 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenProvider, never()).validateToken(any());
+        verify(jwtTokenProvider, never()).parseAccessToken(any());
     }
 
     @Test
@@ -106,7 +140,7 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenProvider, never()).validateToken(any());
+        verify(jwtTokenProvider, never()).parseAccessToken(any());
     }
 
     @Test
@@ -116,7 +150,7 @@ class JwtAuthenticationFilterTest {
         String authHeader = "Bearer " + token;
         
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtTokenProvider.validateToken(token)).thenReturn(false);
+        when(jwtTokenProvider.parseAccessToken(token)).thenReturn(null);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -124,8 +158,9 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenProvider).validateToken(token);
-        verify(jwtTokenProvider, never()).getUserIdFromToken(any());
+        verify(jwtTokenProvider).parseAccessToken(token);
+        verifyNoInteractions(userService);
+        verify(verifiedTokenCache, never()).put(any(), any(), any(), any());
     }
 
     @Test
@@ -135,8 +170,8 @@ class JwtAuthenticationFilterTest {
         String authHeader = "Bearer " + token;
         
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-        when(redisTemplate.hasKey("blacklist:" + token)).thenReturn(true);
+        when(jwtTokenProvider.parseAccessToken(token)).thenReturn(claims);
+        when(tokenBlacklist.isBlacklisted(token)).thenReturn(true);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -144,8 +179,9 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenProvider).validateToken(token);
-        verify(jwtTokenProvider, never()).getUserIdFromToken(any());
+        verify(jwtTokenProvider).parseAccessToken(token);
+        verifyNoInteractions(userService);
+        verify(verifiedTokenCache, never()).put(any(), any(), any(), any());
     }
 
     @Test
@@ -155,7 +191,54 @@ class JwtAuthenticationFilterTest {
         String authHeader = "Bearer " + token;
         
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtTokenProvider.validateToken(token)).thenThrow(new RuntimeException("JWT parsing error"));
+        when(jwtTokenProvider.parseAccessToken(token)).thenThrow(new RuntimeException("JWT parsing error"));
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void 토큰_인증_모드에서는_사용자_조회_없이_클레임으로_인증() throws ServletException, IOException {
+        // Given
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "principalFromToken", true);
+        String token = "claims.jwt.token";
+        
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseAccessToken(token)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("1");
+        when(claims.get(JwtTokenProvider.SECURITY_VERSION_CLAIM, Integer.class)).thenReturn(3);
+        when(claims.get("email", String.class)).thenReturn("user@example.com");
+        when(claims.get("roles", List.class)).thenReturn(List.of("USER", "ADMIN"));
+        when(tokenBlacklist.isBlacklisted(token)).thenReturn(false);
+        when(securityVersionCache.isCurrent(1L, 3)).thenReturn(true);
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        User principal = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("user@example.com");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void 토큰_인증_모드에서_보안_버전이_다르면_인증_실패() throws ServletException, IOException {
+        // Given
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "principalFromToken", true);
+        String token = "stale.jwt.token";
+        
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(verifiedTokenCache.get(token))
+                .thenReturn(new VerifiedTokenCache.VerifiedToken(1L, claims, userDetails, Long.MAX_VALUE));
+        when(claims.get(JwtTokenProvider.SECURITY_VERSION_CLAIM, Integer.class)).thenReturn(0);
+        when(securityVersionCache.isCurrent(1L, 0)).thenReturn(false);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -163,5 +246,6 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userService);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.pms.security;
+
+import com.pms.entity.User;
+import com.pms.event.MembershipChangedEvent;
+import com.pms.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpSubscriptionMatcher;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompSubscriptionRevokerTest {
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    @Mock
+    private MessageChannel brokerChannel;
+
+    @Mock
+    private ProjectService projectService;
+
+    @InjectMocks
+    private StompSubscriptionRevoker revoker;
+
+    @Test
+    void 멤버에서_빠진_사용자의_보드_구독을_해지() {
+        // Given - 사용자 1 은 프로젝트 10 보드와 20 보드를, 사용자 2 는 10 보드를 구독 중
+        subscriptions(
+                subscription("sub-1", "session-1", 1L, "/topic/projects/10/issues"),
+                subscription("sub-2", "session-1", 1L, "/topic/projects/20/issues"),
+                subscription("sub-3", "session-2", 2L, "/topic/projects/10/issues"));
+        when(projectService.isUserMemberOfProject(1L, 10L)).thenReturn(false);
+
+        // When
+        revoker.onMembershipChanged(new MembershipChangedEvent(1L, 10L));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel).send(captor.capture());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(captor.getValue());
+        assertThat(accessor.getMessageType()).isEqualTo(SimpMessageType.UNSUBSCRIBE);
+        assertThat(accessor.getSessionId()).isEqualTo("session-1");
+        assertThat(accessor.getSubscriptionId()).isEqualTo("sub-1");
+    }
+
+    @Test
+    void 아직_멤버면_구독을_유지() {
+        // Given - 역할 변경
+        subscriptions(subscription("sub-1", "session-1", 1L, "/topic/projects/10/issues"));
+        when(projectService.isUserMemberOfProject(1L, 10L)).thenReturn(true);
+
+        // When
+        revoker.onMembershipChanged(new MembershipChangedEvent(1L, 10L));
+
+        // Then
+        verifyNoInteractions(brokerChannel);
+    }
+
+    @Test
+    void 구독이_없으면_멤버십을_조회하지_않음() {
+        // Given
+        subscriptions(subscription("sub-3", "session-2", 2L, "/topic/projects/10/issues"));
+
+        // When
+        revoker.onMembershipChanged(new MembershipChangedEvent(1L, 10L));
+
+        // Then
+        verifyNoInteractions(projectService, brokerChannel);
+    }
+
+    private void subscriptions(SimpSubscription... subscriptions) {
+        when(simpUserRegistry.findSubscriptions(any())).thenAnswer(invocation -> {
+            SimpSubscriptionMatcher matcher = invocation.getArgument(0);
+            return List.of(subscriptions).stream().filter(matcher::match).collect(Collectors.toSet());
+        });
+    }
+
+    private static SimpSubscription subscription(String id, String sessionId, Long userId, String destination) {
+        User user = new User();
+        user.setId(userId);
+        SimpUser simpUser = mock(SimpUser.class);
+        lenient().when(simpUser.getPrincipal()).thenReturn(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        SimpSession session = mock(SimpSession.class);
+        lenient().when(session.getId()).thenReturn(sessionId);
+        lenient().when(session.getUser()).thenReturn(simpUser);
+        SimpSubscription subscription = mock(SimpSubscription.class);
+        lenient().when(subscription.getId()).thenReturn(id);
+        lenient().when(subscription.getDestination()).thenReturn(destination);
+        lenient().when(subscription.getSession()).thenReturn(session);
+        return subscription;
+    }
+}
@@ -0,0 +1,81 @@
+package com.pms.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeBucketedBloomFilterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private final TimeBucketedBloomFilter filter =
+            new TimeBucketedBloomFilter(Duration.ofMinutes(15), Duration.ofMinutes(5), 1000, 0.01);
+
+    @Test
+    void 추가한_토큰은_보존_기간_동안_조회된다() {
+        // Given
+        long[] hash = TokenBlacklist.hash("blacklisted.jwt.token");
+        long insertedAt = 1_000 * MINUTE;
+
+        // When
+        filter.put(hash[0], hash[1], insertedAt);
+
+        // Then
+        assertThat(filter.mightContain(hash[0], hash[1], insertedAt)).isTrue();
+        assertThat(filter.mightContain(hash[0], hash[1], insertedAt + 15 * MINUTE)).isTrue();
+    }
+
+    @Test
+    void 보존_기간이_지난_버킷은_조회되지_않는다() {
+        // Given
+        long[] hash = TokenBlacklist.hash("expired.jwt.token");
+        long insertedAt = 1_000 * MINUTE;
+        filter.put(hash[0], hash[1], insertedAt);
+
+        // When
+        boolean found = filter.mightContain(hash[0], hash[1], insertedAt + 25 * MINUTE);
+
+        // Then
+        assertThat(found).isFalse();
+    }
+
+    @Test
+    void 재사용된_버킷은_이전_항목을_잊는다() {
+        // Given
+        long[] oldHash = TokenBlacklist.hash("old.jwt.token");
+        long[] newHash = TokenBlacklist.hash("new.jwt.token");
+        long insertedAt = 1_000 * MINUTE;
+        filter.put(oldHash[0], oldHash[1], insertedAt);
+
+        // When - 링 한 바퀴 뒤 같은 슬롯에 기록
+        filter.put(newHash[0], newHash[1], insertedAt + 20 * MINUTE);
+
+        // Then
+        assertThat(filter.mightContain(newHash[0], newHash[1], insertedAt + 20 * MINUTE)).isTrue();
+        assertThat(filter.mightContain(oldHash[0], oldHash[1], insertedAt + 20 * MINUTE)).isFalse();
+    }
+
+    @Test
+    void 추가하지_않은_토큰의_거짓_양성률이_설정값_근처다() {
+        // Given
+        long now = 1_000 * MINUTE;
+        for (int i = 0; i < 1000; i++) {
+            long[] hash = TokenBlacklist.hash("blacklisted-" + i);
+            filter.put(hash[0], hash[1], now);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long[] hash = TokenBlacklist.hash("active-" + i);
+            if (filter.mightContain(hash[0], hash[1], now)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
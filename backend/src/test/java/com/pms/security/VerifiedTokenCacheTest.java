@@ -0,0 +1,102 @@
+package com.pms.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private SecurityVersionCache securityVersionCache;
+
+    @Mock
+    private Claims claims;
+
+    @Mock
+    private UserDetails principal;
+
+    @InjectMocks
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 100L);
+        verifiedTokenCache.init();
+        when(claims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        verifiedTokenCache.put("token", 1L, claims, principal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_제거() {
+        // When
+        verifiedTokenCache.invalidateUser(1L);
+
+        // Then
+        assertThat(verifiedTokenCache.get("token")).isNull();
+        verify(redisTemplate).convertAndSend(eq(VerifiedTokenCache.INVALIDATION_CHANNEL), endsWith("|user|1"));
+    }
+
+    @Test
+    void 커밋되면_그때_제거하고_다른_노드에_알림() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        verifiedTokenCache.invalidateUser(1L);
+
+        // Then - 커밋 전에는 그대로다
+        assertThat(verifiedTokenCache.get("token")).isNotNull();
+        verifyNoInteractions(redisTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(verifiedTokenCache.get("token")).isNull();
+        verify(securityVersionCache).evict(1L);
+        verify(redisTemplate).convertAndSend(eq(VerifiedTokenCache.INVALIDATION_CHANNEL), endsWith("|user|1"));
+    }
+
+    @Test
+    void 롤백되면_캐시를_건드리지_않음() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        verifiedTokenCache.invalidateUser(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(verifiedTokenCache.get("token")).isNotNull();
+        verifyNoInteractions(securityVersionCache, redisTemplate);
+    }
+}
@@ -0,0 +1,105 @@
+package com.pms.service;
+
+import com.pms.dto.response.ActivityLogResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ActivityLogArchiveTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private ActivityLogArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new ActivityLogArchive();
+        ReflectionTestUtils.setField(archive, "archivePath", archiveDir.toString());
+    }
+
+    @Test
+    void 내보낸_파일에서_엔티티_이력_조회() throws Exception {
+        // Given
+        YearMonth month = YearMonth.of(2025, 3);
+        try (ActivityLogArchive.Writer writer = archive.openWriter(month)) {
+            writer.append(row(1L, "ISSUE", 10L, LocalDateTime.of(2025, 3, 1, 9, 0)));
+            writer.append(row(2L, "ISSUE", 11L, LocalDateTime.of(2025, 3, 2, 9, 0)));
+            writer.append(row(3L, "ISSUE", 10L, LocalDateTime.of(2025, 3, 20, 9, 0)));
+            assertThat(writer.commit()).isEqualTo(3);
+        }
+
+        // When
+        List<ActivityLogResponse> all = archive.scan(month, 1L, "ISSUE", 10L, null, null, 100);
+        List<ActivityLogResponse> ranged = archive.scan(month, 1L, "ISSUE", 10L,
+                LocalDateTime.of(2025, 3, 10, 0, 0), null, 100);
+
+        // Then
+        assertThat(archive.listMonths()).containsExactly(month);
+        assertThat(all).extracting(ActivityLogResponse::getId).containsExactly(3L, 1L);
+        assertThat(all).allMatch(ActivityLogResponse::isArchived);
+        assertThat(ranged).extracting(ActivityLogResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    void limit_만큼_최신_항목만_최신순으로_반환() throws Exception {
+        // Given - 파일 안의 순서는 시간순이 아닐 수 있다
+        YearMonth month = YearMonth.of(2025, 5);
+        try (ActivityLogArchive.Writer writer = archive.openWriter(month)) {
+            writer.append(row(2L, "ISSUE", 10L, LocalDateTime.of(2025, 5, 20, 9, 0)));
+            writer.append(row(1L, "ISSUE", 10L, LocalDateTime.of(2025, 5, 1, 9, 0)));
+            writer.append(row(4L, "ISSUE", 10L, LocalDateTime.of(2025, 5, 25, 9, 0)));
+            writer.append(row(3L, "ISSUE", 10L, LocalDateTime.of(2025, 5, 10, 9, 0)));
+            writer.commit();
+        }
+
+        // When
+        List<ActivityLogResponse> result = archive.scan(month, 1L, "ISSUE", 10L, null, null, 2);
+
+        // Then
+        assertThat(result).extracting(ActivityLogResponse::getId).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void 커밋하지_않고_닫으면_파일을_남기지_않음() throws Exception {
+        // Given
+        YearMonth month = YearMonth.of(2025, 4);
+
+        // When
+        try (ActivityLogArchive.Writer writer = archive.openWriter(month)) {
+            writer.append(row(1L, "ISSUE", 10L, LocalDateTime.of(2025, 4, 1, 9, 0)));
+        }
+
+        // Then
+        assertThat(archive.exists(month)).isFalse();
+        try (var files = Files.list(archiveDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static ResultSet row(Long id, String entityType, Long entityId, LocalDateTime createdAt) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getString("action")).thenReturn("ISSUE_UPDATED");
+        when(rs.getString("entity_type")).thenReturn(entityType);
+        when(rs.getLong("entity_id")).thenReturn(entityId);
+        when(rs.getString("new_value")).thenReturn("IN_PROGRESS");
+        when(rs.getLong("user_id")).thenReturn(7L);
+        when(rs.getLong("project_id")).thenReturn(1L);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(createdAt));
+        return rs;
+    }
+}
@@ -0,0 +1,71 @@
+package com.pms.service;
+
+import com.pms.dto.response.ActivityLogResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityLogQueryServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ActivityLogArchive archive;
+
+    @InjectMocks
+    private ActivityLogQueryService activityLogQueryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(activityLogQueryService, "maxRangeMonths", 3);
+    }
+
+    @Test
+    void from_이_없으면_최근_구간의_보관_파일만_읽음() throws Exception {
+        // Given - 2025년 1월 ~ 12월 보관 파일
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<ActivityLogResponse>>any(), any(Object[].class))).thenReturn(List.of());
+        List<YearMonth> months = IntStream.rangeClosed(1, 12).mapToObj(m -> YearMonth.of(2025, m)).toList();
+        when(archive.listMonths()).thenReturn(months);
+        LocalDateTime to = LocalDateTime.of(2026, 2, 15, 0, 0);
+
+        // When
+        activityLogQueryService.getHistory(1L, "ISSUE", 10L, null, to, 10);
+
+        // Then - 2025-11-15 부터이므로 12월과 11월만 읽는다
+        verify(archive).scan(eq(YearMonth.of(2025, 12)), eq(1L), eq("ISSUE"), eq(10L),
+                eq(LocalDateTime.of(2025, 11, 15, 0, 0)), eq(to), anyInt());
+        verify(archive).scan(eq(YearMonth.of(2025, 11)), eq(1L), eq("ISSUE"), eq(10L),
+                eq(LocalDateTime.of(2025, 11, 15, 0, 0)), eq(to), anyInt());
+        verify(archive, times(2)).scan(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void 조회_구간이_상한을_넘으면_거부() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 4, 2, 0, 0);
+
+        // When & Then
+        assertThatThrownBy(() -> activityLogQueryService.getHistory(1L, "ISSUE", 10L, from, to, 10))
+                .hasMessage("Time range must not exceed 3 months");
+        verifyNoInteractions(jdbcTemplate, archive);
+    }
+}
@@ -0,0 +1,191 @@
+package com.pms.service;
+
+import com.pms.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ActivityLogWriterTest {
+
+    private static final int COLUMNS = 11;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private ActivityLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        jdbcTemplate.release.countDown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (writer != null) {
+            writer.shutdown();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 트랜잭션_안의_기록은_커밋된_뒤에_쓴다() throws InterruptedException {
+        // Given
+        start(16);
+        TransactionSynchronizationManager.initSynchronization();
+        writer.record("CREATED", ActivityLogWriter.ENTITY_ISSUE, 10L, 100L, null, "A");
+        writer.record("UPDATED", ActivityLogWriter.ENTITY_ISSUE, 10L, 100L, "A", "B");
+
+        // When & Then - 커밋 전에는 쓰지 않는다
+        assertThat(jdbcTemplate.writes.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(awaitActions(2)).containsExactly("CREATED", "UPDATED");
+    }
+
+    @Test
+    void 롤백된_트랜잭션의_기록은_버린다() throws InterruptedException {
+        // Given
+        start(16);
+        TransactionSynchronizationManager.initSynchronization();
+        writer.record("DELETED", ActivityLogWriter.ENTITY_ISSUE, 10L, 100L, "A", null);
+
+        // When
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        writer.record("CREATED", ActivityLogWriter.ENTITY_ISSUE, 11L, 100L, null, "B");
+
+        // Then - 버퍼는 순서대로 비워지므로 뒤의 항목만 쓰였다면 롤백된 항목은 버려진 것이다
+        assertThat(awaitActions(1)).containsExactly("CREATED");
+        assertThat(jdbcTemplate.writes.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void 버퍼가_가득_차면_새_항목을_버리고_센다() throws InterruptedException {
+        // Given - 첫 항목을 쓰는 동안 기록기를 붙잡아 두고 버퍼(2칸)를 채운다
+        start(2);
+        jdbcTemplate.holdFirstWrite = true;
+        writer.record("FIRST", ActivityLogWriter.ENTITY_ISSUE, 1L, 100L, null, null);
+        assertThat(jdbcTemplate.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.record("SECOND", ActivityLogWriter.ENTITY_ISSUE, 2L, 100L, null, null);
+        writer.record("THIRD", ActivityLogWriter.ENTITY_ISSUE, 3L, 100L, null, null);
+
+        // When
+        writer.record("FOURTH", ActivityLogWriter.ENTITY_ISSUE, 4L, 100L, null, null);
+        jdbcTemplate.release.countDown();
+
+        // Then
+        assertThat(awaitActions(3)).containsExactly("FIRST", "SECOND", "THIRD");
+        assertThat(meterRegistry.counter("activity.log.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 밀린_항목은_한_번의_INSERT_로_여러_행을_쓴다() throws InterruptedException {
+        // Given - 첫 항목을 쓰는 동안 세 항목이 쌓인다
+        start(16);
+        jdbcTemplate.holdFirstWrite = true;
+        writer.record("FIRST", ActivityLogWriter.ENTITY_ISSUE, 1L, 100L, null, null);
+        assertThat(jdbcTemplate.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.record("SECOND", ActivityLogWriter.ENTITY_ISSUE, 2L, 100L, null, null);
+        writer.record("THIRD", ActivityLogWriter.ENTITY_ISSUE, 3L, 100L, null, null);
+        writer.record("FOURTH", ActivityLogWriter.ENTITY_ISSUE, 4L, 100L, null, null);
+
+        // When
+        jdbcTemplate.release.countDown();
+
+        // Then
+        Write first = jdbcTemplate.writes.poll(5, TimeUnit.SECONDS);
+        Write second = jdbcTemplate.writes.poll(5, TimeUnit.SECONDS);
+        assertThat(first.args()).hasSize(COLUMNS);
+        assertThat(second.args()).hasSize(3 * COLUMNS);
+        assertThat(second.sql()).endsWith("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?), "
+                + "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        assertThat(actions(second.args())).containsExactly("SECOND", "THIRD", "FOURTH");
+    }
+
+    private void start(int bufferSize) {
+        writer = new ActivityLogWriter();
+        ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(writer, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(writer, "bufferSize", bufferSize);
+        ReflectionTestUtils.setField(writer, "pollIntervalMs", 50L);
+        writer.init();
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private List<String> awaitActions(int expected) throws InterruptedException {
+        List<String> actions = new ArrayList<>();
+        while (actions.size() < expected) {
+            Write write = jdbcTemplate.writes.poll(5, TimeUnit.SECONDS);
+            assertThat(write).as("activity log write").isNotNull();
+            actions.addAll(actions(write.args()));
+        }
+        return actions;
+    }
+
+    private static List<String> actions(Object[] args) {
+        List<String> actions = new ArrayList<>();
+        for (int i = 0; i < args.length; i += COLUMNS) {
+            actions.add((String) args[i]);
+        }
+        return actions;
+    }
+
+    private record Write(String sql, Object[] args) {
+    }
+
+    /**
+     * INSERT 문과 인자를 모아 두는 JdbcTemplate - holdFirstWrite 면 첫 쓰기를 release 까지 붙잡는다
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final BlockingQueue<Write> writes = new LinkedBlockingQueue<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean holdFirstWrite;
+
+        @Override
+        public int update(String sql, Object... args) {
+            writing.countDown();
+            if (holdFirstWrite) {
+                holdFirstWrite = false;
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            writes.add(new Write(sql, args));
+            return args.length / COLUMNS;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.pms.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AttachmentBlobStoreTest {
+
+    // echo -n "hello" | sha256sum
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path uploadDir;
+
+    private AttachmentBlobStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new AttachmentBlobStore();
+        ReflectionTestUtils.setField(store, "uploadDir", uploadDir.toString());
+        store.init();
+    }
+
+    @Test
+    void 임시_파일로_쓰면서_해시를_계산() throws Exception {
+        // When
+        AttachmentBlobStore.StagedFile staged = store.stage(input("hello"));
+
+        // Then
+        assertThat(staged.hash()).isEqualTo(HELLO_SHA256);
+        assertThat(staged.size()).isEqualTo(5);
+        assertThat(Files.readString(staged.path())).isEqualTo("hello");
+    }
+
+    @Test
+    void 받아_둔_임시_파일은_옮기지_않고_해시만_계산() throws Exception {
+        // Given
+        Path temp = store.createTempFile();
+        Files.writeString(temp, "hello");
+
+        // When
+        AttachmentBlobStore.StagedFile staged = store.stageInPlace(temp);
+
+        // Then
+        assertThat(staged.path()).isEqualTo(temp);
+        assertThat(staged.hash()).isEqualTo(HELLO_SHA256);
+        assertThat(staged.size()).isEqualTo(5);
+        assertThat(temp.getParent()).isEqualTo(store.tempDir());
+    }
+
+    @Test
+    void 같은_내용은_한번만_저장() throws Exception {
+        // Given
+        AttachmentBlobStore.StagedFile first = store.stage(input("hello"));
+        AttachmentBlobStore.StagedFile second = store.stage(input("hello"));
+
+        // When
+        boolean firstStored = store.publish(first);
+        boolean secondStored = store.publish(second);
+
+        // Then
+        assertThat(firstStored).isTrue();
+        assertThat(secondStored).isFalse();
+        assertThat(second.path()).doesNotExist();
+        Path blob = uploadDir.resolve("blobs/2c/f2/" + HELLO_SHA256);
+        assertThat(AttachmentBlobStore.relativePath(HELLO_SHA256)).isEqualTo("blobs/2c/f2/" + HELLO_SHA256);
+        assertThat(Files.readString(blob)).isEqualTo("hello");
+    }
+
+    @Test
+    void 세션_파일은_복사본으로_게시하고_이후_청크는_쓰이지_않음() throws Exception {
+        // Given
+        Path session = store.createSessionFile("4b0e5f3e-4a44-4d0c-9a55-0f7e8c1f3a21");
+        store.writeAt(session, 0, input("hello"), 5);
+
+        // When
+        AttachmentBlobStore.StagedFile staged = store.stageExisting(session);
+
+        // Then - 해시는 복사본의 바이트로 계산되고, 세션 파일이 지워져 늦은 청크는 실패한다
+        assertThat(staged.hash()).isEqualTo(HELLO_SHA256);
+        assertThat(Files.readString(staged.path())).isEqualTo("hello");
+        assertThat(session).doesNotExist();
+        assertThatThrownBy(() -> store.writeAt(session, 0, input("world"), 5))
+                .isInstanceOf(NoSuchFileException.class);
+        assertThat(session).doesNotExist();
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
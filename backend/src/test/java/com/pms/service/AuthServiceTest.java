@@ -6,6 +6,8 @@ import com.pms.entity.User;
 import com.pms.repository.RoleRepository;
 import com.pms.repository.UserRepository;
 import com.pms.security.JwtTokenProvider;
+import com.pms.security.TokenBlacklist;
+import com.pms.security.VerifiedTokenCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,6 +59,18 @@ class AuthServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private LastLoginRecorder lastLoginRecorder;
+
     @InjectMocks
     private AuthService authService;
 
@@ -83,7 +97,7 @@ class AuthServiceTest {
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
             .thenReturn(mockAuth);
-        when(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyList()))
+        when(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyList(), anyInt()))
             .thenReturn("access-token");
         when(jwtTokenProvider.createRefreshToken(anyLong()))
             .thenReturn("refresh-token");
@@ -101,9 +115,11 @@ class AuthServiceTest {
         assertThat(userInfo.get("email")).isEqualTo(email);
         
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtTokenProvider).createAccessToken(eq(mockUser.getId()), eq(email), any(List.class));
+        verify(jwtTokenProvider).createAccessToken(eq(mockUser.getId()), eq(email), any(List.class), eq(0));
         verify(jwtTokenProvider).createRefreshToken(eq(mockUser.getId()));
         verify(valueOperations).set(eq("refresh_token:" + mockUser.getId()), eq("refresh-token"), any());
+        verify(loginAttemptService).reset(email);
+        verify(lastLoginRecorder).record(mockUser.getId());
     }
 
     @Test
@@ -121,7 +137,22 @@ class AuthServiceTest {
             .hasMessage("Bad credentials");
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verifyNoInteractions(jwtTokenProvider);
+        verify(loginAttemptService).recordFailure(email);
+        verifyNoInteractions(jwtTokenProvider, lastLoginRecorder);
+    }
+
+    @Test
+    void 로그인_실패_계정_잠금() {
+        // Given
+        String email = "locked@example.com";
+        when(loginAttemptService.isLocked(email)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.authenticateUser(email, "password123"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("locked");
+
+        verifyNoInteractions(authenticationManager, jwtTokenProvider, lastLoginRecorder);
     }
 
     @Test
@@ -0,0 +1,97 @@
+package com.pms.service;
+
+import com.pms.dto.response.BoardUpdateMessage;
+import com.pms.entity.Issue;
+import com.pms.event.IssueBoardEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardUpdateBroadcasterTest {
+
+    @Mock
+    private ProjectEventRelay projectEventRelay;
+
+    @InjectMocks
+    private BoardUpdateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(broadcaster, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(broadcaster, "maxDeltas", 3);
+        broadcaster.init();
+    }
+
+    @Test
+    void 같은_이슈의_연속_변경은_하나의_델타로_합침() {
+        // Given - 생성 직후 두 번 이동
+        broadcaster.onBoardEvent(delta(IssueBoardEvent.Type.CREATED, 10L, Issue.Status.TODO, 0));
+        broadcaster.onBoardEvent(delta(IssueBoardEvent.Type.MOVED, 10L, Issue.Status.IN_PROGRESS, 1024));
+        broadcaster.onBoardEvent(delta(IssueBoardEvent.Type.MOVED, 10L, Issue.Status.DONE, 2048));
+        broadcaster.onBoardEvent(delta(IssueBoardEvent.Type.MOVED, 11L, Issue.Status.DONE, 0));
+
+        // When
+        broadcaster.flush();
+
+        // Then
+        ArgumentCaptor<BoardUpdateMessage> captor = ArgumentCaptor.forClass(BoardUpdateMessage.class);
+        verify(projectEventRelay).publish(eq(1L), eq("/topic/projects/1/issues"), captor.capture());
+        BoardUpdateMessage message = captor.getValue();
+        assertThat(message.isResync()).isFalse();
+        assertThat(message.getDeltas()).hasSize(2);
+        IssueBoardEvent merged = message.getDeltas().get(0);
+        assertThat(merged.type()).isEqualTo(IssueBoardEvent.Type.CREATED);
+        assertThat(merged.status()).isEqualTo(Issue.Status.DONE);
+        assertThat(merged.position()).isEqualTo(2048);
+    }
+
+    @Test
+    void 삭제는_이전_변경을_덮어씀() {
+        // Given
+        broadcaster.onBoardEvent(delta(IssueBoardEvent.Type.UPDATED, 10L, Issue.Status.TODO, 0));
+        broadcaster.onBoardEvent(IssueBoardEvent.deleted(1L, 10L));
+
+        // When
+        broadcaster.flush();
+
+        // Then
+        ArgumentCaptor<BoardUpdateMessage> captor = ArgumentCaptor.forClass(BoardUpdateMessage.class);
+        verify(projectEventRelay).publish(anyLong(), anyString(), captor.capture());
+        assertThat(captor.getValue().getDeltas()).extracting(IssueBoardEvent::type)
+                .containsExactly(IssueBoardEvent.Type.DELETED);
+    }
+
+    @Test
+    void 델타가_너무_많으면_resync만_보냄() {
+        // Given
+        for (long issueId = 1; issueId <= 4; issueId++) {
+            broadcaster.onBoardEvent(delta(IssueBoardEvent.Type.MOVED, issueId, Issue.Status.DONE, 0));
+        }
+
+        // When
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // Then - 두 번째 플러시에는 보낼 것이 없다
+        ArgumentCaptor<BoardUpdateMessage> captor = ArgumentCaptor.forClass(BoardUpdateMessage.class);
+        verify(projectEventRelay, times(1)).publish(anyLong(), anyString(), captor.capture());
+        assertThat(captor.getValue().isResync()).isTrue();
+        assertThat(captor.getValue().getDeltas()).isEmpty();
+    }
+
+    private static IssueBoardEvent delta(IssueBoardEvent.Type type, Long issueId, Issue.Status status, int position) {
+        return new IssueBoardEvent(type, 1L, issueId, status, position, "Issue " + issueId,
+                Issue.Priority.MEDIUM, Issue.Type.TASK, null);
+    }
+}
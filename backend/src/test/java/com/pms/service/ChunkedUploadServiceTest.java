@@ -0,0 +1,128 @@
+package com.pms.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    private static final String UPLOAD_ID = "4b0e5f3e-4a44-4d0c-9a55-0f7e8c1f3a21";
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private AttachmentService attachmentService;
+
+    @InjectMocks
+    private ChunkedUploadService chunkedUploadService;
+
+    private AttachmentBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = new AttachmentBlobStore();
+        ReflectionTestUtils.setField(blobStore, "uploadDir", uploadDir.toString());
+        blobStore.init();
+        ReflectionTestUtils.setField(chunkedUploadService, "blobStore", blobStore);
+        ReflectionTestUtils.setField(chunkedUploadService, "chunkSize", DataSize.ofBytes(4));
+        ReflectionTestUtils.setField(chunkedUploadService, "maxSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(chunkedUploadService, "sessionTtl", Duration.ofHours(24));
+    }
+
+    @Test
+    void 청크는_순서와_무관하게_제_위치에_쓰임() throws Exception {
+        // Given - 10바이트 파일, 4바이트 청크 3개
+        givenSession(10);
+        blobStore.createSessionFile(UPLOAD_ID);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisCallback<byte[]>>any())).thenReturn(new byte[] { (byte) 0b0010_0000 });
+
+        // When - 마지막 청크를 먼저 보낸다
+        var response = chunkedUploadService.uploadChunk(UPLOAD_ID, 1L, 8, input("89"));
+
+        // Then
+        verify(valueOperations).setBit("attachment:upload:" + UPLOAD_ID + ":chunks", 2, true);
+        assertThat(response.getMissingChunks()).containsExactly(0, 1);
+        byte[] written = Files.readAllBytes(blobStore.sessionFile(UPLOAD_ID));
+        assertThat(written).hasSize(10);
+        assertThat(new String(written, 8, 2, StandardCharsets.UTF_8)).isEqualTo("89");
+    }
+
+    @Test
+    void 청크_길이가_다르면_거부() {
+        // Given
+        givenSession(10);
+
+        // When & Then
+        assertThatThrownBy(() -> chunkedUploadService.uploadChunk(UPLOAD_ID, 1L, 0, input("012")))
+                .hasMessageContaining("must be 4 bytes");
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void 세션_파일이_지워진_뒤_도착한_청크는_거부하고_파일을_만들지_않음() {
+        // Given - 완료 확인을 통과한 뒤 다른 요청이 완료해 세션 파일이 지워졌다
+        givenSession(10);
+
+        // When & Then
+        assertThatThrownBy(() -> chunkedUploadService.uploadChunk(UPLOAD_ID, 1L, 0, input("0123")))
+                .hasMessage("Upload is already being completed");
+        assertThat(blobStore.sessionFile(UPLOAD_ID)).doesNotExist();
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void 다른_사용자의_세션은_찾을_수_없음() {
+        // Given
+        givenSession(10);
+
+        // When & Then
+        assertThatThrownBy(() -> chunkedUploadService.getSession(UPLOAD_ID, 2L))
+                .hasMessage("Upload session not found");
+    }
+
+    private void givenSession(long totalSize) {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("attachment:upload:" + UPLOAD_ID)).thenReturn(Map.of(
+                "issueId", "10", "userId", "1", "fileName", "build.zip",
+                "totalSize", String.valueOf(totalSize), "chunkSize", "4"));
+        lenient().when(hashOperations.hasKey("attachment:upload:" + UPLOAD_ID, "completing")).thenReturn(false);
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
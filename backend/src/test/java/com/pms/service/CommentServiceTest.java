@@ -0,0 +1,162 @@
+package com.pms.service;
+
+import com.pms.dto.response.CommentResponse;
+import com.pms.dto.response.CursorPageResponse;
+import com.pms.entity.Comment;
+import com.pms.entity.Issue;
+import com.pms.entity.Project;
+import com.pms.entity.User;
+import com.pms.repository.CommentCursor;
+import com.pms.repository.CommentRepository;
+import com.pms.repository.IssueRepository;
+import com.pms.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentService, "previewSize", 2);
+        issue = new Issue();
+        issue.setId(10L);
+        issue.setProject(new Project());
+    }
+
+    @Test
+    void 한_건_더_읽어_다음_페이지_커서를_만듦() {
+        // Given - size 2 요청에 3건이 오면 다음 페이지가 있다
+        when(commentRepository.findByIssue(10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(comment(1L, 0), comment(2L, 1), comment(3L, 2)));
+
+        // When
+        CursorPageResponse<CommentResponse> page = commentService.getComments(10L, null, 2);
+
+        // Then
+        assertThat(page.getContent()).extracting(CommentResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        CommentCursor next = CommentCursor.decode(page.getNextCursor());
+        assertThat(next.id()).isEqualTo(2L);
+        assertThat(next.createdAt()).isEqualTo(BASE.plusMinutes(1));
+    }
+
+    @Test
+    void 커서가_있으면_그_다음부터_읽음() {
+        // Given
+        String cursor = new CommentCursor(BASE.plusMinutes(1), 2L).encode();
+        when(commentRepository.findByIssueAfter(10L, BASE.plusMinutes(1), 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(comment(3L, 2)));
+
+        // When
+        CursorPageResponse<CommentResponse> page = commentService.getComments(10L, cursor, 2);
+
+        // Then
+        assertThat(page.getContent()).extracting(CommentResponse::getId).containsExactly(3L);
+        assertThat(page.getNextCursor()).isNull();
+        verify(commentRepository, never()).findByIssue(anyLong(), any());
+    }
+
+    @Test
+    void 최근_댓글은_작성순으로_돌려줌() {
+        // Given - 최신순으로 읽힌다
+        when(commentRepository.findLatestByIssue(10L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(comment(5L, 4), comment(4L, 3)));
+
+        // When
+        List<Comment> latest = commentService.getLatestComments(10L);
+
+        // Then
+        assertThat(latest).extracting(Comment::getId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void 작성하면_댓글_수를_하나_올림() {
+        // Given
+        User author = user(1L);
+        when(issueRepository.findById(10L)).thenReturn(Optional.of(issue));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Comment saved = commentService.createComment(10L, 1L, "LGTM");
+
+        // Then
+        assertThat(saved.getContent()).isEqualTo("LGTM");
+        verify(issueRepository).adjustCommentCount(10L, 1);
+    }
+
+    @Test
+    void 이미_삭제된_댓글이면_댓글_수를_줄이지_않음() {
+        // Given - 다른 요청이 먼저 지웠다
+        Comment comment = comment(1L, 0);
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(commentRepository.softDelete(eq(1L), any())).thenReturn(0);
+
+        // When
+        commentService.deleteComment(1L);
+
+        // Then
+        verify(issueRepository, never()).adjustCommentCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void 삭제하면_댓글_수를_하나_내림() {
+        // Given
+        Comment comment = comment(1L, 0);
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(commentRepository.softDelete(eq(1L), any())).thenReturn(1);
+
+        // When
+        commentService.deleteComment(1L);
+
+        // Then
+        verify(issueRepository).adjustCommentCount(10L, -1);
+    }
+
+    private Comment comment(Long id, int minutes) {
+        Comment comment = new Comment("comment " + id, issue, user(1L));
+        comment.setId(id);
+        comment.setCreatedAt(BASE.plusMinutes(minutes));
+        return comment;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
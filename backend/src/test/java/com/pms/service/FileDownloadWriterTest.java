@@ -0,0 +1,93 @@
+package com.pms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FileDownloadWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileDownloadWriter writer;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writer = new FileDownloadWriter();
+        ReflectionTestUtils.setField(writer, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writer, "sendfileMinSize", DataSize.ofBytes(4));
+        file = Files.writeString(tempDir.resolve("stored.log"), "0123456789", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 범위_요청은_206과_해당_바이트만_보냄() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/attachments/1/download");
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(request, response, file, "text/plain", "app.log");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    void ETag가_같으면_304() throws Exception {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        writer.write(new MockHttpServletRequest("GET", "/"), first, file, "text/plain", "app.log");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(request, response, file, "text/plain", "app.log");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void sendfile_지원시_본문을_쓰지_않고_커넥터에_맡김() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute(FileDownloadWriter.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(request, response, file, "text/plain", "app.log");
+
+        // Then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(FileDownloadWriter.SENDFILE_START_ATTR)).isEqualTo(6L);
+        assertThat(request.getAttribute(FileDownloadWriter.SENDFILE_END_ATTR)).isEqualTo(10L);
+    }
+
+    @Test
+    void 범위_해석() {
+        assertThat(FileDownloadWriter.parseRange("bytes=5-", 10)).isEqualTo(new FileDownloadWriter.ByteRange(5, 9));
+        assertThat(FileDownloadWriter.parseRange("bytes=5-100", 10)).isEqualTo(new FileDownloadWriter.ByteRange(5, 9));
+        assertThat(FileDownloadWriter.parseRange("bytes=10-", 10)).isSameAs(FileDownloadWriter.ByteRange.UNSATISFIABLE);
+        assertThat(FileDownloadWriter.parseRange("bytes=0-1,4-5", 10)).isNull();
+        assertThat(FileDownloadWriter.parseRange("items=0-1", 10)).isNull();
+    }
+}
@@ -0,0 +1,148 @@
+package com.pms.service;
+
+import com.pms.entity.Issue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static com.pms.service.IssuePositionRebalancer.POSITION_GAP;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssuePositionRebalancerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IssuePositionRebalancer positionRebalancer;
+
+    @Test
+    void 두_카드_사이는_중간값() {
+        // When
+        IssuePositionRebalancer.Slot slot = IssuePositionRebalancer.slotBetween(1024, 2048);
+
+        // Then
+        assertThat(slot.position()).isEqualTo(1536);
+        assertThat(slot.gap()).isEqualTo(512);
+    }
+
+    @Test
+    void 맨_앞은_첫_카드에서_GAP_만큼_앞() {
+        // When
+        IssuePositionRebalancer.Slot slot = IssuePositionRebalancer.slotBetween(null, 0);
+
+        // Then
+        assertThat(slot.position()).isEqualTo(-POSITION_GAP);
+        assertThat(slot.gap()).isEqualTo(POSITION_GAP);
+    }
+
+    @Test
+    void 맨_뒤는_마지막_카드에서_GAP_만큼_뒤() {
+        // When
+        IssuePositionRebalancer.Slot slot = IssuePositionRebalancer.slotBetween(3 * POSITION_GAP, null);
+
+        // Then
+        assertThat(slot.position()).isEqualTo(4 * POSITION_GAP);
+        assertThat(slot.gap()).isEqualTo(POSITION_GAP);
+    }
+
+    @Test
+    void 빈_컬럼은_0() {
+        // When
+        IssuePositionRebalancer.Slot slot = IssuePositionRebalancer.slotBetween(null, null);
+
+        // Then
+        assertThat(slot.position()).isZero();
+    }
+
+    @Test
+    void 간격이_바닥나면_null() {
+        // Then
+        assertThat(IssuePositionRebalancer.slotBetween(10, 11)).isNull();
+        assertThat(IssuePositionRebalancer.slotBetween(10, 10)).isNull();
+        assertThat(IssuePositionRebalancer.slotBetween(10, 12).position()).isEqualTo(11);
+        assertThat(IssuePositionRebalancer.slotBetween(Integer.MAX_VALUE, null)).isNull();
+    }
+
+    @Test
+    void 같은_자리에_반복해서_넣으면_결국_간격이_바닥난다() {
+        // Given
+        int lower = 0;
+        int upper = POSITION_GAP;
+        int inserts = 0;
+
+        // When
+        IssuePositionRebalancer.Slot slot;
+        while ((slot = IssuePositionRebalancer.slotBetween(lower, upper)) != null) {
+            upper = slot.position();
+            inserts++;
+        }
+
+        // Then - 1024 간격은 절반씩 10번 나눌 수 있다
+        assertThat(inserts).isEqualTo(10);
+    }
+
+    @Test
+    void 재배치는_순서대로_GAP_간격으로_펼치고_제자리인_행은_뺀다() {
+        // Given
+        List<IssuePositionRebalancer.PositionRow> rows = List.of(
+                new IssuePositionRebalancer.PositionRow(7L, 0),
+                new IssuePositionRebalancer.PositionRow(3L, 1),
+                new IssuePositionRebalancer.PositionRow(5L, 2));
+
+        // When
+        List<Object[]> batchArgs = IssuePositionRebalancer.spread(rows);
+
+        // Then
+        assertThat(batchArgs).containsExactly(
+                new Object[] { POSITION_GAP, 3L, 1 },
+                new Object[] { 2 * POSITION_GAP, 5L, 2 });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 재배치_UPDATE는_읽은_위치로_보호된다() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), eq("TODO")))
+                .thenReturn(List.of(
+                        new IssuePositionRebalancer.PositionRow(7L, 0),
+                        new IssuePositionRebalancer.PositionRow(3L, 1)));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 0 });
+
+        // When
+        positionRebalancer.rebalance(1L, Issue.Status.TODO);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), args.capture());
+        assertThat(sql.getValue()).contains("WHERE id = ? AND position = ?");
+        assertThat(args.getValue()).containsExactly(new Object[] { POSITION_GAP, 3L, 1 });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 재배치는_프로젝트_행을_잠근_뒤에_위치를_읽는다() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), eq("TODO"))).thenReturn(List.of());
+
+        // When
+        positionRebalancer.rebalance(1L, Issue.Status.TODO);
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForList("SELECT id FROM project WHERE id = ? FOR UPDATE", Long.class, 1L);
+        inOrder.verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(1L), eq("TODO"));
+    }
+}
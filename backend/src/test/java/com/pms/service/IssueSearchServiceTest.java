@@ -0,0 +1,192 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pms.event.IssueChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IssueSearchServiceTest {
+
+    private IssueSearchService issueSearchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        issueSearchService = new IssueSearchService();
+        ReflectionTestUtils.setField(issueSearchService, "indexPath", "");
+        issueSearchService.open();
+
+        issueSearchService.onIssueChanged(IssueChangedEvent.created(1L, 10L, "로그인 버그 수정", "비밀번호 입력 시 오류"));
+        issueSearchService.onIssueChanged(IssueChangedEvent.created(2L, 10L, "Dashboard chart", "로그인 이후 대시보드 표시"));
+        issueSearchService.onIssueChanged(IssueChangedEvent.created(3L, 20L, "로그인 화면", "다른 프로젝트"));
+        issueSearchService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        issueSearchService.close();
+    }
+
+    @Test
+    void 제목_일치가_설명_일치보다_먼저_나온다() throws IOException {
+        // When
+        Page<Long> result = issueSearchService.search(10L, "로그인", 0, 10);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(1L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void 조사가_붙은_검색어도_형태소로_매칭된다() throws IOException {
+        // When
+        Page<Long> result = issueSearchService.search(10L, "비밀번호를", 0, 10);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    void 입력_중인_단어는_접두어로_매칭된다() throws IOException {
+        // When
+        Page<Long> result = issueSearchService.search(10L, "dash", 0, 10);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_반영된다() throws IOException {
+        // Given
+        issueSearchService.onIssueChanged(IssueChangedEvent.updated(1L, 10L, "결제 버그 수정", null));
+        issueSearchService.onIssueChanged(IssueChangedEvent.deleted(2L, 10L));
+        issueSearchService.refresh();
+
+        // When
+        Page<Long> loginResult = issueSearchService.search(10L, "로그인", 0, 10);
+        Page<Long> paymentResult = issueSearchService.search(10L, "결제", 0, 10);
+
+        // Then
+        assertThat(loginResult.getContent()).isEmpty();
+        assertThat(paymentResult.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    void rebuild_중_들어온_변경은_스캔한_행을_덮어쓴다() throws Exception {
+        // Given - 스캔이 삭제 직전의 행을 읽는 동안 삭제 이벤트가 들어온다
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ReflectionTestUtils.setField(issueSearchService, "jdbcTemplate", jdbcTemplate);
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(2L);
+        when(rs.getLong("project_id")).thenReturn(10L);
+        when(rs.getString("title")).thenReturn("Dashboard chart");
+        when(rs.getString("description")).thenReturn("로그인 이후 대시보드 표시");
+
+        doAnswer(invocation -> {
+            issueSearchService.onIssueChanged(IssueChangedEvent.deleted(2L, 10L));
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        issueSearchService.rebuild();
+
+        // Then
+        assertThat(issueSearchService.search(10L, "dash", 0, 10).getContent()).isEmpty();
+    }
+
+    @Test
+    void rebuild_는_색인을_비우지_않고_테이블에_없는_문서만_지운다() throws Exception {
+        // Given - 테이블에는 1번 이슈만 남아 있다
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ReflectionTestUtils.setField(issueSearchService, "jdbcTemplate", jdbcTemplate);
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(1L);
+        when(rs.getLong("project_id")).thenReturn(10L);
+        when(rs.getString("title")).thenReturn("로그인 버그 수정");
+        when(rs.getString("description")).thenReturn("비밀번호 입력 시 오류");
+
+        AtomicReference<List<Long>> duringScan = new AtomicReference<>();
+        doAnswer(invocation -> {
+            issueSearchService.refresh();
+            duringScan.set(issueSearchService.search(10L, "로그인", 0, 10).getContent());
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        int count = issueSearchService.rebuild();
+
+        // Then - 스캔 중에도 기존 결과가 보이고, 끝나면 테이블에 없는 2, 3번만 빠진다
+        assertThat(count).isEqualTo(1);
+        assertThat(duringScan.get()).containsExactly(1L, 2L);
+        assertThat(issueSearchService.search(10L, "로그인", 0, 10).getContent()).containsExactly(1L);
+        assertThat(issueSearchService.search(20L, "로그인", 0, 10).getContent()).isEmpty();
+    }
+
+    @Test
+    void 변경은_다른_노드로_중계되고_받은_변경은_다시_중계하지_않는다() throws Exception {
+        // Given - 중계를 켠 두 노드
+        ObjectMapper objectMapper = new ObjectMapper();
+        RedisTemplate<String, String> redisTemplate = mock();
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        IssueSearchService sender = relayingNode(redisTemplate, container, objectMapper);
+        IssueSearchService receiver = relayingNode(redisTemplate, container, objectMapper);
+
+        ArgumentCaptor<MessageListener> listeners = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container, times(2)).addMessageListener(listeners.capture(), eq(new ChannelTopic(IssueSearchService.CHANGE_CHANNEL)));
+        MessageListener receiverListener = listeners.getAllValues().get(1);
+
+        try {
+            // When
+            sender.onIssueChanged(IssueChangedEvent.created(5L, 10L, "결제 오류", null));
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(IssueSearchService.CHANGE_CHANNEL), published.capture());
+            receiverListener.onMessage(new DefaultMessage(IssueSearchService.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+            receiver.refresh();
+
+            // Then
+            assertThat(receiver.search(10L, "결제", 0, 10).getContent()).containsExactly(5L);
+            verify(redisTemplate, times(1)).convertAndSend(anyString(), anyString());
+        } finally {
+            sender.close();
+            receiver.close();
+        }
+    }
+
+    private IssueSearchService relayingNode(RedisTemplate<String, String> redisTemplate,
+                                            RedisMessageListenerContainer container,
+                                            ObjectMapper objectMapper) throws IOException {
+        IssueSearchService node = new IssueSearchService();
+        ReflectionTestUtils.setField(node, "indexPath", "");
+        ReflectionTestUtils.setField(node, "relayEnabled", true);
+        ReflectionTestUtils.setField(node, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(node, "redisMessageListenerContainer", container);
+        ReflectionTestUtils.setField(node, "objectMapper", objectMapper);
+        node.open();
+        return node;
+    }
+}
@@ -0,0 +1,295 @@
+package com.pms.service;
+
+import com.pms.TestDataFactory;
+import com.pms.dto.request.BatchCreateIssuesRequest;
+import com.pms.dto.request.BulkUpdateIssuesRequest;
+import com.pms.entity.Issue;
+import com.pms.entity.Label;
+import com.pms.entity.Notification;
+import com.pms.entity.Project;
+import com.pms.entity.User;
+import com.pms.repository.IssueRepository;
+import com.pms.repository.LabelRepository;
+import com.pms.repository.ProjectRepository;
+import com.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssueServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LabelRepository labelRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjectStatsService projectStatsService;
+
+    @Mock
+    private ActivityLogWriter activityLogWriter;
+
+    @Mock
+    private SubtaskRollupService subtaskRollupService;
+
+    @Mock
+    private IssuePositionRebalancer positionRebalancer;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private IssueService issueService;
+
+    private User reporter;
+    private Project project;
+    private Label bugLabel;
+    private Label uiLabel;
+
+    @BeforeEach
+    void setUp() {
+        reporter = TestDataFactory.createTestUser("reporter@example.com", "Reporter", passwordEncoder);
+        reporter.setId(1L);
+
+        project = TestDataFactory.createTestProject("Test Project", "TP", reporter);
+        project.setId(10L);
+
+        bugLabel = TestDataFactory.createTestLabel("bug", "#ff0000", project);
+        bugLabel.setId(100L);
+        uiLabel = TestDataFactory.createTestLabel("ui", "#0000ff", project);
+        uiLabel.setId(101L);
+    }
+
+    @Test
+    void 일괄_생성은_라벨을_한_번에_조회해_붙임() {
+        // Given
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(reporter));
+        when(labelRepository.findAllById(Set.of(100L, 101L))).thenReturn(List.of(bugLabel, uiLabel));
+
+        List<Issue> persisted = new ArrayList<>();
+        doAnswer(invocation -> persisted.add(invocation.getArgument(0))).when(entityManager).persist(any(Issue.class));
+
+        // When
+        issueService.createIssues(10L, 1L, List.of(item("첫 번째", Set.of(100L)), item("두 번째", Set.of(100L, 101L))));
+
+        // Then
+        assertThat(persisted).extracting(Issue::getTitle).containsExactly("첫 번째", "두 번째");
+        assertThat(persisted.get(0).getLabels()).containsExactly(bugLabel);
+        assertThat(persisted.get(1).getLabels()).containsExactlyInAnyOrder(bugLabel, uiLabel);
+        verify(labelRepository, never()).findById(any());
+        verify(projectStatsService).apply(eq(10L), any());
+    }
+
+    @Test
+    void 일괄_생성_중_하나라도_실패하면_전체를_거부() {
+        // Given - 두 번째 항목의 담당자가 없다
+        BatchCreateIssuesRequest.Item invalid = item("두 번째", null);
+        invalid.setAssigneeId(99L);
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+        when(userRepository.findAllById(Set.of(1L, 99L))).thenReturn(List.of(reporter));
+
+        // When & Then
+        assertThatThrownBy(() -> issueService.createIssues(10L, 1L, List.of(item("첫 번째", null), invalid)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Assignee not found: 99");
+        verify(projectStatsService, never()).apply(anyLong(), any());
+    }
+
+    @Test
+    void 다른_프로젝트_라벨이면_일괄_생성을_거부() {
+        // Given
+        Project other = TestDataFactory.createTestProject("Other", "OT", reporter);
+        other.setId(20L);
+        Label foreign = TestDataFactory.createTestLabel("foreign", "#000000", other);
+        foreign.setId(200L);
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(reporter));
+        when(labelRepository.findAllById(Set.of(200L))).thenReturn(List.of(foreign));
+
+        // When & Then
+        assertThatThrownBy(() -> issueService.createIssues(10L, 1L, List.of(item("첫 번째", Set.of(200L)))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Label not found: 200");
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void 일괄_생성은_담당자에게_배정_알림을_보냄() {
+        // Given
+        User assignee = TestDataFactory.createTestUser("assignee@example.com", "Assignee", passwordEncoder);
+        assignee.setId(2L);
+        BatchCreateIssuesRequest.Item assigned = item("배정됨", null);
+        assigned.setAssigneeId(2L);
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+        when(userRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(reporter, assignee));
+
+        // When
+        issueService.createIssues(10L, 1L, List.of(assigned, item("미배정", null)));
+
+        // Then
+        verify(notificationService).notifyUsers(eq(Notification.Type.ISSUE_ASSIGNED), eq(10L), eq("ISSUE"), any(),
+                eq("Issue assigned: 배정됨"), isNull(), eq(List.of(2L)));
+        verifyNoMoreInteractions(notificationService);
+    }
+
+    @Test
+    void 일괄_수정은_담당자_변경과_상태_변경을_알림() {
+        // Given - 1000 은 이미 같은 담당자, 1001 은 담당자가 바뀐다
+        User assignee = TestDataFactory.createTestUser("assignee@example.com", "Assignee", passwordEncoder);
+        assignee.setId(2L);
+        Issue first = issue(1000L);
+        first.setAssignee(assignee);
+        Issue second = issue(1001L);
+
+        BulkUpdateIssuesRequest request = new BulkUpdateIssuesRequest();
+        request.setIssueIds(List.of(1000L, 1001L));
+        request.setAssigneeId(2L);
+        request.setStatus(Issue.Status.DONE);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
+        when(issueRepository.findAllById(List.of(1000L, 1001L))).thenReturn(List.of(first, second));
+
+        // When
+        issueService.updateIssues(10L, request);
+
+        // Then
+        verify(notificationService).notifyUsers(eq(Notification.Type.ISSUE_ASSIGNED), eq(10L), eq("ISSUE"), eq(1001L),
+                anyString(), isNull(), eq(List.of(2L)));
+        verify(notificationService, times(2)).notifyUsers(eq(Notification.Type.ISSUE_STATUS_CHANGED), eq(10L), eq("ISSUE"),
+                anyLong(), anyString(), eq("TODO -> DONE"), anyCollection());
+        verifyNoMoreInteractions(notificationService);
+    }
+
+    @Test
+    void 일괄_수정의_라벨_변경은_라벨을_함께_조회한_이슈에_적용() {
+        // Given
+        Issue first = issue(1000L);
+        first.getLabels().add(bugLabel);
+        Issue second = issue(1001L);
+
+        BulkUpdateIssuesRequest request = new BulkUpdateIssuesRequest();
+        request.setIssueIds(List.of(1000L, 1001L));
+        request.setAddLabelIds(Set.of(101L));
+        request.setRemoveLabelIds(Set.of(100L));
+
+        when(labelRepository.findAllById(Set.of(101L))).thenReturn(List.of(uiLabel));
+        when(issueRepository.findAllWithLabelsByIdIn(List.of(1000L, 1001L))).thenReturn(List.of(first, second));
+
+        // When
+        int updated = issueService.updateIssues(10L, request);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(first.getLabels()).containsExactly(uiLabel);
+        assertThat(second.getLabels()).containsExactly(uiLabel);
+        verify(issueRepository, never()).findAllById(any());
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void 라벨_변경이_없으면_라벨을_조회하지_않음() {
+        // Given
+        Issue first = issue(1000L);
+        BulkUpdateIssuesRequest request = new BulkUpdateIssuesRequest();
+        request.setIssueIds(List.of(1000L));
+        request.setPriority(Issue.Priority.HIGH);
+        when(issueRepository.findAllById(List.of(1000L))).thenReturn(List.of(first));
+
+        // When
+        issueService.updateIssues(10L, request);
+
+        // Then
+        assertThat(first.getPriority()).isEqualTo(Issue.Priority.HIGH);
+        verify(issueRepository, never()).findAllWithLabelsByIdIn(any());
+    }
+
+    @Test
+    void 일괄_수정은_실제로_바뀐_이슈만_기록() {
+        // Given - 1000 은 이미 HIGH, 1001 만 바뀐다
+        Issue first = issue(1000L);
+        first.setPriority(Issue.Priority.HIGH);
+        Issue second = issue(1001L);
+        second.setPriority(Issue.Priority.LOW);
+
+        BulkUpdateIssuesRequest request = new BulkUpdateIssuesRequest();
+        request.setIssueIds(List.of(1000L, 1001L));
+        request.setPriority(Issue.Priority.HIGH);
+        when(issueRepository.findAllById(List.of(1000L, 1001L))).thenReturn(List.of(first, second));
+
+        // When
+        issueService.updateIssues(10L, request);
+
+        // Then
+        verify(activityLogWriter).record(eq("ISSUE_UPDATED"), eq(ActivityLogWriter.ENTITY_ISSUE), eq(1001L), eq(10L), isNull(), isNull());
+        verify(activityLogWriter, never()).record(anyString(), anyString(), eq(1000L), anyLong(), any(), any());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 일괄_수정_대상에_다른_프로젝트_이슈가_있으면_전체를_거부() {
+        // Given
+        Project other = TestDataFactory.createTestProject("Other", "OT", reporter);
+        other.setId(20L);
+        Issue mine = issue(1000L);
+        Issue foreign = TestDataFactory.createTestIssue("foreign", other, reporter);
+        foreign.setId(2000L);
+
+        BulkUpdateIssuesRequest request = new BulkUpdateIssuesRequest();
+        request.setIssueIds(List.of(1000L, 2000L, 3000L));
+        request.setStatus(Issue.Status.DONE);
+        when(issueRepository.findAllById(List.of(1000L, 2000L, 3000L))).thenReturn(List.of(mine, foreign));
+
+        // When & Then
+        assertThatThrownBy(() -> issueService.updateIssues(10L, request))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Issue not found: 2000");
+        verify(entityManager, never()).flush();
+        verify(projectStatsService, never()).apply(anyLong(), any());
+        verify(subtaskRollupService, never()).apply(anyMap());
+    }
+
+    private Issue issue(Long id) {
+        Issue issue = TestDataFactory.createTestIssue("이슈 " + id, project, reporter);
+        issue.setId(id);
+        return issue;
+    }
+
+    private static BatchCreateIssuesRequest.Item item(String title, Set<Long> labelIds) {
+        BatchCreateIssuesRequest.Item item = new BatchCreateIssuesRequest.Item();
+        item.setTitle(title);
+        item.setLabelIds(labelIds);
+        return item;
+    }
+}
@@ -0,0 +1,226 @@
+package com.pms.service;
+
+import com.pms.entity.Notification;
+import com.pms.entity.User;
+import com.pms.event.NotificationEvent;
+import com.pms.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final String COUNTER_KEY = "notification:unread:2";
+    private static final String WRITERS_KEY = "notification:unread:2:writers";
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationService, "unreadTtl", Duration.ofDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 변경한_사용자는_수신자에서_제외() {
+        // Given
+        User actor = new User();
+        actor.setId(1L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(actor, null));
+
+        // When
+        notificationService.notifyUsers(Notification.Type.ISSUE_STATUS_CHANGED, 10L, "ISSUE", 100L,
+                "Status changed", null, Arrays.asList(1L, 2L, null, 2L));
+
+        // Then
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().recipientIds()).containsExactly(2L);
+        assertThat(captor.getValue().actorId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 본인뿐이면_발행하지_않음() {
+        // Given
+        User actor = new User();
+        actor.setId(1L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(actor, null));
+
+        // When
+        notificationService.notifyUsers(Notification.Type.ISSUE_ASSIGNED, 10L, "ISSUE", 100L,
+                "Issue assigned", null, List.of(1L));
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void 안읽은_수는_Redis_카운터에서_읽음() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notification:unread:2")).thenReturn("7");
+
+        // When
+        long count = notificationService.getUnreadCount(2L);
+
+        // Then
+        assertThat(count).isEqualTo(7);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void 카운터가_없으면_DB에서_세어_채움() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(WRITERS_KEY, List.of("gen", "inflight"))).thenReturn(Arrays.asList("4", "0"));
+        when(notificationRepository.countUnread(2L)).thenReturn(3L);
+
+        // When
+        long count = notificationService.getUnreadCount(2L);
+
+        // Then - 세기 전에 읽은 gen 으로 조건부로 채운다
+        assertThat(count).isEqualTo(3);
+        verify(redisTemplate).execute(NotificationService.SEED_SCRIPT, List.of(WRITERS_KEY, COUNTER_KEY), "4", "3", "86400");
+    }
+
+    @Test
+    void 진행_중인_변경이_있으면_카운터를_채우지_않음() {
+        // Given - 커밋됐지만 아직 증가를 반영하지 않은 알림이 있다
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(WRITERS_KEY, List.of("gen", "inflight"))).thenReturn(Arrays.asList("5", "1"));
+        when(notificationRepository.countUnread(2L)).thenReturn(4L);
+
+        // When
+        long count = notificationService.getUnreadCount(2L);
+
+        // Then
+        assertThat(count).isEqualTo(4);
+        verify(redisTemplate, never()).execute(eq(NotificationService.SEED_SCRIPT), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 알림은_변경_표시를_남기고_INSERT_한_뒤_증가와_함께_거둔다() {
+        // Given
+        NotificationEvent event = new NotificationEvent(Notification.Type.ISSUE_ASSIGNED, 1L, 10L, "ISSUE", 100L,
+                "Issue assigned", null, new LinkedHashSet<>(List.of(2L)));
+
+        // When
+        notificationService.onNotification(event);
+
+        // Then
+        InOrder inOrder = inOrder(redisTemplate, jdbcTemplate);
+        inOrder.verify(redisTemplate).execute(NotificationService.BEGIN_CHANGE_SCRIPT, List.of(WRITERS_KEY), "300");
+        inOrder.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO notification"), anyList());
+        inOrder.verify(redisTemplate).execute(NotificationService.END_CHANGE_SCRIPT, List.of(WRITERS_KEY, COUNTER_KEY), "1", "300");
+    }
+
+    @Test
+    void 모두_읽음은_한번의_UPDATE_후_카운터를_지움() {
+        // Given
+        when(notificationRepository.markAllAsRead(eq(2L), any())).thenReturn(5);
+
+        // When
+        int updated = notificationService.markAllAsRead(2L);
+
+        // Then
+        assertThat(updated).isEqualTo(5);
+        verify(redisTemplate).execute(NotificationService.END_CHANGE_SCRIPT, List.of(WRITERS_KEY, COUNTER_KEY),
+                NotificationService.CHANGE_EVICT, "300");
+    }
+
+    @Test
+    void 읽음_처리가_롤백되면_표시만_거두고_카운터는_건드리지_않음() {
+        // Given
+        when(notificationRepository.markAsRead(eq(2L), eq(9L), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            notificationService.markAsRead(2L, 9L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verify(redisTemplate).execute(NotificationService.END_CHANGE_SCRIPT, List.of(WRITERS_KEY, COUNTER_KEY),
+                    NotificationService.CHANGE_NONE, "300");
+            verify(redisTemplate, never()).execute(NotificationService.END_CHANGE_SCRIPT, List.of(WRITERS_KEY, COUNTER_KEY),
+                    "-1", "300");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 읽음_처리는_커밋된_뒤에_카운터를_줄임() {
+        // Given
+        when(notificationRepository.markAsRead(eq(2L), eq(9L), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When - 표시는 UPDATE 전에 남기고, 감소는 커밋 뒤에 한다
+            notificationService.markAsRead(2L, 9L);
+            verify(redisTemplate).execute(NotificationService.BEGIN_CHANGE_SCRIPT, List.of(WRITERS_KEY), "300");
+            verify(redisTemplate, never()).execute(eq(NotificationService.END_CHANGE_SCRIPT), anyList(), any(Object[].class));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            verify(redisTemplate).execute(NotificationService.END_CHANGE_SCRIPT, List.of(WRITERS_KEY, COUNTER_KEY), "-1", "300");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
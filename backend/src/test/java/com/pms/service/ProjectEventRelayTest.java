@@ -0,0 +1,141 @@
+package com.pms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectEventRelayTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks
+    private ProjectEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(relay, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        relay.init();
+    }
+
+    @Test
+    void 첫_구독자가_생길때만_채널을_구독하고_마지막이_떠나면_해제() {
+        // Given - 두 세션이 같은 프로젝트를 구독
+        relay.onSubscribe(subscribe("s1", "sub-0", "/topic/projects/1/issues"));
+        relay.onSubscribe(subscribe("s2", "sub-0", "/topic/projects/1/issues"));
+
+        // When
+        relay.onDisconnect(disconnect("s1"));
+
+        // Then - 아직 s2 가 남아 있다
+        verify(redisMessageListenerContainer, times(1))
+                .addMessageListener(any(), eq(new ChannelTopic("ws:project:1")));
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        // When
+        relay.onDisconnect(disconnect("s2"));
+
+        // Then
+        verify(redisMessageListenerContainer).removeMessageListener(any(), eq(new ChannelTopic("ws:project:1")));
+        assertThat(relay.subscribedProjectCount()).isZero();
+    }
+
+    @Test
+    void 채널_구독과_해제는_전역_lock_밖에서_한다() {
+        // Given
+        Object lock = ReflectionTestUtils.getField(relay, "lock");
+        doAnswer(invocation -> {
+            assertThat(Thread.holdsLock(lock)).isFalse();
+            return null;
+        }).when(redisMessageListenerContainer).addMessageListener(any(), any(ChannelTopic.class));
+        doAnswer(invocation -> {
+            assertThat(Thread.holdsLock(lock)).isFalse();
+            return null;
+        }).when(redisMessageListenerContainer).removeMessageListener(any(), any(ChannelTopic.class));
+
+        // When
+        relay.onSubscribe(subscribe("s1", "sub-0", "/topic/projects/1/issues"));
+        relay.onDisconnect(disconnect("s1"));
+        relay.onSubscribe(subscribe("s2", "sub-0", "/topic/projects/1/issues"));
+
+        // Then - 구독 -> 해제 -> 재구독 순서가 유지된다
+        InOrder inOrder = inOrder(redisMessageListenerContainer);
+        inOrder.verify(redisMessageListenerContainer).addMessageListener(any(), eq(new ChannelTopic("ws:project:1")));
+        inOrder.verify(redisMessageListenerContainer).removeMessageListener(any(), eq(new ChannelTopic("ws:project:1")));
+        inOrder.verify(redisMessageListenerContainer).addMessageListener(any(), eq(new ChannelTopic("ws:project:1")));
+        assertThat(relay.subscribedProjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_구독을_다른_프로젝트로_바꾸면_이전_채널을_해제() {
+        // Given
+        relay.onSubscribe(subscribe("s1", "sub-0", "/topic/projects/1/issues"));
+
+        // When
+        relay.onSubscribe(subscribe("s1", "sub-0", "/topic/projects/2/issues"));
+
+        // Then
+        verify(redisMessageListenerContainer).removeMessageListener(any(), eq(new ChannelTopic("ws:project:1")));
+        verify(redisMessageListenerContainer).addMessageListener(any(), eq(new ChannelTopic("ws:project:2")));
+        assertThat(relay.subscribedProjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 발행은_로컬로_보내고_프로젝트_채널에_한번_중계() {
+        // When
+        relay.publish(1L, "/topic/projects/1/issues", Map.of("projectId", 1));
+
+        // Then
+        verify(messagingTemplate).convertAndSend(eq("/topic/projects/1/issues"), any(Object.class));
+        verify(redisTemplate).convertAndSend(eq("ws:project:1"), contains("|/topic/projects/1/issues|{\"projectId\":1}"));
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(new Object(), message);
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionDisconnectEvent(new Object(), message, sessionId, CloseStatus.NORMAL);
+    }
+}
@@ -4,6 +4,7 @@ import com.pms.TestDataFactory;
 import com.pms.entity.Project;
 import com.pms.entity.ProjectMember;
 import com.pms.entity.User;
+import com.pms.repository.ProjectMemberRepository;
 import com.pms.repository.ProjectRepository;
 import com.pms.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,9 +38,21 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ProjectMembershipCache membershipCache;
+
+    @Mock
+    private ProjectStatsService projectStatsService;
+
+    @Mock
+    private ActivityLogWriter activityLogWriter;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -85,6 +99,7 @@ class ProjectServiceTest {
         verify(projectRepository).existsByKey(key);
         verify(userRepository).findById(ownerId);
         verify(projectRepository, times(2)).save(any(Project.class)); // 한번은 프로젝트, 한번은 멤버 추가 후
+        verify(projectStatsService).initialize(testProject.getId(), 1);
     }
 
     @Test
@@ -204,6 +219,9 @@ class ProjectServiceTest {
         verify(projectRepository).findById(projectId);
         verify(userRepository).findById(userId);
         verify(projectRepository).save(testProject);
+        verify(projectStatsService).membersChanged(projectId, 1);
+        verify(membershipCache).put(userId, projectId, role);
+        verify(activityLogWriter).record("MEMBER_ADDED", ActivityLogWriter.ENTITY_PROJECT_MEMBER, userId, projectId, null, role);
     }
 
     @Test
@@ -245,6 +263,10 @@ class ProjectServiceTest {
         // Then
         verify(projectRepository).findById(projectId);
         verify(projectRepository).save(testProject);
+        verify(projectStatsService).membersChanged(projectId, -1);
+        verify(membershipCache).evict(userId, projectId);
+        verify(activityLogWriter).record("MEMBER_REMOVED", ActivityLogWriter.ENTITY_PROJECT_MEMBER, userId, projectId,
+                ProjectMember.Role.DEVELOPER, null);
     }
 
     @Test
@@ -272,17 +294,15 @@ class ProjectServiceTest {
         Long userId = 1L;
         Long projectId = 1L;
         
-        ProjectMember membership = TestDataFactory.createTestProjectMember(testProject, owner, ProjectMember.Role.OWNER);
-        testProject.addMember(membership);
-        
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(membershipCache.isMember(userId, projectId)).thenReturn(true);
 
         // When
         boolean result = projectService.isUserMemberOfProject(userId, projectId);
 
         // Then
         assertTrue(result);
-        verify(projectRepository).findById(projectId);
+        verify(membershipCache).isMember(userId, projectId);
+        verify(projectRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -291,17 +311,27 @@ class ProjectServiceTest {
         Long userId = 1L;
         Long projectId = 1L;
         
-        ProjectMember membership = TestDataFactory.createTestProjectMember(testProject, owner, ProjectMember.Role.OWNER);
-        testProject.addMember(membership);
-        
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(membershipCache.getRole(userId, projectId)).thenReturn(ProjectMember.Role.OWNER);
 
         // When
         ProjectMember.Role result = projectService.getUserRoleInProject(userId, projectId);
 
         // Then
         assertThat(result).isEqualTo(ProjectMember.Role.OWNER);
-        verify(projectRepository).findById(projectId);
+        verify(projectRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void 사용자_프로젝트_역할_확인() {
+        // Given
+        Long userId = 2L;
+        Long projectId = 1L;
+        
+        when(membershipCache.getRole(userId, projectId)).thenReturn(ProjectMember.Role.DEVELOPER);
+
+        // When & Then
+        assertTrue(projectService.hasProjectRole(userId, projectId, "OWNER", "ADMIN", "DEVELOPER"));
+        assertFalse(projectService.hasProjectRole(userId, projectId, "OWNER", "ADMIN"));
     }
 
     @Test
@@ -325,6 +355,8 @@ class ProjectServiceTest {
     void 프로젝트_삭제_처리() {
         // Given
         Long projectId = 1L;
+        testProject.addMember(TestDataFactory.createTestProjectMember(testProject, owner, ProjectMember.Role.OWNER));
+        testProject.addMember(TestDataFactory.createTestProjectMember(testProject, member, ProjectMember.Role.DEVELOPER));
         
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
         when(projectRepository.save(testProject)).thenReturn(testProject);
@@ -336,5 +368,30 @@ class ProjectServiceTest {
         assertThat(testProject.getStatus()).isEqualTo(Project.Status.DELETED);
         verify(projectRepository).findById(projectId);
         verify(projectRepository).save(testProject);
+        verify(membershipCache).evict(1L, projectId);
+        verify(membershipCache).evict(2L, projectId);
+    }
+
+    @Test
+    void 응답용_멤버는_한_번의_조회로_프로젝트별로_묶음() {
+        // Given
+        Project otherProject = TestDataFactory.createTestProject("Other Project", "OP", owner);
+        otherProject.setId(2L);
+        ProjectMember ownerMember = new ProjectMember(testProject, owner, ProjectMember.Role.OWNER);
+        ProjectMember developer = new ProjectMember(testProject, member, ProjectMember.Role.DEVELOPER);
+        ProjectMember otherOwner = new ProjectMember(otherProject, owner, ProjectMember.Role.OWNER);
+        ownerMember.setId(10L);
+        developer.setId(11L);
+        otherOwner.setId(12L);
+        when(projectMemberRepository.findWithUserByProjectIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(ownerMember, developer, otherOwner));
+
+        // When
+        Map<Long, List<ProjectMember>> members = projectService.getProjectMembers(List.of(1L, 2L));
+
+        // Then
+        assertThat(members.get(1L)).containsExactly(ownerMember, developer);
+        assertThat(members.get(2L)).containsExactly(otherOwner);
+        verify(projectMemberRepository, times(1)).findWithUserByProjectIdIn(any());
     }
-} 
\ No newline at end of file
+}
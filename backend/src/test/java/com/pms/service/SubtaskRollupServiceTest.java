@@ -0,0 +1,134 @@
+package com.pms.service;
+
+import com.pms.entity.Issue;
+import com.pms.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubtaskRollupServiceTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SubtaskRollupService subtaskRollupService;
+
+    private Issue parent;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(subtaskRollupService, "repairBatchSize", 100);
+        parent = new Issue();
+        parent.setId(1L);
+    }
+
+    @Test
+    void 서브태스크_완료는_완료_수와_완료_포인트만_올림() {
+        // Given
+        Issue subtask = subtask(Issue.Status.DONE, new BigDecimal("3"));
+
+        // When
+        subtaskRollupService.subtaskChanged(subtask, Issue.Status.IN_PROGRESS, new BigDecimal("3"));
+
+        // Then
+        verify(issueRepository).adjustSubtaskRollup(eq(1L), eq(0), eq(1),
+                argThat(points -> points.signum() == 0), argThat(points -> points.compareTo(new BigDecimal("3")) == 0));
+    }
+
+    @Test
+    void 완료된_서브태스크_삭제는_모든_집계에서_뺌() {
+        // Given
+        Issue subtask = subtask(Issue.Status.CLOSED, new BigDecimal("2"));
+
+        // When
+        subtaskRollupService.subtaskRemoved(subtask);
+
+        // Then
+        verify(issueRepository).adjustSubtaskRollup(eq(1L), eq(-1), eq(-1),
+                argThat(points -> points.compareTo(new BigDecimal("-2")) == 0),
+                argThat(points -> points.compareTo(new BigDecimal("-2")) == 0));
+    }
+
+    @Test
+    void 상태와_포인트가_그대로면_갱신하지_않음() {
+        // Given - 제목만 바뀐 수정
+        Issue subtask = subtask(Issue.Status.TODO, null);
+
+        // When
+        subtaskRollupService.subtaskChanged(subtask, Issue.Status.TODO, null);
+
+        // Then
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    void 부모가_없는_이슈는_무시() {
+        // Given
+        Issue issue = new Issue();
+        issue.setStatus(Issue.Status.DONE);
+
+        // When
+        subtaskRollupService.subtaskAdded(issue);
+
+        // Then
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    void 일괄_증감은_부모별로_한_번씩_반영() {
+        // Given - 같은 부모의 두 서브태스크가 완료로 이동
+        SubtaskRollupService.Delta delta = new SubtaskRollupService.Delta()
+                .changed(Issue.Status.TODO, null, Issue.Status.DONE, null)
+                .changed(Issue.Status.TODO, null, Issue.Status.DONE, null);
+
+        // When
+        subtaskRollupService.apply(Map.of(1L, delta));
+
+        // Then
+        verify(issueRepository, times(1)).adjustSubtaskRollup(eq(1L), eq(0), eq(2), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 어긋난_집계는_읽은_값이_그대로일_때만_고침() {
+        // Given - 두 부모가 어긋났고 그중 하나는 그 사이 증감이 끼어들었다
+        List<Object[]> drifted = List.of(
+                new Object[] { 2, 1, BigDecimal.ZERO, BigDecimal.ZERO, 1L, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO },
+                new Object[] { 1, 0, BigDecimal.ZERO, BigDecimal.ZERO, 2L, 3, 0, BigDecimal.ZERO, BigDecimal.ZERO });
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(100))).thenReturn(drifted);
+        when(jdbcTemplate.batchUpdate(anyString(), eq(drifted))).thenReturn(new int[] { 1, 0 });
+
+        // When
+        int repaired = subtaskRollupService.repairDrifted();
+
+        // Then
+        assertThat(repaired).isEqualTo(1);
+    }
+
+    private Issue subtask(Issue.Status status, BigDecimal storyPoints) {
+        Issue subtask = new Issue();
+        subtask.setParentIssue(parent);
+        subtask.setStatus(status);
+        subtask.setStoryPoints(storyPoints);
+        return subtask;
+    }
+}
@@ -0,0 +1,127 @@
+package com.pms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private AttachmentBlobStore blobStore;
+    private ThumbnailService thumbnailService;
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = new AttachmentBlobStore();
+        ReflectionTestUtils.setField(blobStore, "uploadDir", uploadDir.toString());
+        blobStore.init();
+
+        thumbnailService = new ThumbnailService();
+        ReflectionTestUtils.setField(thumbnailService, "blobStore", blobStore);
+        ReflectionTestUtils.setField(thumbnailService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(thumbnailService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(thumbnailService, "sizes", List.of(64, 256));
+        ReflectionTestUtils.setField(thumbnailService, "maxSourcePixels", 50_000_000L);
+    }
+
+    @Test
+    void 설정된_크기별로_원본_옆에_썸네일을_만듦() throws Exception {
+        // Given - 800x400 PNG
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_ARGB), "png", png);
+        AttachmentBlobStore.StagedFile staged = blobStore.stage(new ByteArrayInputStream(png.toByteArray()));
+        blobStore.publish(staged);
+
+        // When
+        thumbnailService.generate(staged.hash());
+
+        // Then - 긴 변 기준으로 비율을 유지한다
+        BufferedImage small = ImageIO.read(blobStore.thumbnailPath(staged.hash(), 64).toFile());
+        BufferedImage medium = ImageIO.read(blobStore.thumbnailPath(staged.hash(), 256).toFile());
+        assertThat(small.getWidth()).isEqualTo(64);
+        assertThat(small.getHeight()).isEqualTo(32);
+        assertThat(medium.getWidth()).isEqualTo(256);
+        assertThat(medium.getHeight()).isEqualTo(128);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void 읽을_수_없는_이미지는_UNSUPPORTED_로_표시() throws Exception {
+        // Given - image/png 로 올라왔지만 내용은 이미지가 아님
+        AttachmentBlobStore.StagedFile staged = blobStore.stage(new ByteArrayInputStream("not an image".getBytes()));
+        blobStore.publish(staged);
+
+        // When
+        thumbnailService.generate(staged.hash());
+
+        // Then
+        verify(jdbcTemplate).update(contains("SET thumbnail_status = ?"), eq("UNSUPPORTED"), eq(staged.hash()));
+        assertThat(blobStore.thumbnailPath(staged.hash(), 64)).doesNotExist();
+    }
+
+    @Test
+    void 너무_큰_원본은_FAILED_로_표시() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(thumbnailService, "maxSourcePixels", 100L);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+        AttachmentBlobStore.StagedFile staged = blobStore.stage(new ByteArrayInputStream(png.toByteArray()));
+        blobStore.publish(staged);
+
+        // When
+        thumbnailService.generate(staged.hash());
+
+        // Then
+        verify(jdbcTemplate).update(contains("SET thumbnail_status = ?"), eq("FAILED"), eq(staged.hash()));
+    }
+
+    @Test
+    void ImageIO_가_읽을_수_있는_형식만_썸네일_대상() {
+        assertThat(ThumbnailService.isThumbnailable("image/png")).isTrue();
+        assertThat(ThumbnailService.isThumbnailable("IMAGE/JPEG; charset=binary")).isTrue();
+        assertThat(ThumbnailService.isThumbnailable("image/svg+xml")).isFalse();
+        assertThat(ThumbnailService.isThumbnailable("image/heic")).isFalse();
+        assertThat(ThumbnailService.isThumbnailable(null)).isFalse();
+    }
+
+    @Test
+    void 원본을_지우면_썸네일도_지움() throws Exception {
+        // Given
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+        AttachmentBlobStore.StagedFile staged = blobStore.stage(new ByteArrayInputStream(png.toByteArray()));
+        blobStore.publish(staged);
+        thumbnailService.generate(staged.hash());
+
+        // When
+        blobStore.delete(staged.hash());
+
+        // Then
+        assertThat(blobStore.blobPath(staged.hash())).doesNotExist();
+        assertThat(blobStore.thumbnailPath(staged.hash(), 64)).doesNotExist();
+    }
+
+    @Test
+    void 요청_크기는_그_이상인_가장_작은_설정_크기로() {
+        assertThat(thumbnailService.resolveSize(10)).isEqualTo(64);
+        assertThat(thumbnailService.resolveSize(100)).isEqualTo(256);
+        assertThat(thumbnailService.resolveSize(4000)).isEqualTo(256);
+    }
+}